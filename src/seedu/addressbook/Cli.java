@@ -0,0 +1,235 @@
+package seedu.addressbook;
+
+import static seedu.addressbook.common.Messages.MESSAGE_PROGRAM_LAUNCH_ARGS_USAGE;
+import static seedu.addressbook.common.Messages.MESSAGE_USING_STORAGE_FILE;
+import static seedu.addressbook.common.Messages.MESSAGE_WELCOME;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+
+import seedu.addressbook.commands.CommandResult;
+import seedu.addressbook.commands.ExitCommand;
+import seedu.addressbook.logic.BatchResult;
+import seedu.addressbook.logic.Logic;
+import seedu.addressbook.server.ApiServer;
+import seedu.addressbook.ui.Formatter;
+
+/**
+ * Entry point that runs League Tracker in a terminal without starting JavaFX, so that it starts quickly and
+ * can run where there is no display, e.g. in containers and cron jobs.
+ *
+ * Commands given with {@link #ARG_EXEC} or {@link #ARG_SCRIPT} are run as one batch, after which the program exits.
+ * With {@link #ARG_SERVE}, the data is served over HTTP instead, until the program is stopped.
+ * Otherwise commands are read from standard input and run one at a time, as in the GUI, until {@code exit}.
+ * All other launch arguments are the same as for {@link Main}.
+ */
+public class Cli {
+
+    /** Launch argument giving a command to run, e.g. {@code "--exec=listteam"}. It may be given more than once. */
+    public static final String ARG_EXEC = "--exec";
+
+    /**
+     * Launch argument that runs the commands in a file, one per line, e.g. {@code --script=nightly.txt}.
+     * Given alone, or as {@code --script=-}, it reads the commands from standard input instead.
+     */
+    public static final String ARG_SCRIPT = "--script";
+
+    /**
+     * Launch argument that serves the data over HTTP, on the given port of this machine only, until the program
+     * is stopped, e.g. {@code --serve=8080}. Without a port, {@link ApiServer#DEFAULT_PORT} is used.
+     */
+    public static final String ARG_SERVE = "--serve";
+
+    public static final String PROMPT = "> ";
+
+    public static final String MESSAGE_SERVING =
+            "Serving League Tracker at http://localhost:%1$d" + ApiServer.PATH_PREFIX;
+
+    /** Exit status when every command succeeded, when any of them failed, and when they could not be run. */
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_COMMAND_FAILED = 1;
+    public static final int EXIT_ERROR = 2;
+
+    private final Formatter formatter = new Formatter();
+    private final InputStream in;
+    private final PrintStream out;
+
+    public Cli(PrintStream out) {
+        this(System.in, out);
+    }
+
+    /**
+     * @param in where commands are read from when there are none in the launch arguments
+     */
+    public Cli(InputStream in, PrintStream out) {
+        this.in = in;
+        this.out = out;
+    }
+
+    public static void main(String[] args) {
+        System.exit(new Cli(System.out).run(Arrays.asList(args)));
+    }
+
+    /**
+     * Runs League Tracker with the given launch arguments.
+     *
+     * @return the exit status
+     */
+    public int run(List<String> launchArgs) {
+        final List<String> execCommands = launchArgs.stream()
+                .filter(arg -> arg.startsWith(ARG_EXEC + "="))
+                .map(arg -> arg.substring(ARG_EXEC.length() + 1))
+                .collect(Collectors.toList());
+        final Optional<String> scriptArg = launchArgs.stream()
+                .filter(arg -> isOption(arg, ARG_SCRIPT) || isOption(arg, Main.ARG_BATCH))
+                .findFirst();
+        final Optional<String> serveArg = launchArgs.stream()
+                .filter(arg -> isOption(arg, ARG_SERVE))
+                .findFirst();
+        try {
+            if (serveArg.isPresent()) {
+                return runServer(launchArgs, serveArg.get());
+            }
+            if (!execCommands.isEmpty()) {
+                return runBatch(launchArgs, execCommands);
+            }
+            if (scriptArg.isPresent()) {
+                return runBatch(launchArgs, readScript(scriptArg.get()));
+            }
+            return runInteractive(launchArgs);
+        } catch (Exception e) {
+            out.println("Could not run League Tracker: " + e.getMessage());
+            return EXIT_ERROR;
+        }
+    }
+
+    /**
+     * Runs the given commands as one batch, printing the result of each of them.
+     *
+     * @return {@link #EXIT_SUCCESS} if every command succeeded, or else {@link #EXIT_COMMAND_FAILED}
+     * @throws Exception if the data could not be loaded or saved
+     */
+    public int runBatch(List<String> launchArgs, List<String> commandLines) throws Exception {
+        final BatchResult batch = new Logic(launchArgs).executeBatch(commandLines);
+        for (BatchResult.Entry entry : batch.getEntries()) {
+            out.println((entry.isFailed ? "FAILED " : "") + "line " + entry.lineNumber + ": " + entry.commandText);
+            display(entry.result);
+        }
+        out.println("Ran " + batch.getEntries().size() + " commands, " + batch.getFailureCount() + " failed");
+        return batch.getFailureCount() == 0 ? EXIT_SUCCESS : EXIT_COMMAND_FAILED;
+    }
+
+    /**
+     * Reads commands from standard input and runs them one at a time until {@code exit} or the end of input.
+     * A command that fails is reported, and does not stop the commands after it.
+     *
+     * @return {@link #EXIT_SUCCESS}
+     * @throws Exception if the data could not be loaded or saved
+     */
+    private int runInteractive(List<String> launchArgs) throws Exception {
+        final Logic logic = new Logic(launchArgs);
+        out.println(formatter.format(MESSAGE_WELCOME, Main.VERSION, MESSAGE_PROGRAM_LAUNCH_ARGS_USAGE,
+                String.format(MESSAGE_USING_STORAGE_FILE, logic.getStorageFilePath())));
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        while (true) {
+            out.print(PROMPT);
+            out.flush();
+            final String line = reader.readLine();
+            if (line == null) {
+                break;
+            }
+            if (line.trim().isEmpty()) {
+                continue;
+            }
+            final CommandResult result;
+            try {
+                result = logic.execute(line);
+            } catch (Exception e) {
+                out.println(String.format(Logic.MESSAGE_COMMAND_FAILED, e.getMessage()));
+                continue;
+            }
+            display(result);
+            if (result.feedbackToUser.equals(ExitCommand.MESSAGE_EXIT_ACKNOWEDGEMENT)) {
+                break;
+            }
+        }
+        logic.flush();
+        return EXIT_SUCCESS;
+    }
+
+    /**
+     * Serves the data over HTTP until the program is stopped, saving everything before it exits.
+     *
+     * @throws Exception if the data could not be loaded or the port could not be bound
+     */
+    private int runServer(List<String> launchArgs, String serveArg) throws Exception {
+        final ApiServer server = new ApiServer(new Logic(launchArgs), parsePort(serveArg));
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                server.stop();
+            } catch (Exception e) {
+                System.err.println("Could not save League Tracker: " + e.getMessage());
+            }
+        }));
+        server.start();
+        out.println(String.format(MESSAGE_SERVING, server.getPort()));
+        // the server runs on its own threads; this one only waits for the program to be stopped
+        new CountDownLatch(1).await();
+        return EXIT_SUCCESS;
+    }
+
+    /**
+     * Returns the port given in the {@link #ARG_SERVE} launch argument, or the default if none or an invalid one
+     * is given.
+     */
+    private static int parsePort(String serveArg) {
+        try {
+            return Integer.parseInt(serveArg.substring((ARG_SERVE + "=").length()));
+        } catch (IndexOutOfBoundsException | NumberFormatException e) {
+            return ApiServer.DEFAULT_PORT;
+        }
+    }
+
+    /**
+     * Returns true if {@code arg} is the given option, alone or followed by "=" and a value.
+     */
+    private static boolean isOption(String arg, String option) {
+        return arg.equals(option) || arg.startsWith(option + "=");
+    }
+
+    /**
+     * Returns the lines of the script named by {@code scriptArg}, or of standard input if it names none.
+     */
+    private List<String> readScript(String scriptArg) throws IOException {
+        final int valueStart = scriptArg.indexOf('=');
+        final String path = valueStart < 0 ? "-" : scriptArg.substring(valueStart + 1);
+        if (path.equals("-")) {
+            return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))
+                    .lines()
+                    .collect(Collectors.toList());
+        }
+        return Files.readAllLines(Paths.get(path), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Prints the result of a command the way the GUI shows it.
+     */
+    private void display(CommandResult result) {
+        result.getRelevantPlayers().ifPresent(players -> out.println(formatter.formatPersonResult(players)));
+        result.getRelevantTeams().ifPresent(teams -> out.println(formatter.formatTeamResult(teams)));
+        result.getRelevantMatches().ifPresent(matches -> out.println(formatter.formatMatchResult(matches)));
+        result.getRelevantFinances().ifPresent(finances -> out.println(formatter.formatFinanceResult(finances)));
+        out.println(result.feedbackToUser);
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.addressbook;
 
+import java.util.Arrays;
+
 import javafx.application.Application;
 import javafx.application.Platform;
 import javafx.stage.Stage;
@@ -16,22 +18,41 @@ public class Main extends Application implements Stoppable {
     /** Version info of the program. */
     public static final String VERSION = "League Tracker - Version 1.4";
 
+    /**
+     * Launch argument that runs commands without the GUI. It may be followed by "=" and the path of a file of
+     * commands, one per line, e.g. {@code --batch=nightly.txt}; otherwise the commands are read from standard input.
+     * It is the same as {@link Cli#ARG_SCRIPT}.
+     */
+    public static final String ARG_BATCH = "--batch";
+
     private Gui gui;
+    private Logic logic;
 
     @Override
     public void start(Stage primaryStage) throws Exception {
-        gui = new Gui(new Logic(), VERSION);
+        logic = new Logic(getParameters().getRaw());
+        gui = new Gui(logic, VERSION);
         gui.start(primaryStage, this);
     }
 
     @Override
     public void stop() throws Exception {
         super.stop();
+        if (logic != null) {
+            logic.flush();
+        }
         Platform.exit();
         System.exit(0);
     }
 
+    /**
+     * Runs the commands given with {@link #ARG_BATCH} in the terminal, if that argument is given,
+     * and otherwise launches the GUI.
+     */
     public static void main(String[] args) {
+        if (Arrays.stream(args).anyMatch(arg -> arg.equals(ARG_BATCH) || arg.startsWith(ARG_BATCH + "="))) {
+            System.exit(new Cli(System.out).run(Arrays.asList(args)));
+        }
         launch(args);
     }
 }
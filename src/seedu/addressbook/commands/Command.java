@@ -5,6 +5,7 @@ import static seedu.addressbook.ui.Gui.DISPLAYED_INDEX_OFFSET;
 import java.util.List;
 
 import seedu.addressbook.common.Messages;
+import seedu.addressbook.common.ProgressListener;
 import seedu.addressbook.data.AddressBook;
 import seedu.addressbook.data.finance.ReadOnlyFinance;
 import seedu.addressbook.data.match.ReadOnlyMatch;
@@ -21,6 +22,7 @@ public abstract class Command {
     protected List<? extends ReadOnlyMatch> relevantMatches;
     protected List<? extends ReadOnlyTeam> relevantTeams;
     protected List<? extends ReadOnlyFinance> relevantFinances;
+    protected ProgressListener progressListener = ProgressListener.NONE;
 
     private int targetIndex = -1;
 
@@ -69,6 +71,14 @@ public abstract class Command {
         throw new UnsupportedOperationException("This method should be implement in child classes");
     }
 
+    /**
+     * Returns true if the command only reads the data but may take long on a big league, so that it is better
+     * run in the background, on a snapshot of the data, than while the user waits.
+     */
+    public boolean runsInBackground() {
+        return false;
+    }
+
     //Note: it is better to make the execute() method abstract, by replacing the above method with the line below:
     //public abstract CommandResult execute();
 
@@ -88,6 +98,13 @@ public abstract class Command {
         this.relevantFinances = relevantFinances;
     }
 
+    /**
+     * Sets the listener to be told how far the command has got, if it reports its progress.
+     */
+    public void setProgressListener(ProgressListener progressListener) {
+        this.progressListener = progressListener;
+    }
+
     /**
      * Extracts the the target player in the last shown list from the given arguments.
      *
@@ -23,8 +23,15 @@ public class DataAnalysisCommand extends Command {
             + "Data Analysis Report in League Tracker generated at %1$s \n"
             + "\n" + "%2$s";
 
+    /** Sections of the report, each of which counts as one step of progress. */
+    private static final int REPORT_SECTIONS = 4;
 
 
+    @Override
+    public boolean runsInBackground() {
+        return true;
+    }
+
     @Override
     public CommandResult execute() {
         List<ReadOnlyPlayer> allPlayers = addressBook.getAllPlayers().immutableListView();
@@ -49,6 +56,7 @@ public class DataAnalysisCommand extends Command {
         }
 
         builder.append(leagueTrackerInfo);
+        progressListener.onProgress(1, REPORT_SECTIONS);
 
         //get top scorer(s) in the league
         if (allPlayers.isEmpty()) {
@@ -59,6 +67,7 @@ public class DataAnalysisCommand extends Command {
 
         topScorer = "\n* Golden Boot :\n" + topScorer + "\n";
         builder.append(topScorer);
+        progressListener.onProgress(2, REPORT_SECTIONS);
 
         //get top scorer(s) in each team
         if (allPlayers.isEmpty() || allTeams.isEmpty()) {
@@ -69,11 +78,13 @@ public class DataAnalysisCommand extends Command {
 
         topScorerEachTeam = "\n* List of Top Scorers in each team :\n" + topScorerEachTeam + "\n";
         builder.append(topScorerEachTeam);
+        progressListener.onProgress(3, REPORT_SECTIONS);
 
         //get transfer records
         transferRecord = "\n* Records of all player transfers processed by League Tracker :\n"
                 + generateTransferRecord();
         builder.append(transferRecord);
+        progressListener.onProgress(4, REPORT_SECTIONS);
 
         return new CommandResult(String.format(MESSAGE_SUCCESS, dtf.format(now), builder.toString()));
 
@@ -91,11 +102,7 @@ public class DataAnalysisCommand extends Command {
         int currentGoals = -1;
 
         for (ReadOnlyPlayer player : allPlayers) {
-            try {
-                currentGoals = Integer.parseInt(player.getGoalsScored().toString());
-            } catch (NumberFormatException nfe) {
-                System.out.println("invalid goals Scored detected");
-            }
+            currentGoals = player.getGoalsScored().getGoals();
 
             if (currentGoals > highestGoals) {
                 highestGoals = currentGoals;
@@ -128,11 +135,7 @@ public class DataAnalysisCommand extends Command {
         int currentGoals = -1;
 
         for (ReadOnlyPlayer player : allPlayers) {
-            try {
-                currentGoals = Integer.parseInt(player.getGoalsScored().toString());
-            } catch (NumberFormatException nfe) {
-                System.out.println("invalid goals Scored detected");
-            }
+            currentGoals = player.getGoalsScored().getGoals();
 
             if (currentGoals > highestGoals) {
                 highestGoals = currentGoals;
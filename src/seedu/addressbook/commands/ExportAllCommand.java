@@ -0,0 +1,62 @@
+package seedu.addressbook.commands;
+
+import seedu.addressbook.commands.player.ExportPlayerCommand;
+import seedu.addressbook.data.finance.UniqueFinanceList;
+import seedu.addressbook.export.LeagueApachePoiWriter;
+
+/**
+ * Exports all players, teams, matches and finances in the league tracker to one Excel file, a sheet for each.
+ */
+public class ExportAllCommand extends Command {
+
+    public static final String COMMAND_WORD = "exportAll";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + " [" + ExportPlayerCommand.OPTION_TOTALS + "]\n"
+            + "This Command will export all players, teams, matches and finance records in the league tracker \n"
+            + "to one Excel file, with a sheet for each of them. \n"
+            + "With '" + ExportPlayerCommand.OPTION_TOTALS + "', the player totals of each team are exported to "
+            + "a sheet of their own. \n"
+            + "For now, the output path has been hard-coded to be 'exported_league_record.xlsx'. \n"
+            + "Every exportAll Command will overwrite the excel file if it already exists \n";
+
+    public static final String MESSAGE_SUCCESS = "All league records are successfully exported";
+    public static final String MESSAGE_DFE = "Duplicated finance records created...";
+
+    private final boolean withTotals;
+
+    public ExportAllCommand() {
+        this(false);
+    }
+
+    /**
+     * @param withTotals true to also export the player totals of each team
+     */
+    public ExportAllCommand(boolean withTotals) {
+        this.withTotals = withTotals;
+    }
+
+    public boolean isWithTotals() {
+        return withTotals;
+    }
+
+    @Override
+    public boolean runsInBackground() {
+        return true;
+    }
+
+    @Override
+    public CommandResult execute() {
+        try {
+            addressBook.refreshFinance();
+        } catch (UniqueFinanceList.DuplicateFinanceException dfe) {
+            return new CommandResult(MESSAGE_DFE);
+        }
+        new LeagueApachePoiWriter(addressBook.getAllPlayers().immutableListView(),
+                addressBook.getAllTeams().immutableListView(),
+                addressBook.getAllMatches().immutableListView(),
+                addressBook.getAllFinances().immutableListView(),
+                withTotals)
+                .write(progressListener);
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.addressbook.commands;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.addressbook.data.finance.UniqueFinanceList;
+import seedu.addressbook.export.ExportTable;
+import seedu.addressbook.export.TextTableWriter;
+import seedu.addressbook.export.TextTableWriter.UnsupportedFileException;
+
+/**
+ * Exports the players, teams, matches or finances in the league tracker to a CSV or JSON Lines file,
+ * e.g. to be loaded into other tools.
+ */
+public class ExportDataCommand extends Command {
+
+    public static final String COMMAND_WORD = "exportData";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ":\n"
+            + "Exports all players, teams, matches or finance records to a CSV (.csv) or JSON Lines (.jsonl) file. "
+            + "A file name ending in .gz, e.g. players.csv.gz, is compressed with gzip. "
+            + "The file is overwritten if it already exists.\n"
+            + "Parameters: players|teams|matches|finances FILE_PATH\n\t"
+            + "Example: " + COMMAND_WORD + " players players.csv\n";
+
+    public static final String MESSAGE_SUCCESS = "Exported %1$d %2$s to %3$s";
+    public static final String MESSAGE_UNKNOWN_KIND = "Cannot export %1$s; choose players, teams, matches or finances";
+    public static final String MESSAGE_NOT_EXPORTED = "Nothing was exported: %1$s";
+    public static final String MESSAGE_WRITE_ERROR = "Could not write %1$s";
+    public static final String MESSAGE_DFE = "Duplicated finance records created...";
+
+    public static final String KIND_PLAYERS = "players";
+    public static final String KIND_TEAMS = "teams";
+    public static final String KIND_MATCHES = "matches";
+    public static final String KIND_FINANCES = "finances";
+
+    private final String kind;
+    private final Path path;
+
+    public ExportDataCommand(String kind, String filePath) {
+        this.kind = kind;
+        this.path = Paths.get(filePath);
+    }
+
+    public String getKind() {
+        return kind;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    @Override
+    public boolean runsInBackground() {
+        return true;
+    }
+
+    @Override
+    public CommandResult execute() {
+        final int rows;
+        try {
+            switch (kind) {
+            case KIND_PLAYERS:
+                rows = TextTableWriter.write(path, ExportTable.PLAYERS, addressBook.getAllPlayers(),
+                        addressBook.getAllPlayers().immutableListView().size(), progressListener);
+                break;
+            case KIND_TEAMS:
+                rows = TextTableWriter.write(path, ExportTable.TEAMS, addressBook.getAllTeams(),
+                        addressBook.getAllTeams().immutableListView().size(), progressListener);
+                break;
+            case KIND_MATCHES:
+                rows = TextTableWriter.write(path, ExportTable.MATCHES, addressBook.getAllMatches(),
+                        addressBook.getAllMatches().immutableListView().size(), progressListener);
+                break;
+            case KIND_FINANCES:
+                addressBook.refreshFinance();
+                rows = TextTableWriter.write(path, ExportTable.FINANCES, addressBook.getAllFinances(),
+                        addressBook.getAllFinances().immutableListView().size(), progressListener);
+                break;
+            default:
+                return new CommandResult(String.format(MESSAGE_UNKNOWN_KIND, kind));
+            }
+        } catch (UnsupportedFileException ufe) {
+            return new CommandResult(String.format(MESSAGE_NOT_EXPORTED, ufe.getMessage()));
+        } catch (IOException ioe) {
+            return new CommandResult(String.format(MESSAGE_WRITE_ERROR, path));
+        } catch (UniqueFinanceList.DuplicateFinanceException dfe) {
+            return new CommandResult(MESSAGE_DFE);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, rows, kind, path));
+    }
+}
@@ -169,7 +169,19 @@ public class HelpCommand extends Command {
             + "\n" + DataAnalysisCommand.MESSAGE_USAGE
             + "----------------------------------------------------"
             + "-------------------------------------------------- \n"
-            + "5.3 Exit from League Tracker"
+            + "5.3 Import teams, players and matches from a CSV or Excel file"
+            + "\n" + ImportCommand.MESSAGE_USAGE
+            + "----------------------------------------------------"
+            + "-------------------------------------------------- \n"
+            + "5.4 Export everything in League Tracker to one Excel File"
+            + "\n" + ExportAllCommand.MESSAGE_USAGE
+            + "----------------------------------------------------"
+            + "-------------------------------------------------- \n"
+            + "5.5 Export players, teams, matches or finances to a CSV or JSON Lines File"
+            + "\n" + ExportDataCommand.MESSAGE_USAGE
+            + "----------------------------------------------------"
+            + "-------------------------------------------------- \n"
+            + "5.6 Exit from League Tracker"
             + "\n" + ExitCommand.MESSAGE_USAGE;
 
 
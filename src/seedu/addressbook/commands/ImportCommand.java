@@ -0,0 +1,296 @@
+package seedu.addressbook.commands;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.addressbook.commands.match.AddMatchCommand;
+import seedu.addressbook.common.Messages;
+import seedu.addressbook.data.exception.DuplicateDataException;
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.match.Match;
+import seedu.addressbook.data.match.MatchDate;
+import seedu.addressbook.data.match.Score;
+import seedu.addressbook.data.match.TicketSales;
+import seedu.addressbook.data.match.UniqueMatchList;
+import seedu.addressbook.data.player.Age;
+import seedu.addressbook.data.player.Appearance;
+import seedu.addressbook.data.player.GoalsAssisted;
+import seedu.addressbook.data.player.GoalsScored;
+import seedu.addressbook.data.player.HealthStatus;
+import seedu.addressbook.data.player.JerseyNumber;
+import seedu.addressbook.data.player.Name;
+import seedu.addressbook.data.player.Nationality;
+import seedu.addressbook.data.player.Player;
+import seedu.addressbook.data.player.PositionPlayed;
+import seedu.addressbook.data.player.Salary;
+import seedu.addressbook.data.tag.Tag;
+import seedu.addressbook.data.team.Country;
+import seedu.addressbook.data.team.Sponsor;
+import seedu.addressbook.data.team.Team;
+import seedu.addressbook.data.team.TeamName;
+import seedu.addressbook.data.team.UniqueTeamList;
+import seedu.addressbook.importer.ImportFileReader;
+import seedu.addressbook.importer.ImportFileReader.ImportRow;
+import seedu.addressbook.importer.ImportFileReader.UnsupportedFileException;
+
+/**
+ * Imports teams, players and matches from a CSV or Excel file in one go.
+ * The rows are checked in parallel, and nothing is imported unless every row is valid.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ":\n"
+            + "Imports teams, players and matches from a CSV (.csv) or Excel (.xls, .xlsx) file. "
+            + "Each row holds one record: its kind, then its details in the order that "
+            + "addteam, addPlayer or addmatch takes them, then any tags.\n\t"
+            + "team, NAME, COUNTRY, SPONSORSHIP BALANCE, [TAG]...\n\t"
+            + "player, NAME, POSITION, AGE, SALARY, GOALS_SCORED, GOALS_ASSISTED, TEAM_NAME, NATIONALITY, "
+            + "JERSEY_NUMBER, APPEARANCE, HEALTH_STATUS, [TAG]...\n\t"
+            + "match, DATE, HOMETEAM, AWAYTEAM\n"
+            + "Parameters: FILE_PATH\n\t"
+            + "Example: " + COMMAND_WORD + " season.csv\n";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d teams, %2$d players and %3$d matches from %4$s";
+    public static final String MESSAGE_INVALID_ROWS = "Nothing was imported because of these rows:\n%1$s";
+    public static final String MESSAGE_NOT_IMPORTED = "Nothing was imported: %1$s";
+    public static final String MESSAGE_READ_ERROR = "Could not read %1$s";
+
+    public static final String KIND_TEAM = "team";
+    public static final String KIND_PLAYER = "player";
+    public static final String KIND_MATCH = "match";
+
+    /** Cells a row of each kind must have, counting the kind itself. */
+    private static final int TEAM_CELLS = 4;
+    private static final int PLAYER_CELLS = 12;
+    private static final int MATCH_CELLS = 4;
+
+    /** Most invalid rows listed in the result, so that a wrong file does not flood the screen. */
+    private static final int MAX_ROWS_REPORTED = 10;
+
+    private final Path path;
+
+    public ImportCommand(String filePath) {
+        this.path = Paths.get(filePath);
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    @Override
+    public CommandResult execute() {
+        final List<ImportRow> rows;
+        try {
+            rows = ImportFileReader.readRows(path);
+        } catch (UnsupportedFileException ufe) {
+            return new CommandResult(String.format(MESSAGE_NOT_IMPORTED, ufe.getMessage()));
+        } catch (IOException ioe) {
+            return new CommandResult(String.format(MESSAGE_READ_ERROR, path));
+        }
+
+        // the rows are independent of each other, so they can be checked on all cores at once
+        final List<ParsedRow> parsedRows = rows.parallelStream()
+                .map(ImportCommand::parseRow)
+                .collect(Collectors.toList());
+
+        final List<Team> teams = new ArrayList<>();
+        final List<Player> players = new ArrayList<>();
+        final List<Match> matches = new ArrayList<>();
+        final List<String> errors = new ArrayList<>();
+        for (ParsedRow parsed : parsedRows) {
+            if (parsed.error != null) {
+                errors.add("Row " + parsed.row.number + ": " + parsed.error);
+            } else if (parsed.team != null) {
+                teams.add(parsed.team);
+            } else if (parsed.player != null) {
+                players.add(parsed.player);
+            } else if (parsed.match != null) {
+                matches.add(parsed.match);
+            }
+        }
+        errors.addAll(findPlayersWithoutTeam(parsedRows, teams));
+        if (!errors.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_INVALID_ROWS, summarise(errors)));
+        }
+
+        try {
+            addressBook.addAll(teams, players, matches);
+        } catch (DuplicateDataException dde) {
+            return new CommandResult(String.format(MESSAGE_NOT_IMPORTED, dde.getMessage()));
+        } catch (UniqueTeamList.TeamNotFoundException tnfe) {
+            return new CommandResult(String.format(MESSAGE_NOT_IMPORTED, Messages.MESSAGE_TEAM_NOT_IN_LEAGUE_TRACKER));
+        } catch (UniqueMatchList.SameTeamException ste) {
+            return new CommandResult(String.format(MESSAGE_NOT_IMPORTED, AddMatchCommand.MESSAGE_SAME_TEAM));
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, teams.size(), players.size(), matches.size(), path));
+    }
+
+    /**
+     * Returns an error for each player row whose team neither exists nor is being imported.
+     */
+    private List<String> findPlayersWithoutTeam(List<ParsedRow> parsedRows, List<Team> teams) {
+        final Set<TeamName> importedTeams = new HashSet<>();
+        teams.forEach(team -> importedTeams.add(team.getTeamName()));
+        final List<String> errors = new ArrayList<>();
+        for (ParsedRow parsed : parsedRows) {
+            if (parsed.player == null) {
+                continue;
+            }
+            final TeamName teamName = parsed.player.getTeamName();
+            if (!importedTeams.contains(teamName) && !isTeamInLeague(teamName)) {
+                errors.add("Row " + parsed.row.number + ": " + Messages.MESSAGE_TEAM_NOT_IN_LEAGUE_TRACKER);
+            }
+        }
+        return errors;
+    }
+
+    /**
+     * Returns true if a team with the given name is already in the League Tracker.
+     */
+    private boolean isTeamInLeague(TeamName teamName) {
+        try {
+            addressBook.findTeam(teamName);
+            return true;
+        } catch (UniqueTeamList.TeamNotFoundException tnfe) {
+            return false;
+        }
+    }
+
+    /**
+     * Lists the first few errors, one per line.
+     */
+    private static String summarise(List<String> errors) {
+        final String listed = errors.stream().limit(MAX_ROWS_REPORTED).collect(Collectors.joining("\n"));
+        return errors.size() > MAX_ROWS_REPORTED
+                ? listed + "\n... and " + (errors.size() - MAX_ROWS_REPORTED) + " more"
+                : listed;
+    }
+
+    /**
+     * Builds the team, player or match described by {@code row}, or describes why it cannot.
+     */
+    private static ParsedRow parseRow(ImportRow row) {
+        final List<String> cells = row.cells;
+        final String kind = cells.get(0).toLowerCase();
+        try {
+            switch (kind) {
+            case KIND_TEAM:
+                checkCellCount(cells, TEAM_CELLS);
+                return ParsedRow.of(row, new Team(
+                        new TeamName(cells.get(1)),
+                        new Country(cells.get(2)),
+                        new Sponsor(cells.get(3)),
+                        new ArrayList<>(),
+                        new ArrayList<>(),
+                        getTags(cells, TEAM_CELLS)));
+
+            case KIND_PLAYER:
+                checkCellCount(cells, PLAYER_CELLS);
+                return ParsedRow.of(row, new Player(
+                        new Name(cells.get(1)),
+                        new PositionPlayed(cells.get(2)),
+                        new Age(cells.get(3)),
+                        new Salary(cells.get(4)),
+                        new GoalsScored(cells.get(5)),
+                        new GoalsAssisted(cells.get(6)),
+                        new TeamName(cells.get(7)),
+                        new Nationality(cells.get(8)),
+                        new JerseyNumber(cells.get(9)),
+                        new Appearance(cells.get(10)),
+                        new HealthStatus(cells.get(11)),
+                        getTags(cells, PLAYER_CELLS)));
+
+            case KIND_MATCH:
+                checkCellCount(cells, MATCH_CELLS);
+                return ParsedRow.of(row, new Match(
+                        new MatchDate(cells.get(1)),
+                        new TeamName(cells.get(2)),
+                        new TeamName(cells.get(3)),
+                        new TicketSales(""),
+                        new TicketSales(""),
+                        new ArrayList<>(),
+                        new ArrayList<>(),
+                        new Score("")));
+
+            default:
+                return ParsedRow.ofError(row, "Unknown kind of record \"" + cells.get(0) + "\", expected "
+                        + KIND_TEAM + ", " + KIND_PLAYER + " or " + KIND_MATCH);
+            }
+        } catch (IllegalValueException ive) {
+            return ParsedRow.ofError(row, ive.getMessage());
+        } catch (ParseException pe) {
+            return ParsedRow.ofError(row, MatchDate.MESSAGE_INVALID_DATE_FORMAT + " Example: " + MatchDate.EXAMPLE);
+        }
+    }
+
+    /**
+     * @throws IllegalValueException if the row has fewer than {@code expected} cells
+     */
+    private static void checkCellCount(List<String> cells, int expected) throws IllegalValueException {
+        if (cells.size() < expected) {
+            throw new IllegalValueException("Expected " + (expected - 1) + " details for a " + cells.get(0)
+                    + " but found " + (cells.size() - 1));
+        }
+    }
+
+    /**
+     * Returns the tags in the non-blank cells from {@code firstTagCell} onwards.
+     */
+    private static Set<Tag> getTags(List<String> cells, int firstTagCell) throws IllegalValueException {
+        final Set<Tag> tags = new HashSet<>();
+        for (String cell : cells.subList(firstTagCell, cells.size())) {
+            if (!cell.isEmpty()) {
+                tags.add(new Tag(cell));
+            }
+        }
+        return tags;
+    }
+
+    /**
+     * The result of checking one row: either the record it describes, or the reason it is invalid.
+     */
+    private static class ParsedRow {
+        private final ImportRow row;
+        private Team team;
+        private Player player;
+        private Match match;
+        private String error;
+
+        private ParsedRow(ImportRow row) {
+            this.row = row;
+        }
+
+        static ParsedRow of(ImportRow row, Team team) {
+            final ParsedRow parsed = new ParsedRow(row);
+            parsed.team = team;
+            return parsed;
+        }
+
+        static ParsedRow of(ImportRow row, Player player) {
+            final ParsedRow parsed = new ParsedRow(row);
+            parsed.player = player;
+            return parsed;
+        }
+
+        static ParsedRow of(ImportRow row, Match match) {
+            final ParsedRow parsed = new ParsedRow(row);
+            parsed.match = match;
+            return parsed;
+        }
+
+        static ParsedRow ofError(ImportRow row, String error) {
+            final ParsedRow parsed = new ParsedRow(row);
+            parsed.error = error;
+            return parsed;
+        }
+    }
+}
@@ -17,7 +17,7 @@ public class ExportFinanceCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + "\n"
             + "This Command will export all finance details in the league tracker to an Excel sheet \n"
-            + "For now, the output path has been hard-coded to be 'exported_finance_record.xls'. \n"
+            + "For now, the output path has been hard-coded to be 'exported_finance_record.xlsx'. \n"
             + "Every exportFinance Command will overwrite the excel file if it already exists \n";
 
     public static final String MESSAGE_SUCCESS = "Finance records are successfully exported";
@@ -27,6 +27,11 @@ public class ExportFinanceCommand extends Command {
     public ExportFinanceCommand () {
     }
 
+    @Override
+    public boolean runsInBackground() {
+        return true;
+    }
+
     @Override
     public CommandResult execute() {
         try {
@@ -34,7 +39,7 @@ public class ExportFinanceCommand extends Command {
             List<ReadOnlyFinance> allFinances = addressBook.getAllFinances().immutableListView();
             FinanceApachePoiWriter writer = new FinanceApachePoiWriter(allFinances);
 
-            writer.write();
+            writer.write(progressListener);
         } catch (UniqueFinanceList.DuplicateFinanceException dfe) {
             return new CommandResult(MESSAGE_DFE);
         } catch (NullPointerException npe) {
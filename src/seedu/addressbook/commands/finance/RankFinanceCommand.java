@@ -28,11 +28,13 @@ public class RankFinanceCommand extends Command {
     public CommandResult execute() {
         try {
             addressBook.refreshFinance();
-            addressBook.sortFinance();
         } catch (UniqueFinanceList.DuplicateFinanceException dfe) {
             return new CommandResult(MESSAGE_FINANCE_REFRESH_PROBLEM);
         }
-        List<ReadOnlyFinance> allFinances = addressBook.getAllFinances().immutableListView();
+        // ranks a copy, so that showing the ranking does not change the finances in the league tracker
+        UniqueFinanceList rankedFinances = addressBook.getAllFinances();
+        rankedFinances.sort();
+        List<ReadOnlyFinance> allFinances = rankedFinances.immutableListView();
         return new CommandResult(getMessageForFinanceListShownSummary(allFinances), null, null, null, allFinances);
     }
 }
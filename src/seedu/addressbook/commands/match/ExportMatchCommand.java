@@ -17,7 +17,7 @@ public class ExportMatchCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + "\n"
             + "This Command will export all match information in the league tracker to an Excel sheet \n"
-            + "For now, the output path has been hard-coded to be 'exported_match_record.xls'. \n"
+            + "For now, the output path has been hard-coded to be 'exported_match_record.xlsx'. \n"
             + "Every exportMatch Command will overwrite the excel file if it already exists \n";
 
     public static final String MESSAGE_SUCCESS = "All match information stored in League "
@@ -27,13 +27,18 @@ public class ExportMatchCommand extends Command {
     public ExportMatchCommand() {
     }
 
+    @Override
+    public boolean runsInBackground() {
+        return true;
+    }
+
     @Override
     public CommandResult execute() {
         List<ReadOnlyMatch> allMatches = addressBook.getAllMatches().immutableListView();
         MatchApachePoiWriter writer = new MatchApachePoiWriter(allMatches);
 
         try {
-            writer.write();
+            writer.write(progressListener);
         } catch (NullPointerException npe) {
             return new CommandResult(MESSAGE_NPE);
         }
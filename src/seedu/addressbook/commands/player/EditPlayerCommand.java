@@ -53,6 +53,9 @@ public class EditPlayerCommand extends Command {
             + "Index of the player can be obtained using the list Command \n";
 
     public static final String MESSAGE_SUCCESS = " %1$s \n Player %2$s profile is edited";
+    public static final String MESSAGE_DUPLICATE_PLAYER = "Another player in the league already has this name";
+    public static final String MESSAGE_DUPLICATE_JERSEY_NUMBER = "The jersey number %1$s is already taken, "
+            + "please choose another jersey number";
     public static final String MESSAGE_NOATTRIBUTE_WARNING = "At least one attribute must be provided for edition";
     public static final String MESSAGE_TEAMNAME_BLOCK = "Changing player's team is not allowed "
             + "with Edit Command, please use tranferPlayer Command if you need to transfer "
@@ -128,6 +131,10 @@ public class EditPlayerCommand extends Command {
             return new CommandResult(String.format(MESSAGE_SUCCESS, editedPlayer, editedPlayer.getName().fullName));
         } catch (UniquePlayerList.PlayerNotFoundException pnfe) {
             return new CommandResult(Messages.MESSAGE_PLAYER_NOT_IN_LEAGUE);
+        } catch (UniquePlayerList.DuplicatePlayerException dpe) {
+            return new CommandResult(MESSAGE_DUPLICATE_PLAYER);
+        } catch (UniquePlayerList.DuplicateJerseyInSameTeamException djste) {
+            return new CommandResult(String.format(MESSAGE_DUPLICATE_JERSEY_NUMBER, jnItem));
         } catch (IndexOutOfBoundsException iobe) {
             return new CommandResult(Messages.MESSAGE_INVALID_PLAYER_DISPLAYED_INDEX
                     + "\n" + Messages.MESSAGE_NVRLISTBEFOREEDIT);
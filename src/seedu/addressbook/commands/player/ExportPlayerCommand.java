@@ -15,9 +15,13 @@ public class ExportPlayerCommand extends Command {
 
     public static final String COMMAND_WORD = "exportPlayer";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + "\n"
+    /** Option that also exports the total salary, goals, assists and appearances of each team. */
+    public static final String OPTION_TOTALS = "totals";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + " [" + OPTION_TOTALS + "]\n"
             + "This Command will export all player profiles in the league tracker to an Excel sheet \n"
-            + "For now, the output path has been hard-coded to be 'exported_player_record.xls'. \n"
+            + "With '" + OPTION_TOTALS + "', the totals of each team are exported to a second sheet. \n"
+            + "For now, the output path has been hard-coded to be 'exported_player_record.xlsx'. \n"
             + "Every exportPlayer Command will overwrite the excel file if it already exists \n";
 
     public static final String MESSAGE_SUCCESS = "Player profile is successfully exported";
@@ -25,16 +29,35 @@ public class ExportPlayerCommand extends Command {
     //public static final String MESSAGE_FFE = "File not found...";
     public static final String MESSAGE_NPE = "Please check your parameters... Object does not exist";
 
+    private final boolean withTotals;
+
     public ExportPlayerCommand() {
+        this(false);
+    }
+
+    /**
+     * @param withTotals true to also export the totals of each team
+     */
+    public ExportPlayerCommand(boolean withTotals) {
+        this.withTotals = withTotals;
+    }
+
+    public boolean isWithTotals() {
+        return withTotals;
+    }
+
+    @Override
+    public boolean runsInBackground() {
+        return true;
     }
 
     @Override
     public CommandResult execute() {
         List<ReadOnlyPlayer> allPlayers = addressBook.getAllPlayers().immutableListView();
-        PlayerApachePoiWriter writer = new PlayerApachePoiWriter(allPlayers);
+        PlayerApachePoiWriter writer = new PlayerApachePoiWriter(allPlayers, withTotals);
 
         try {
-            writer.write();
+            writer.write(progressListener);
         } catch (NullPointerException npe) {
             return new CommandResult(MESSAGE_NPE);
         }
@@ -62,40 +62,32 @@ public class TransferPlayerCommand extends Command {
 
     @Override
     public CommandResult execute() {
-        UniquePlayerList oldAllPlayers = addressBook.getAllPlayers();
         UniqueTeamList allTeams = addressBook.getAllTeams();
 
-        Player oldPlayer = null;
+        Player oldPlayer;
         Player newPlayer;
-        Boolean isOldPlayerFound = false;
         Boolean isTeamFound = false;
-        String oldTeamName;
 
         //check if the player exists in league tracker
-        //check if the destination team is the same as the current team of player
-        for (Player player : oldAllPlayers) {
-            if (player.getName().equals(this.playerNameItem)) {
-                oldPlayer = player;
-                oldTeamName = player.getTeamName().toString();
-                isOldPlayerFound = true;
-
-                if (oldTeamName.equals(this.teamNameItem.toString())) {
-                    return new CommandResult(String.format(MESSAGE_DESTINATION_IS_CURRENT, oldTeamName));
-                }
-            }
-        }
-
         // if the player does not exist, return an error message and terminate the execute()
-        // else, create the player after transfer
-        if (!isOldPlayerFound) {
+        try {
+            oldPlayer = addressBook.findPlayer(this.playerNameItem);
+        } catch (UniquePlayerList.PlayerNotFoundException pnfe) {
             return new CommandResult(String.format(
                     MESSAGE_PLAYER_NOT_FOUND, this.playerNameItem.toString()
             ));
-        } else {
-            newPlayer = createPlayerAfterTransfer(this.teamNameItem, this.jerseyNumberItem,
-                    this.salaryItem, oldPlayer);
         }
 
+        //check if the destination team is the same as the current team of player
+        String oldTeamName = oldPlayer.getTeamName().toString();
+        if (oldTeamName.equals(this.teamNameItem.toString())) {
+            return new CommandResult(String.format(MESSAGE_DESTINATION_IS_CURRENT, oldTeamName));
+        }
+
+        // create the player after transfer
+        newPlayer = createPlayerAfterTransfer(this.teamNameItem, this.jerseyNumberItem,
+                this.salaryItem, oldPlayer);
+
         // check if the destination team exists
         for (Team team : allTeams) {
             if (team.getTeamName().toString().equals(this.teamNameItem.toString())) {
@@ -16,7 +16,7 @@ public class ExportTeam extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + "\n"
             + "This Command will export all team profiles in the league tracker to an Excel sheet \n"
-            + "For now, the output path has been hard-coded to be 'exported_team_record.xls'. \n"
+            + "For now, the output path has been hard-coded to be 'exported_team_record.xlsx'. \n"
             + "Every exportTeam Command will overwrite the excel file if it already exists \n";
 
     public static final String MESSAGE_SUCCESS = "Team profile is successfully exported";
@@ -26,13 +26,18 @@ public class ExportTeam extends Command {
     public ExportTeam() {
     }
 
+    @Override
+    public boolean runsInBackground() {
+        return true;
+    }
+
     @Override
     public CommandResult execute() {
         List<ReadOnlyTeam> allTeams = addressBook.getAllTeams().immutableListView();
         TeamApachePoiWriter writer = new TeamApachePoiWriter(allTeams);
 
         try {
-            writer.write();
+            writer.write(progressListener);
         } catch (NullPointerException npe) {
             return new CommandResult(MESSAGE_NPE);
         }
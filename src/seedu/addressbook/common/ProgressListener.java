@@ -0,0 +1,19 @@
+package seedu.addressbook.common;
+
+/**
+ * Is told how far a long-running piece of work has got, e.g. how many rows of an export have been written.
+ */
+public interface ProgressListener {
+
+    /** Listener that ignores all progress. */
+    ProgressListener NONE = (done, total) -> { };
+
+    /**
+     * Called after each step of the work. It may throw {@link java.util.concurrent.CancellationException} to stop
+     * the work, which then ends without a result.
+     *
+     * @param done number of steps done so far
+     * @param total number of steps in all
+     */
+    void onProgress(long done, long total);
+}
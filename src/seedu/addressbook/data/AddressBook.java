@@ -1,7 +1,14 @@
 package seedu.addressbook.data;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import seedu.addressbook.data.exception.IllegalValueException;
 import seedu.addressbook.data.finance.Finance;
@@ -24,6 +31,7 @@ import seedu.addressbook.data.player.UniquePlayerList.PlayerNotFoundException;
 import seedu.addressbook.data.player.UniquePlayerList.PlayerNotInTeamException;
 import seedu.addressbook.data.team.ReadOnlyTeam;
 import seedu.addressbook.data.team.Team;
+import seedu.addressbook.data.team.TeamName;
 import seedu.addressbook.data.team.UniqueTeamList;
 import seedu.addressbook.data.team.UniqueTeamList.DuplicateTeamException;
 import seedu.addressbook.data.team.UniqueTeamList.TeamNotFoundException;
@@ -31,6 +39,12 @@ import seedu.addressbook.data.team.UniqueTeamList.TeamNotFoundException;
 
 /**
  * Represents the entire League Tracker. Contains the data of the League Tracker.
+ *
+ * Not thread-safe: it is changed and read by one thread at a time, the one running commands. Other threads read a
+ * snapshot of it instead, from {@link seedu.addressbook.logic.Logic#getSnapshot}.
+ *
+ * The teams, players and matches in it may be shared with its shallow copies, so they are never changed in place:
+ * each change is made to a copy of the item, which then takes its place.
  */
 public class AddressBook {
 
@@ -41,6 +55,10 @@ public class AddressBook {
 
     private final List<String> transferRecords;
 
+    /** Number of changes made to this League Tracker since it was created. */
+    private long version;
+    private AddressBookChange.Listener changeListener;
+
     /**
      * Creates an empty League Tracker.
      */
@@ -71,12 +89,51 @@ public class AddressBook {
         this.allMatches = new UniqueMatchList(matches);
         this.allFinances = new UniqueFinanceList(finances);
         this.transferRecords = transferRecords;
+        // the lists keep themselves in order, unless a team's results were changed from outside
+        this.allMatches.sort();
+        this.allTeams.sort();
     }
 
     public static AddressBook empty() {
         return new AddressBook();
     }
 
+    /**
+     * Returns a League Tracker with the same data, sharing its lists with this one until either of them is
+     * changed. Adding, removing or reordering items in either does not affect the other, but the teams, players
+     * and matches themselves are shared.
+     */
+    public AddressBook shallowCopy() {
+        return new AddressBook(allPlayers, allTeams, allMatches, allFinances, new ArrayList<>(transferRecords));
+    }
+
+    /**
+     * Returns a counter that increases with every change made to this League Tracker,
+     * so callers can tell whether anything changed since they last looked.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Sets the listener to be told about every subsequent change, replacing any previous listener.
+     *
+     * @param listener null to stop reporting changes
+     */
+    public void setChangeListener(AddressBookChange.Listener listener) {
+        changeListener = listener;
+    }
+
+    /**
+     * Counts a change and reports it to the listener, if any.
+     */
+    private void recordChange(AddressBookChange.Type type, Object... operands) {
+        version++;
+        if (changeListener != null) {
+            changeListener.onChange(new AddressBookChange(type, operands));
+        }
+    }
+
     /**
      * Adds a player to the League Tracker.
      *
@@ -85,11 +142,8 @@ public class AddressBook {
     public void addPlayer(Player toAdd) throws DuplicatePlayerException,
             UniquePlayerList.DuplicateJerseyInSameTeamException {
         allPlayers.add(toAdd);
-        for (Team team : allTeams) {
-            if (team.getTeamName().toString().equals((toAdd.getTeamName().toString()))) {
-                team.addPlayer(toAdd);
-            }
-        }
+        updateStanding(toAdd.getTeamName(), team -> team.addPlayer(toAdd));
+        recordChange(AddressBookChange.Type.ADD_PLAYER, toAdd);
     }
 
     /**
@@ -97,58 +151,47 @@ public class AddressBook {
      */
     public void addTransferRecord(String toAdd) {
         transferRecords.add(toAdd);
+        recordChange(AddressBookChange.Type.ADD_TRANSFER_RECORD, toAdd);
     }
 
     /**
      * Edits the equivalent player from League Tracker
+     *
+     * @throws DuplicatePlayerException if another player already has the new name.
+     * @throws UniquePlayerList.DuplicateJerseyInSameTeamException if another player in the team already has the
+     *     new jersey number.
      */
-    public void editPlayer(ReadOnlyPlayer toEdit, Player newPlayer) throws UniquePlayerList.PlayerNotFoundException {
+    public void editPlayer(ReadOnlyPlayer toEdit, Player newPlayer) throws UniquePlayerList.PlayerNotFoundException,
+            DuplicatePlayerException, UniquePlayerList.DuplicateJerseyInSameTeamException {
         allPlayers.edit(toEdit, newPlayer);
         if (!toEdit.getName().equals(newPlayer.getName())) {
             replaceNameForAllMatches(toEdit, newPlayer);
         }
-        for (Team team : allTeams) {
-            if (team.getTeamName().toString().equals(toEdit.getTeamName().toString())) {
-                team.removePlayer(toEdit);
-                team.addPlayer(newPlayer);
-            }
-        }
+        updateStanding(toEdit.getTeamName(), team -> {
+            team.removePlayer(toEdit);
+            team.addPlayer(newPlayer);
+        });
+        recordChange(AddressBookChange.Type.EDIT_PLAYER, toEdit, newPlayer);
     }
 
     /**
      * Replaces name of a (own)goalScorer in all matches.
+     * Only the matches in which the player scored are touched. They are replaced by renamed copies, in the
+     * match list and in the teams that played them.
      *
      * @param toRemove Player with old name.
      * @param toReplace Player with new name.
      */
     public void replaceNameForAllMatches (ReadOnlyPlayer toRemove, Player toReplace) {
-        for (Match match : allMatches) { //for all match
-            if (match.getGoalScorers().contains(toRemove.getName())) {
-                match.setGoalScorers(replaceNameInMatch(
-                        match.getGoalScorers(), toRemove.getName(), toReplace.getName()));
-            }
-            if (match.getOwnGoalScorers().contains(toRemove.getName())) {
-                match.setOwnGoalScorers(replaceNameInMatch(
-                        match.getOwnGoalScorers(), toRemove.getName(), toReplace.getName()));
-            }
-        }
-    }
-
-    /**
-     * Replaces name of a (own)goalScorer in a match.
-     *
-     * @param goalScorers Names of goal scorers or own goal scorers in the match.
-     * @param toRemove Player's new name.
-     * @param toReplace Player's old name.
-     * @return List of names of (own)goal scorers with names updated.
-     */
-    public List<Name> replaceNameInMatch (List<Name> goalScorers, Name toRemove, Name toReplace) {
-        for (Name name : goalScorers) {
-            if (name.equals(toRemove)) {
-                goalScorers.set((goalScorers.indexOf(toRemove)), toReplace);
-            }
-        }
-        return goalScorers;
+        final Map<Match, Match> renamed = allMatches.renameScorer(toRemove.getName(), toReplace.getName());
+        renamed.forEach((match, copy) -> {
+            final Consumer<Team> replaceMatch = team -> {
+                team.removeMatch(match);
+                team.addMatch(copy);
+            };
+            updateStanding(match.getHome(), replaceMatch);
+            updateStanding(match.getAway(), replaceMatch);
+        });
     }
 
     /**
@@ -156,6 +199,7 @@ public class AddressBook {
      */
     public void addTeam(Team toAdd) throws DuplicateTeamException {
         allTeams.add(toAdd);
+        recordChange(AddressBookChange.Type.ADD_TEAM, toAdd);
     }
 
     /**
@@ -172,9 +216,126 @@ public class AddressBook {
         if (home.equals(away)) {
             throw new SameTeamException();
         }
-        home.addMatch(toAdd);
-        away.addMatch(toAdd);
+        allTeams.updateStanding(home, team -> team.addMatch(toAdd));
+        allTeams.updateStanding(away, team -> team.addMatch(toAdd));
         allMatches.add(toAdd);
+        recordChange(AddressBookChange.Type.ADD_MATCH, toAdd);
+    }
+
+    /**
+     * Adds many teams, players and matches at once, e.g. a whole season read from a file. Each list is sorted and
+     * indexed once for the whole batch instead of once per item. Everything is checked before anything is added,
+     * so either all of the items are added or, if any of them cannot be, none are.
+     *
+     * @throws DuplicateTeamException if a team already exists or appears twice.
+     * @throws DuplicatePlayerException if a player already exists or appears twice.
+     * @throws UniquePlayerList.DuplicateJerseyInSameTeamException if a jersey number is taken twice in a team.
+     * @throws DuplicateMatchException if a match already exists or appears twice.
+     * @throws TeamNotFoundException if a match is for a team that neither exists nor is being added.
+     * @throws SameTeamException if a match is between a team and itself.
+     */
+    public void addAll(List<Team> teams, List<Player> players, List<Match> matches)
+            throws DuplicateTeamException,
+                    DuplicatePlayerException,
+                    UniquePlayerList.DuplicateJerseyInSameTeamException,
+                    DuplicateMatchException,
+                    TeamNotFoundException,
+                    SameTeamException {
+        allTeams.checkCanAddAll(teams);
+        allPlayers.checkCanAddAll(players);
+        allMatches.checkCanAddAll(matches);
+        final Map<TeamName, Team> addedTeams = new HashMap<>();
+        teams.forEach(team -> addedTeams.put(team.getTeamName(), team));
+        for (Match match : matches) {
+            final Team home = findTeamIncluding(match.getHome(), addedTeams);
+            final Team away = findTeamIncluding(match.getAway(), addedTeams);
+            if (home.equals(away)) {
+                throw new SameTeamException();
+            }
+        }
+
+        // teams already in the League Tracker that gain players or matches are copied once before they change
+        final Set<TeamName> changedTeams = new HashSet<>();
+        players.forEach(player -> changedTeams.add(player.getTeamName()));
+        for (Match match : matches) {
+            changedTeams.add(match.getHome());
+            changedTeams.add(match.getAway());
+        }
+        changedTeams.removeAll(addedTeams.keySet());
+
+        allTeams.addAll(teams);
+        allPlayers.addAll(players);
+        allMatches.addAll(matches);
+        allTeams.replaceAll(team -> changedTeams.contains(team.getTeamName()) ? new Team(team) : team);
+        for (Player player : players) {
+            teamNamed(player.getTeamName()).ifPresent(team -> team.addPlayer(player));
+        }
+        for (Match match : matches) {
+            allTeams.find(match.getHome()).addMatch(match);
+            allTeams.find(match.getAway()).addMatch(match);
+        }
+        // the teams' results were changed without moving them, so put the table back in order once for all of them
+        allTeams.sort();
+
+        teams.forEach(team -> recordChange(AddressBookChange.Type.ADD_TEAM, team));
+        players.forEach(player -> recordChange(AddressBookChange.Type.ADD_PLAYER, player));
+        matches.forEach(match -> recordChange(AddressBookChange.Type.ADD_MATCH, match));
+    }
+
+    /**
+     * Finds the team with the given name among {@code addedTeams}, or else in the League Tracker.
+     *
+     * @throws TeamNotFoundException if no team has the given name.
+     */
+    private Team findTeamIncluding(TeamName name, Map<TeamName, Team> addedTeams) throws TeamNotFoundException {
+        final Team added = addedTeams.get(name);
+        return added != null ? added : allTeams.find(name);
+    }
+
+    /**
+     * Applies {@code change} to a copy of the team with the given name, which takes the team's place in the
+     * league table. Does nothing if there is no such team.
+     */
+    private void updateStanding(TeamName name, Consumer<Team> change) {
+        try {
+            allTeams.updateStanding(allTeams.find(name), change);
+        } catch (TeamNotFoundException tnfe) {
+            // the team has been removed, so there is no table entry to update
+        }
+    }
+
+    /**
+     * Puts {@code changed} in the place of {@code player}, in the League Tracker and in the roster of its team.
+     * Only for changes that keep the player's name, team and jersey number.
+     */
+    private void replacePlayer(Player player, Player changed) throws PlayerNotFoundException {
+        allPlayers.replace(player, changed);
+        updateStanding(player.getTeamName(), team -> team.replacePlayer(player, changed));
+    }
+
+    /**
+     * Changes the number of goals scored by the player with the given name by {@code goals}, which is 1 or -1.
+     */
+    private void countGoal(Name scorer, int goals) throws PlayerNotFoundException, IllegalValueException {
+        final Player player = allPlayers.find(scorer);
+        final Player changed = new Player(player);
+        if (goals > 0) {
+            changed.addScore();
+        } else {
+            changed.subtractScore();
+        }
+        replacePlayer(player, changed);
+    }
+
+    /**
+     * Returns the team with the given name, if it is in the League Tracker.
+     */
+    private Optional<Team> teamNamed(TeamName name) {
+        try {
+            return Optional.of(allTeams.find(name));
+        } catch (TeamNotFoundException tnfe) {
+            return Optional.empty();
+        }
     }
 
     /**
@@ -184,6 +345,24 @@ public class AddressBook {
         return allPlayers.contains(key);
     }
 
+    /**
+     * Finds the player with the given name in the League Tracker.
+     *
+     * @throws PlayerNotFoundException if no player has the given name.
+     */
+    public Player findPlayer(Name name) throws PlayerNotFoundException {
+        return allPlayers.find(name);
+    }
+
+    /**
+     * Finds the team with the given name in the League Tracker.
+     *
+     * @throws TeamNotFoundException if no team has the given name.
+     */
+    public Team findTeam(TeamName name) throws TeamNotFoundException {
+        return allTeams.find(name);
+    }
+
     /**
      * Checks if an equivalent team exists in the League Tracker.
      */
@@ -212,11 +391,8 @@ public class AddressBook {
      */
     public void removePlayer(ReadOnlyPlayer toRemove) throws PlayerNotFoundException {
         allPlayers.remove(toRemove);
-        for (Team team : allTeams) {
-            if (team.getTeamName().toString().equals(toRemove.getTeamName().toString())) {
-                team.removePlayer(toRemove);
-            }
-        }
+        updateStanding(toRemove.getTeamName(), team -> team.removePlayer(toRemove));
+        recordChange(AddressBookChange.Type.REMOVE_PLAYER, toRemove);
     }
 
     /**
@@ -230,21 +406,18 @@ public class AddressBook {
                     PlayerNotFoundException {
         allMatches.remove(toRemove);
         for (Name goalScorer : toRemove.getGoalScorers()) {
-            allPlayers.find(goalScorer).subtractScore();
+            countGoal(goalScorer, -1);
         }
 
-        for (Team team : allTeams) {
-            if (team.getTeamName().toString().equals(toRemove.getHome().toString())) {
-                team.removeMatch(toRemove);
-                team.updatePoints();
-            }
-        }
-        for (Team team : allTeams) {
-            if (team.getTeamName().toString().equals(toRemove.getAway().toString())) {
-                team.removeMatch(toRemove);
-                team.updatePoints();
-            }
-        }
+        updateStanding(toRemove.getHome(), team -> {
+            team.removeMatch(toRemove);
+            team.updatePoints();
+        });
+        updateStanding(toRemove.getAway(), team -> {
+            team.removeMatch(toRemove);
+            team.updatePoints();
+        });
+        recordChange(AddressBookChange.Type.REMOVE_MATCH, toRemove);
     }
 
     /**
@@ -252,13 +425,20 @@ public class AddressBook {
      */
     public void clearMatch() throws IllegalValueException {
         allMatches.clear();
-        for (Team team : allTeams) {
-            team.clearMatchList();
-            team.clearResults();
-        }
+        final Map<Player, Player> withoutGoals = new IdentityHashMap<>();
         for (Player player : allPlayers) {
-            player.clearGoals();
+            final Player changed = new Player(player);
+            changed.clearGoals();
+            withoutGoals.put(player, changed);
         }
+        allPlayers.replaceAll(withoutGoals::get);
+        allTeams.replaceAll(team -> {
+            final List<Player> roster = new ArrayList<>();
+            team.getPlayers().forEach(player -> roster.add(withoutGoals.getOrDefault(player, player)));
+            return new Team(team.getTeamName(), team.getCountry(), team.getSponsor(), new ArrayList<>(), roster,
+                    team.getTags());
+        });
+        recordChange(AddressBookChange.Type.CLEAR_MATCHES);
     }
 
     /**
@@ -282,6 +462,7 @@ public class AddressBook {
                 // Assumption that all matches are part of this team when removing
             }
         }
+        recordChange(AddressBookChange.Type.REMOVE_TEAM, toRemove);
     }
 
     /**
@@ -289,6 +470,7 @@ public class AddressBook {
      */
     public void sort() {
         allPlayers.sort();
+        recordChange(AddressBookChange.Type.SORT_PLAYERS);
     }
 
     /**
@@ -296,9 +478,12 @@ public class AddressBook {
      */
     public void clearPlayer() {
         allPlayers.clear();
-        for (Team team : allTeams) {
-            team.clearPlayerList();
-        }
+        allTeams.replaceAll(team -> {
+            final Team changed = new Team(team);
+            changed.clearPlayerList();
+            return changed;
+        });
+        recordChange(AddressBookChange.Type.CLEAR_PLAYERS);
     }
 
     /**
@@ -308,6 +493,7 @@ public class AddressBook {
         allTeams.clear();
         allPlayers.clear();
         allMatches.clear();
+        recordChange(AddressBookChange.Type.CLEAR_TEAMS);
     }
 
     /**
@@ -318,6 +504,7 @@ public class AddressBook {
                          boolean namechange) throws TeamNotFoundException,
             DuplicateTeamException {
         allTeams.edit(toRemove, toReplace, namechange);
+        recordChange(AddressBookChange.Type.EDIT_TEAM, toRemove, toReplace, namechange);
     }
 
     /**
@@ -330,27 +517,25 @@ public class AddressBook {
                         PlayerNotFoundException {
         allMatches.update(toRemove, toReplace);
         for (Name goalScorer : toReplace.getGoalScorers()) {
-            allPlayers.find(goalScorer).addScore();
+            countGoal(goalScorer, 1);
         }
 
-        for (Team team : allTeams) {
-            if (team.getTeamName().toString().equals(toRemove.getHome().toString())) {
-                team.removeMatch(toRemove);
-                team.addMatch(toReplace);
-                team.updatePoints();
-            }
-        }
-        for (Team team : allTeams) {
-            if (team.getTeamName().toString().equals(toRemove.getAway().toString())) {
-                team.removeMatch(toRemove);
-                team.addMatch(toReplace);
-                team.updatePoints();
-            }
-        }
+        updateStanding(toRemove.getHome(), team -> {
+            team.removeMatch(toRemove);
+            team.addMatch(toReplace);
+            team.updatePoints();
+        });
+        updateStanding(toRemove.getAway(), team -> {
+            team.removeMatch(toRemove);
+            team.addMatch(toReplace);
+            team.updatePoints();
+        });
+        recordChange(AddressBookChange.Type.UPDATE_MATCH, toRemove, toReplace);
     }
 
     /**
-     * Defensively copied UniquePlayerList of all players in the League Tracker at the time of the call.
+     * UniquePlayerList of all players in the League Tracker at the time of the call.
+     * Later changes to the League Tracker do not affect it; it shares its contents until either side changes.
      */
     public UniquePlayerList getAllPlayers() {
         return new UniquePlayerList(allPlayers);
@@ -364,23 +549,24 @@ public class AddressBook {
     }
 
     /**
-     * Defensively copied sorted UniqueMatchList of all matches in the League Tracker book at the time of the call.
+     * Sorted UniqueMatchList of all matches in the League Tracker at the time of the call.
+     * Later changes to the League Tracker do not affect it; it shares its contents until either side changes.
      */
     public UniqueMatchList getAllMatches() {
-        allMatches.sort();
         return new UniqueMatchList(allMatches);
     }
 
     /**
-     * Defensively copied sorted UniqueTeamList of all teams in the League Tracker book at the time of the call.
+     * Sorted UniqueTeamList of all teams in the League Tracker at the time of the call.
+     * Later changes to the League Tracker do not affect it; it shares its contents until either side changes.
      */
     public UniqueTeamList getAllTeams() {
-        allTeams.sort();
         return new UniqueTeamList(allTeams);
     }
 
     /**
-     * Defensively copied UniqueFinanceList of all finances in the League Tracker at the time of the call.
+     * UniqueFinanceList of all finances in the League Tracker at the time of the call.
+     * Later changes to the League Tracker do not affect it; it shares its contents until either side changes.
      */
     public UniqueFinanceList getAllFinances() {
         return new UniqueFinanceList(allFinances);
@@ -388,12 +574,22 @@ public class AddressBook {
 
     /**
      * Refresh all finances to match all existing teams in the League Tracker book at the time of the call.
+     * If the finances already match, nothing is changed or recorded, so commands that only show the finances do
+     * not cause a save.
      */
     public void refreshFinance() throws UniqueFinanceList.DuplicateFinanceException {
-        allFinances.clear();
+        final List<Finance> refreshed = new ArrayList<>();
         for (ReadOnlyTeam aTeam : allTeams.immutableListView()) {
-            allFinances.add(new Finance(aTeam));
+            refreshed.add(new Finance(aTeam));
+        }
+        if (refreshed.equals(allFinances.immutableListView())) {
+            return;
         }
+        allFinances.clear();
+        for (Finance finance : refreshed) {
+            allFinances.add(finance);
+        }
+        recordChange(AddressBookChange.Type.REFRESH_FINANCES);
     }
 
     /**
@@ -401,6 +597,7 @@ public class AddressBook {
      */
     public void sortFinance() {
         allFinances.sort();
+        recordChange(AddressBookChange.Type.SORT_FINANCES);
     }
 
     /**
@@ -408,6 +605,7 @@ public class AddressBook {
      */
     public void addFinance(Finance toAdd) throws DuplicateFinanceException {
         allFinances.add(toAdd);
+        recordChange(AddressBookChange.Type.ADD_FINANCE, toAdd);
     }
 
     /**
@@ -422,35 +620,74 @@ public class AddressBook {
     public String computeScore(ReadOnlyMatch toRemove, Match toReplace)
             throws TeamNotFoundException,
                 PlayerNotInTeamException {
-        Team home = allTeams.find(toRemove.getHome());
-        Team away = allTeams.find(toRemove.getAway());
-        int homeScore = countScore(toReplace.getGoalScorers(), home.getPlayers())
-                + countScore(toReplace.getOwnGoalScorers(), away.getPlayers());
-        int awayScore = countScore(toReplace.getGoalScorers(), away.getPlayers())
-                + countScore(toReplace.getOwnGoalScorers(), home.getPlayers());
-        if ((toReplace.getGoalScorers().size() + toReplace.getOwnGoalScorers().size() != (homeScore + awayScore))) {
+        return computeScore(allTeams.find(toRemove.getHome()), allTeams.find(toRemove.getAway()), toReplace);
+    }
+
+    /**
+     * Computes the score of a match between {@code home} and {@code away} given its goal scorers and own goal
+     * scorers. Each scorer is looked up in the rosters once, so this takes time linear in the number of goals.
+     *
+     * @throws PlayerNotInTeamException if any (own)goalScorers is not in either team
+     */
+    private String computeScore(Team home, Team away, ReadOnlyMatch result) throws PlayerNotInTeamException {
+        int homeScore = 0;
+        int awayScore = 0;
+        for (Name scorer : result.getGoalScorers()) {
+            homeScore += home.countPlayersNamed(scorer);
+            awayScore += away.countPlayersNamed(scorer);
+        }
+        for (Name ownGoalScorer : result.getOwnGoalScorers()) {
+            homeScore += away.countPlayersNamed(ownGoalScorer);
+            awayScore += home.countPlayersNamed(ownGoalScorer);
+        }
+        if ((result.getGoalScorers().size() + result.getOwnGoalScorers().size() != (homeScore + awayScore))) {
             throw new PlayerNotInTeamException();
         }
         return homeScore + "-" + awayScore;
     }
 
     /**
-     * Counts the score of each team contributed by either goals or own goals.
+     * Records the results of many matches at once, e.g. a whole matchday. Every match and result is checked and
+     * scored before any match is updated, so a result with an unknown match, team or scorer leaves the League
+     * Tracker unchanged. The matches are updated in the order given.
      *
-     * @param target A list of names of goals scorers/own goal scorers
-     * @param team A list of all teams in League Tracker
-     * @return score of each team contributed by either goals or own goals.
-     */
-    private int countScore (List<Name> target, List <Player> team) {
-        int count = 0;
-        for (Name scorers : target) {
-            for (Player players : team) {
-                if (players.getName().equals(scorers)) {
-                    count++;
-                }
+     * @param toUpdate Matches to be updated, none of them played yet
+     * @param results Matches holding the results, {@code results.get(i)} being the result of {@code toUpdate.get(i)}
+     * @throws MatchNotFoundException if any match to update is not in the League Tracker
+     * @throws MatchUpdatedException if any match to update has been played, or is given more than once
+     * @throws TeamNotFoundException if either team of any match does not exit in LeagueTracker
+     * @throws PlayerNotInTeamException if any (own)goalScorers of any result is not in either team
+     * @throws PlayerNotFoundException if any goal scorer of any result is not in the League Tracker
+     */
+    public void updateMatches(List<? extends ReadOnlyMatch> toUpdate, List<Match> results) throws
+            TeamNotFoundException,
+                PlayerNotInTeamException,
+                    MatchNotFoundException,
+                        MatchUpdatedException,
+                            IllegalValueException,
+                                PlayerNotFoundException {
+        if (toUpdate.size() != results.size()) {
+            throw new IllegalArgumentException("Each match to update needs exactly one result");
+        }
+        final List<String> scores = new ArrayList<>(results.size());
+        final Set<ReadOnlyMatch> checked = new HashSet<>();
+        for (int i = 0; i < toUpdate.size(); i++) {
+            final ReadOnlyMatch match = toUpdate.get(i);
+            if (!match.notPlayed() || !checked.add(match)) {
+                throw new MatchUpdatedException();
             }
+            if (!allMatches.contains(match)) {
+                throw new MatchNotFoundException();
+            }
+            scores.add(computeScore(match, results.get(i)));
+            for (Name goalScorer : results.get(i).getGoalScorers()) {
+                allPlayers.find(goalScorer);
+            }
+        }
+        for (int i = 0; i < toUpdate.size(); i++) {
+            results.get(i).setScore(scores.get(i));
+            updateMatch(toUpdate.get(i), results.get(i));
         }
-        return count;
     }
 
     @Override
@@ -0,0 +1,61 @@
+package seedu.addressbook.data;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Describes a single successful modification made to an {@link AddressBook}.
+ * The operands are the arguments the modifying method was called with, in the same order.
+ */
+public class AddressBookChange {
+
+    /**
+     * The kinds of modification an AddressBook can report.
+     */
+    public enum Type {
+        ADD_PLAYER,
+        REMOVE_PLAYER,
+        EDIT_PLAYER,
+        SORT_PLAYERS,
+        CLEAR_PLAYERS,
+        ADD_TEAM,
+        REMOVE_TEAM,
+        EDIT_TEAM,
+        CLEAR_TEAMS,
+        ADD_MATCH,
+        REMOVE_MATCH,
+        UPDATE_MATCH,
+        CLEAR_MATCHES,
+        ADD_TRANSFER_RECORD,
+        REFRESH_FINANCES,
+        SORT_FINANCES,
+        ADD_FINANCE
+    }
+
+    /**
+     * Receives the changes made to an AddressBook, in the order they were made.
+     */
+    public interface Listener {
+        void onChange(AddressBookChange change);
+    }
+
+    private final Type type;
+    private final List<Object> operands;
+
+    public AddressBookChange(Type type, Object... operands) {
+        this.type = type;
+        this.operands = Collections.unmodifiableList(Arrays.asList(operands));
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the operand at {@code index}, cast to the expected type.
+     */
+    public <T> T getOperand(int index, Class<T> operandType) {
+        return operandType.cast(operands.get(index));
+    }
+}
@@ -70,6 +70,7 @@ public class Finance implements ReadOnlyFinance {
         this.quarterTwo = quarterTwo;
         this.quarterThree = quarterThree;
         this.quarterFour = quarterFour;
+        this.histogram = new Histogram(NUMBER_OF_QUARTER, quarterOne, quarterTwo, quarterThree, quarterFour);
     }
 
     /**
@@ -81,14 +82,10 @@ public class Finance implements ReadOnlyFinance {
     private double getTicketIncomeFromMatches (List<Match> relatedMatches, String teamName) {
         double ticketSale = 0;
         for (Match match : relatedMatches) {
-            if (teamName.equals(match.getHome().toString()) && !match.getHomeSales().value.equals("")) {
-                String homeSalesString = match.getHomeSales().value;
-                double homeSalesValue = Double.valueOf(homeSalesString);
-                ticketSale += homeSalesValue;
-            } else if (teamName.equals(match.getAway().toString()) && !match.getAwaySales().value.equals("")) {
-                String awaySalesString = match.getAwaySales().value;
-                double awaySalesValue = Double.valueOf(awaySalesString);
-                ticketSale += awaySalesValue;
+            if (teamName.equals(match.getHome().toString()) && match.getHomeSales().isRecorded()) {
+                ticketSale += match.getHomeSales().getAmount();
+            } else if (teamName.equals(match.getAway().toString()) && match.getAwaySales().isRecorded()) {
+                ticketSale += match.getAwaySales().getAmount();
             }
         }
         return ticketSale;
@@ -27,7 +27,11 @@ public interface ReadOnlyFinance {
                 && other.getTeamName().equals(this.getTeamName()) // state checks here onwards
                 && other.getSponsor() == this.getSponsor()
                 && other.getTicketIncome() == this.getTicketIncome()
-                && other.getFinance() == this.getFinance());
+                && other.getFinance() == this.getFinance()
+                && other.getQuarterOne() == this.getQuarterOne()
+                && other.getQuarterTwo() == this.getQuarterTwo()
+                && other.getQuarterThree() == this.getQuarterThree()
+                && other.getQuarterFour() == this.getQuarterFour());
     }
 
     default String getAsTextShowSome() {
@@ -1,5 +1,6 @@
 package seedu.addressbook.data.finance;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -32,7 +33,15 @@ public class UniqueFinanceList implements Iterable<Finance> {
      */
     public static class FinanceNotFoundException extends Exception {}
 
-    private final List<Finance> internalList = new ArrayList<>();
+    private List<Finance> internalList = new ArrayList<>();
+
+    /**
+     * True if the internal list may be shared with a copy of this list, in which case it must be copied before
+     * it is changed. Copying a list is then O(1), and only the first change after it is O(n).
+     * Copying a list that is already shared does not write to it, so a shared list that is no longer changed,
+     * such as one in a snapshot, can be copied by many threads at once.
+     */
+    private volatile boolean isShared;
 
     /**
      * Constructs empty finance list.
@@ -61,10 +70,15 @@ public class UniqueFinanceList implements Iterable<Finance> {
     }
 
     /**
-     * Constructs a shallow copy of the list.
+     * Constructs a shallow copy of the list. The copy shares its contents with {@code source} until either
+     * of them is changed.
      */
     public UniqueFinanceList(UniqueFinanceList source) {
-        internalList.addAll(source.internalList);
+        if (!source.isShared) {
+            source.isShared = true;
+        }
+        isShared = true;
+        internalList = source.internalList;
     }
 
     /**
@@ -72,7 +86,17 @@ public class UniqueFinanceList implements Iterable<Finance> {
      * Any changes to the internal list/elements are immediately visible in the returned list.
      */
     public List<ReadOnlyFinance> immutableListView() {
-        return Collections.unmodifiableList(internalList);
+        return new AbstractList<ReadOnlyFinance>() {
+            @Override
+            public ReadOnlyFinance get(int index) {
+                return internalList.get(index);
+            }
+
+            @Override
+            public int size() {
+                return internalList.size();
+            }
+        };
     }
 
     /**
@@ -90,6 +114,7 @@ public class UniqueFinanceList implements Iterable<Finance> {
         if (contains(toAdd)) {
             throw new UniqueFinanceList.DuplicateFinanceException();
         }
+        prepareForWrite();
         internalList.add(toAdd);
     }
 
@@ -97,6 +122,7 @@ public class UniqueFinanceList implements Iterable<Finance> {
      * Removes the equivalent finance from the list.
      */
     public void remove(ReadOnlyFinance toRemove) throws UniqueFinanceList.FinanceNotFoundException {
+        prepareForWrite();
         final boolean financeFoundAndDeleted = internalList.remove(toRemove);
         if (!financeFoundAndDeleted) {
             throw new UniqueFinanceList.FinanceNotFoundException();
@@ -107,7 +133,8 @@ public class UniqueFinanceList implements Iterable<Finance> {
      * Clears all Finances in list.
      */
     public void clear() {
-        internalList.clear();
+        internalList = new ArrayList<>();
+        isShared = false;
     }
 
     /**
@@ -115,13 +142,24 @@ public class UniqueFinanceList implements Iterable<Finance> {
      */
     public void sort() {
         Comparator<Finance> customFinanceCompare = Comparator.comparing(Finance::getFinance);
+        prepareForWrite();
         Collections.sort(internalList, customFinanceCompare);
         Collections.reverse(internalList);
     }
 
+    /**
+     * Gives this list its own copy of the internal list if it may be shared with another list.
+     */
+    private void prepareForWrite() {
+        if (isShared) {
+            internalList = new ArrayList<>(internalList);
+            isShared = false;
+        }
+    }
+
     @Override
     public Iterator<Finance> iterator() {
-        return internalList.iterator();
+        return Collections.unmodifiableList(internalList).iterator();
     }
 
     @Override
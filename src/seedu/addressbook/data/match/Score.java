@@ -7,12 +7,39 @@ public class Score {
 
     public final String fullScore;
 
+    /** Goals of each side, parsed once from {@link #fullScore}; both 0 if the match has not been played. */
+    private final int homeGoals;
+    private final int awayGoals;
+
     /**
      * Constructs given score
-     * @param score
+     * @param score "HOME-AWAY", e.g. "2-1", or an empty string for a match that has not been played
      */
     public Score(String score) {
         this.fullScore = score;
+        final String[] goals = score.split("-");
+        if (goals.length == 2 && isGoalCount(goals[0]) && isGoalCount(goals[1])) {
+            homeGoals = Integer.parseInt(goals[0]);
+            awayGoals = Integer.parseInt(goals[1]);
+        } else {
+            homeGoals = 0;
+            awayGoals = 0;
+        }
+    }
+
+    /**
+     * Returns true if {@code goals} is a number of goals that fits in an int.
+     */
+    private static boolean isGoalCount(String goals) {
+        return goals.matches("\\d{1,9}");
+    }
+
+    public int getHomeGoals() {
+        return homeGoals;
+    }
+
+    public int getAwayGoals() {
+        return awayGoals;
     }
 
     @Override
@@ -14,6 +14,9 @@ public class TicketSales {
 
     public final String value;
 
+    /** Ticket sales as a number, parsed once from {@link #value}; 0 if none are recorded. */
+    private final double amount;
+
     /**
      * Validates given ticket sales amount.
      */
@@ -23,6 +26,7 @@ public class TicketSales {
             throw new IllegalValueException(MESSAGE_TICKETSALES_CONSTRAINTS);
         }
         this.value = ticketSales;
+        this.amount = ticketSales.isEmpty() ? 0 : Double.parseDouble(ticketSales);
     }
 
     /**
@@ -32,6 +36,17 @@ public class TicketSales {
         return test.matches(TICKETSALES_VALIDATION_REGEX);
     }
 
+    /**
+     * Returns true if ticket sales are recorded, which they are not before the match is played.
+     */
+    public boolean isRecorded() {
+        return !value.isEmpty();
+    }
+
+    public double getAmount() {
+        return amount;
+    }
+
     @Override
     public String toString() {
         return value;
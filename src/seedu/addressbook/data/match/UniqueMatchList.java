@@ -1,15 +1,22 @@
 package seedu.addressbook.data.match;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import seedu.addressbook.common.Utils;
 import seedu.addressbook.data.exception.DuplicateDataException;
+import seedu.addressbook.data.player.Name;
 
 /**
  * A list of matches. Does not allow null elements or duplicates.
@@ -42,7 +49,35 @@ public class UniqueMatchList implements Iterable<Match> {
      */
     public static class MatchUpdatedException extends Exception {}
 
-    private final List<Match> internalList = new ArrayList<>();
+    /**
+     * Order in which matches are listed: by date in chronological order, then teams in lexicographical order.
+     */
+    private static final Comparator<ReadOnlyMatch> MATCH_ORDER = Comparator
+            .comparing(ReadOnlyMatch::getDate)
+            .thenComparing(ReadOnlyMatch::getHome)
+            .thenComparing(ReadOnlyMatch::getAway);
+
+    /**
+     * Always kept in {@link #MATCH_ORDER}, so that matches can be listed without sorting, and found by binary
+     * search instead of by scanning the list.
+     */
+    private List<Match> internalList = new ArrayList<>();
+
+    /**
+     * True if the internal list and index may be shared with a copy of this list, in which case they must be
+     * copied before they are changed. Copying a list is then O(1), and only the first change after it is O(n).
+     * Copying a list that is already shared does not write to it, so a shared list that is no longer changed,
+     * such as one in a snapshot, can be copied by many threads at once.
+     */
+    private volatile boolean isShared;
+
+    /**
+     * Index from each goal scorer and own goal scorer to the matches they scored in, each match listed once,
+     * so that renaming a scorer only touches the matches they scored in instead of every match. The lists are
+     * never changed once they are in the index, only replaced, so the index can be shared between copies of this
+     * list.
+     */
+    private Map<Name, List<Match>> scorerIndex = new HashMap<>();
 
     /**
      * Constructs empty match list.
@@ -58,6 +93,8 @@ public class UniqueMatchList implements Iterable<Match> {
             throw new DuplicateMatchException();
         }
         internalList.addAll(initialTags);
+        internalList.sort(MATCH_ORDER);
+        internalList.forEach(this::addToIndex);
     }
 
     /**
@@ -70,13 +107,21 @@ public class UniqueMatchList implements Iterable<Match> {
             throw new DuplicateMatchException();
         }
         internalList.addAll(matches);
+        internalList.sort(MATCH_ORDER);
+        internalList.forEach(this::addToIndex);
     }
 
     /**
-     * Constructs a shallow copy of the list.
+     * Constructs a shallow copy of the list. The copy shares its contents with {@code source} until either
+     * of them is changed.
      */
     public UniqueMatchList(UniqueMatchList source) {
-        internalList.addAll(source.internalList);
+        if (!source.isShared) {
+            source.isShared = true;
+        }
+        isShared = true;
+        internalList = source.internalList;
+        scorerIndex = source.scorerIndex;
     }
 
     /**
@@ -85,7 +130,17 @@ public class UniqueMatchList implements Iterable<Match> {
      * Any changes to the internal list/elements are immediately visible in the returned list.
      */
     public List<ReadOnlyMatch> immutableListView() {
-        return Collections.unmodifiableList(internalList);
+        return new AbstractList<ReadOnlyMatch>() {
+            @Override
+            public ReadOnlyMatch get(int index) {
+                return internalList.get(index);
+            }
+
+            @Override
+            public int size() {
+                return internalList.size();
+            }
+        };
     }
 
 
@@ -93,7 +148,7 @@ public class UniqueMatchList implements Iterable<Match> {
      * Checks if the list contains an equivalent match as the given argument.
      */
     public boolean contains(ReadOnlyMatch toCheck) {
-        return internalList.contains(toCheck);
+        return indexOf(toCheck) >= 0;
     }
 
     /**
@@ -105,7 +160,39 @@ public class UniqueMatchList implements Iterable<Match> {
         if (contains(toAdd)) {
             throw new DuplicateMatchException();
         }
-        internalList.add(toAdd);
+        prepareForWrite();
+        insertInOrder(toAdd);
+        addToIndex(toAdd);
+    }
+
+    /**
+     * Checks that every match in {@code toAdd} could be added to the list, without changing the list.
+     *
+     * @throws DuplicateMatchException if a match is already in the list or appears twice in {@code toAdd}.
+     */
+    public void checkCanAddAll(Collection<? extends ReadOnlyMatch> toAdd) throws DuplicateMatchException {
+        if (!Utils.elementsAreUnique(toAdd)) {
+            throw new DuplicateMatchException();
+        }
+        for (ReadOnlyMatch match : toAdd) {
+            if (contains(match)) {
+                throw new DuplicateMatchException();
+            }
+        }
+    }
+
+    /**
+     * Adds all of the given matches to the list, sorting it once instead of once per match.
+     * Either all of the matches are added or, if any of them cannot be, none are.
+     *
+     * @throws DuplicateMatchException if a match is already in the list or appears twice in {@code toAdd}.
+     */
+    public void addAll(Collection<Match> toAdd) throws DuplicateMatchException {
+        checkCanAddAll(toAdd);
+        prepareForWrite();
+        internalList.addAll(toAdd);
+        internalList.sort(MATCH_ORDER);
+        toAdd.forEach(this::addToIndex);
     }
 
     /**
@@ -114,28 +201,32 @@ public class UniqueMatchList implements Iterable<Match> {
      * @throws MatchNotFoundException if no such match could be found in the list.
      */
     public void remove(ReadOnlyMatch toRemove) throws MatchNotFoundException {
-        final boolean matchFoundAndDeleted = internalList.remove(toRemove);
-        if (!matchFoundAndDeleted) {
+        final int index = indexOf(toRemove);
+        if (index < 0) {
             throw new MatchNotFoundException();
         }
+        prepareForWrite();
+        removeFromIndex(internalList.remove(index));
     }
 
     /**
      * Sorts matches by date in chronological order, then teams in lexicographical order.
+     * A list that is already sorted is left untouched, so it stays shared with its copies.
      */
     public void sort () {
-        Comparator<Match> customMatchCompare = Comparator
-                .comparing(Match::getDate)
-                .thenComparing(Match::getHome)
-                .thenComparing(Match::getAway);
-        Collections.sort(internalList, customMatchCompare);
+        if (!isSorted(MATCH_ORDER)) {
+            prepareForWrite();
+            Collections.sort(internalList, MATCH_ORDER);
+        }
     }
 
     /**
      * Clears all matches in list.
      */
     public void clear() {
-        internalList.clear();
+        internalList = new ArrayList<>();
+        scorerIndex = new HashMap<>();
+        isShared = false;
     }
 
     /**
@@ -147,16 +238,140 @@ public class UniqueMatchList implements Iterable<Match> {
         if (!toRemove.notPlayed()) {
             throw new MatchUpdatedException();
         }
-        final boolean matchFoundAndDeleted = internalList.remove(toRemove);
-        if (!matchFoundAndDeleted) {
+        final int index = indexOf(toRemove);
+        if (index < 0) {
             throw new MatchNotFoundException();
         }
-        internalList.add(toReplace);
+        prepareForWrite();
+        removeFromIndex(internalList.remove(index));
+        insertInOrder(toReplace);
+        addToIndex(toReplace);
+    }
+
+    /**
+     * Replaces {@code oldName} with {@code newName} in the goal scorers and own goal scorers of every match.
+     * Only the matches in which {@code oldName} scored are touched. As they may be shared with copies of this list,
+     * each of them is replaced by a renamed copy instead of being changed.
+     *
+     * @return the renamed copy of each match that was replaced, keyed by the match it replaced
+     */
+    public Map<Match, Match> renameScorer(Name oldName, Name newName) {
+        final List<Match> scoredIn = scorerIndex.get(oldName);
+        if (scoredIn == null) {
+            return Collections.emptyMap();
+        }
+        prepareForWrite();
+        final Map<Match, Match> renamed = new LinkedHashMap<>();
+        for (Match match : scoredIn) {
+            final Match copy = new Match(match);
+            copy.setGoalScorers(rename(copy.getGoalScorers(), oldName, newName));
+            copy.setOwnGoalScorers(rename(copy.getOwnGoalScorers(), oldName, newName));
+            // renaming a scorer does not change the order of the matches, so the copy takes the same place
+            internalList.set(indexOf(match), copy);
+            removeFromIndex(match);
+            addToIndex(copy);
+            renamed.put(match, copy);
+        }
+        return renamed;
+    }
+
+    /**
+     * Returns {@code names} with every occurrence of {@code oldName} replaced by {@code newName}.
+     */
+    private static List<Name> rename(List<Name> names, Name oldName, Name newName) {
+        names.replaceAll(name -> name.equals(oldName) ? newName : name);
+        return names;
+    }
+
+    /**
+     * Returns each goal scorer and own goal scorer of {@code match} once.
+     */
+    private static Set<Name> scorersOf(ReadOnlyMatch match) {
+        final Set<Name> scorers = new LinkedHashSet<>(match.getGoalScorers());
+        scorers.addAll(match.getOwnGoalScorers());
+        return scorers;
+    }
+
+    /**
+     * Adds {@code match} to the index entry of each of its scorers.
+     */
+    private void addToIndex(Match match) {
+        for (Name scorer : scorersOf(match)) {
+            final List<Match> scoredIn = new ArrayList<>(scorerIndex.getOrDefault(scorer, Collections.emptyList()));
+            scoredIn.add(match);
+            scorerIndex.put(scorer, scoredIn);
+        }
+    }
+
+    /**
+     * Drops {@code match} from the index entry of each of its scorers.
+     */
+    private void removeFromIndex(Match match) {
+        for (Name scorer : scorersOf(match)) {
+            final List<Match> scoredIn = new ArrayList<>(scorerIndex.getOrDefault(scorer, Collections.emptyList()));
+            scoredIn.removeIf(indexed -> indexed == match);
+            if (scoredIn.isEmpty()) {
+                scorerIndex.remove(scorer);
+            } else {
+                scorerIndex.put(scorer, scoredIn);
+            }
+        }
+    }
+
+    /**
+     * Returns the position of the match equivalent to {@code target}, or -1 if there is none.
+     * Only the matches on the same date between the same teams are compared, and they are found by binary search.
+     */
+    private int indexOf(ReadOnlyMatch target) {
+        int index = Collections.binarySearch(internalList, target, MATCH_ORDER);
+        if (index < 0) {
+            return -1;
+        }
+        while (index > 0 && MATCH_ORDER.compare(internalList.get(index - 1), target) == 0) {
+            index--;
+        }
+        for (; index < internalList.size() && MATCH_ORDER.compare(internalList.get(index), target) == 0; index++) {
+            if (internalList.get(index).equals(target)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Inserts {@code match} at its place in {@link #MATCH_ORDER}. The list must not be shared.
+     */
+    private void insertInOrder(Match match) {
+        final int index = Collections.binarySearch(internalList, match, MATCH_ORDER);
+        internalList.add(index < 0 ? -index - 1 : index, match);
+    }
+
+    /**
+     * Returns true if the list is already in the order given by {@code comparator}.
+     */
+    private boolean isSorted(Comparator<? super Match> comparator) {
+        for (int i = 1; i < internalList.size(); i++) {
+            if (comparator.compare(internalList.get(i - 1), internalList.get(i)) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gives this list its own copy of the internal list if it may be shared with another list.
+     */
+    private void prepareForWrite() {
+        if (isShared) {
+            internalList = new ArrayList<>(internalList);
+            scorerIndex = new HashMap<>(scorerIndex);
+            isShared = false;
+        }
     }
 
     @Override
     public Iterator<Match> iterator() {
-        return internalList.iterator();
+        return Collections.unmodifiableList(internalList).iterator();
     }
 
     @Override
@@ -15,6 +15,9 @@ public class Age {
 
     public final String value;
 
+    /** Age in years, parsed once from {@link #value}. */
+    private final int years;
+
     /**
      * Validates given age.
      *
@@ -27,6 +30,7 @@ public class Age {
             throw new IllegalValueException(MESSAGE_AGE_CONSTRAINTS);
         }
         this.value = age;
+        this.years = Integer.parseInt(age);
     }
 
     /**
@@ -42,6 +46,10 @@ public class Age {
         }
     }
 
+    public int getYears() {
+        return years;
+    }
+
     @Override
     public String toString() {
         return value;
@@ -14,6 +14,9 @@ public class Appearance {
 
 
     public final String value;
+
+    /** Appearances as a number, parsed once from {@link #value}. */
+    private final int appearances;
     /**
      * Validates given appearance number.
      *
@@ -26,6 +29,7 @@ public class Appearance {
             throw new IllegalValueException(MESSAGE_APPEARANCE_CONSTRAINTS);
         }
         this.value = appearance;
+        this.appearances = Integer.parseInt(appearance);
     }
 
     /**
@@ -41,6 +45,10 @@ public class Appearance {
     }
 
 
+    public int getAppearances() {
+        return appearances;
+    }
+
     @Override
     public String toString() {
         return value;
@@ -13,6 +13,9 @@ public class GoalsAssisted {
 
     public final String value;
 
+    /** Assists as a number, parsed once from {@link #value}. */
+    private final int assists;
+
     /**
      * Validates given No. of assists.
      *
@@ -25,6 +28,7 @@ public class GoalsAssisted {
             throw new IllegalValueException(MESSAGE_GA_CONSTRAINTS);
         }
         this.value = ga;
+        this.assists = Integer.parseInt(ga);
     }
 
     /**
@@ -40,6 +44,10 @@ public class GoalsAssisted {
         }
     }
 
+    public int getAssists() {
+        return assists;
+    }
+
     @Override
     public String toString() {
         return value;
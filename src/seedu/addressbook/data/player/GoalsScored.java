@@ -12,6 +12,9 @@ public class GoalsScored {
     public static final String GS_VALIDATION_REGEX = "\\d+";
     public final String value;
 
+    /** Goals scored as a number, parsed once from {@link #value}. */
+    private final int goals;
+
     /**
      * Validates given goals scored.
      *
@@ -24,6 +27,7 @@ public class GoalsScored {
             throw new IllegalValueException(MESSAGE_GS_CONSTRAINTS);
         }
         this.value = gs;
+        this.goals = Integer.parseInt(gs);
     }
 
     /**
@@ -39,6 +43,10 @@ public class GoalsScored {
 
     }
 
+    public int getGoals() {
+        return goals;
+    }
+
     @Override
     public String toString() {
         return value;
@@ -13,6 +13,9 @@ public class JerseyNumber {
 
     public final String value;
 
+    /** Jersey number as a number, parsed once from {@link #value}. */
+    private final int number;
+
     /**
      * Validates given jersey number.
      *
@@ -25,6 +28,7 @@ public class JerseyNumber {
             throw new IllegalValueException(MESSAGE_JN_CONSTRAINTS);
         }
         this.value = jn;
+        this.number = Integer.parseInt(jn);
     }
 
     /**
@@ -39,6 +43,10 @@ public class JerseyNumber {
         }
     }
 
+    public int getNumber() {
+        return number;
+    }
+
     @Override
     public String toString() {
         return value;
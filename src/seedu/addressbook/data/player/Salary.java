@@ -14,6 +14,9 @@ public class Salary {
 
     public final String value;
 
+    /** Salary as a number, parsed once from {@link #value}. */
+    private final double amount;
+
 
     /**
      * Validates given player salary.
@@ -26,6 +29,7 @@ public class Salary {
             throw new IllegalValueException(MESSAGE_SALARY_CONSTRAINTS);
         }
         this.value = salary;
+        this.amount = Double.parseDouble(salary);
     }
 
     /**
@@ -40,6 +44,10 @@ public class Salary {
         }
     }
 
+    public double getAmount() {
+        return amount;
+    }
+
     @Override
     public String toString() {
         return value;
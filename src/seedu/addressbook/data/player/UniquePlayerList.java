@@ -1,15 +1,22 @@
 package seedu.addressbook.data.player;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
 
 import seedu.addressbook.common.Utils;
 import seedu.addressbook.data.exception.DuplicateDataException;
+import seedu.addressbook.data.team.TeamName;
 
 /**
  * A list of players. Does not allow null elements or duplicates.
@@ -49,7 +56,30 @@ public class UniquePlayerList implements Iterable<Player> {
      */
     public static class PlayerNotInTeamException extends Exception {}
 
-    private final List<Player> internalList = new ArrayList<>();
+    private List<Player> internalList = new ArrayList<>();
+
+    /**
+     * Secondary indexes over {@link #internalList} so that duplicate checks and lookups do not scan the list.
+     * Both must be kept consistent with the internal list by every mutating method.
+     */
+    private Map<String, Player> nameIndex = new HashMap<>();
+    private Map<String, Player> jerseyIndex = new HashMap<>();
+
+    /**
+     * For each key that more than one player in the list has, the number of those players not indexed under it.
+     * Only lists loaded from older files have such keys, so these are usually empty, and a removal only has to
+     * look for another player with the key when the key is found here.
+     */
+    private Map<String, Integer> unindexedNameCounts = new HashMap<>();
+    private Map<String, Integer> unindexedJerseyCounts = new HashMap<>();
+
+    /**
+     * True if the internal list and indexes may be shared with a copy of this list, in which case they must be
+     * copied before they are changed. Copying a list is then O(1), and only the first change after it is O(n).
+     * Copying a list that is already shared does not write to it, so a shared list that is no longer changed,
+     * such as one in a snapshot, can be copied by many threads at once.
+     */
+    private volatile boolean isShared;
 
     /**
      * Constructs empty player list.
@@ -67,6 +97,7 @@ public class UniquePlayerList implements Iterable<Player> {
             throw new DuplicatePlayerException();
         }
         internalList.addAll(initialTags);
+        rebuildIndexes();
     }
 
     /**
@@ -80,14 +111,24 @@ public class UniquePlayerList implements Iterable<Player> {
             throw new DuplicatePlayerException();
         }
         internalList.addAll(players);
+        rebuildIndexes();
     }
 
     /**
-     * Constructs a shallow copy of the list.
+     * Constructs a shallow copy of the list. The copy shares its contents with {@code source} until either
+     * of them is changed.
      */
 
     public UniquePlayerList(UniquePlayerList source) {
-        internalList.addAll(source.internalList);
+        if (!source.isShared) {
+            source.isShared = true;
+        }
+        isShared = true;
+        internalList = source.internalList;
+        nameIndex = source.nameIndex;
+        jerseyIndex = source.jerseyIndex;
+        unindexedNameCounts = source.unindexedNameCounts;
+        unindexedJerseyCounts = source.unindexedJerseyCounts;
     }
 
     /**
@@ -97,19 +138,24 @@ public class UniquePlayerList implements Iterable<Player> {
      */
 
     public List<ReadOnlyPlayer> immutableListView() {
-        return Collections.unmodifiableList(internalList);
+        return new AbstractList<ReadOnlyPlayer>() {
+            @Override
+            public ReadOnlyPlayer get(int index) {
+                return internalList.get(index);
+            }
+
+            @Override
+            public int size() {
+                return internalList.size();
+            }
+        };
     }
 
     /**
      * Checks if the list contains an equivalent player as the given argument.
      */
     public boolean contains(ReadOnlyPlayer toCheck) {
-        for (Player player: internalList) {
-            if (player.getName().toString().equals(toCheck.getName().toString())) {
-                return true;
-            }
-        }
-        return internalList.contains(toCheck);
+        return nameIndex.containsKey(nameKey(toCheck.getName()));
     }
 
     /**
@@ -118,14 +164,7 @@ public class UniquePlayerList implements Iterable<Player> {
      * @return a Boolean value indicating whether the player with same jersey number in same team already exists
      */
     public boolean containsSameJnSameTm(ReadOnlyPlayer toCheck) {
-        for (Player player: internalList) {
-            if (player.getTeamName().toString().equals(toCheck.getTeamName().toString())) {
-                if (player.getJerseyNumber().toString().equals(toCheck.getJerseyNumber().toString())) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return jerseyIndex.containsKey(jerseyKey(toCheck.getTeamName(), toCheck.getJerseyNumber()));
     }
 
     /**
@@ -142,7 +181,47 @@ public class UniquePlayerList implements Iterable<Player> {
         if (containsSameJnSameTm(toAdd)) {
             throw new DuplicateJerseyInSameTeamException();
         }
+        prepareForWrite();
         internalList.add(toAdd);
+        addToIndexes(toAdd);
+    }
+
+    /**
+     * Checks that every player in {@code toAdd} could be added to the list, without changing the list.
+     *
+     * @throws DuplicatePlayerException if a player is already in the list or appears twice in {@code toAdd}.
+     * @throws DuplicateJerseyInSameTeamException if a jersey number is already taken in a team, or is given to
+     *     two players of the same team in {@code toAdd}
+     */
+    public void checkCanAddAll(Collection<? extends ReadOnlyPlayer> toAdd)
+            throws DuplicatePlayerException, DuplicateJerseyInSameTeamException {
+        final Set<String> batchNameKeys = new HashSet<>();
+        final Set<String> batchJerseyKeys = new HashSet<>();
+        for (ReadOnlyPlayer player : toAdd) {
+            final String nameKey = nameKey(player.getName());
+            if (nameIndex.containsKey(nameKey) || !batchNameKeys.add(nameKey)) {
+                throw new DuplicatePlayerException();
+            }
+            final String jerseyKey = jerseyKey(player.getTeamName(), player.getJerseyNumber());
+            if (jerseyIndex.containsKey(jerseyKey) || !batchJerseyKeys.add(jerseyKey)) {
+                throw new DuplicateJerseyInSameTeamException();
+            }
+        }
+    }
+
+    /**
+     * Adds all of the given players to the list. Either all of them are added or, if any of them cannot be,
+     * none are.
+     *
+     * @throws DuplicatePlayerException if a player is already in the list or appears twice in {@code toAdd}.
+     * @throws DuplicateJerseyInSameTeamException if a jersey number is already taken in a team, or is given to
+     *     two players of the same team in {@code toAdd}
+     */
+    public void addAll(Collection<Player> toAdd) throws DuplicatePlayerException, DuplicateJerseyInSameTeamException {
+        checkCanAddAll(toAdd);
+        prepareForWrite();
+        internalList.addAll(toAdd);
+        toAdd.forEach(this::addToIndexes);
     }
 
     /**
@@ -152,10 +231,13 @@ public class UniquePlayerList implements Iterable<Player> {
      */
 
     public void remove(ReadOnlyPlayer toRemove) throws PlayerNotFoundException {
-        final boolean playerFoundAndDeleted = internalList.remove(toRemove);
-        if (!playerFoundAndDeleted) {
+        final int index = internalList.indexOf(toRemove);
+        if (index < 0) {
             throw new PlayerNotFoundException();
         }
+        prepareForWrite();
+        internalList.remove(index);
+        removeFromIndexes(toRemove);
     }
 
     /**
@@ -164,28 +246,81 @@ public class UniquePlayerList implements Iterable<Player> {
      * @param toEdit    the target player to be edited
      * @param newPlayer the target player with edited profile
      * @throws PlayerNotFoundException if no such player could be found in the list
+     * @throws DuplicatePlayerException if another player in the list already has the new name
+     * @throws DuplicateJerseyInSameTeamException if another player in the team already has the new jersey number
      */
 
-    public void edit(ReadOnlyPlayer toEdit, Player newPlayer) throws PlayerNotFoundException {
-        final boolean playerFoundAndDeleted = internalList.remove(toEdit);
-        if (!playerFoundAndDeleted) {
+    public void edit(ReadOnlyPlayer toEdit, Player newPlayer)
+            throws PlayerNotFoundException, DuplicatePlayerException, DuplicateJerseyInSameTeamException {
+        final int index = internalList.indexOf(toEdit);
+        if (index < 0) {
             throw new PlayerNotFoundException();
         }
+        if (isHeldByAnother(nameIndex, nameKey(newPlayer.getName()), toEdit)) {
+            throw new DuplicatePlayerException();
+        }
+        if (isHeldByAnother(jerseyIndex, jerseyKey(newPlayer.getTeamName(), newPlayer.getJerseyNumber()), toEdit)) {
+            throw new DuplicateJerseyInSameTeamException();
+        }
+        prepareForWrite();
+        internalList.remove(index);
+        removeFromIndexes(toEdit);
         internalList.add(newPlayer);
+        addToIndexes(newPlayer);
+    }
+
+    /**
+     * Puts {@code changed} in the place of {@code player}. Only for changes that keep the player's name, team and
+     * jersey number, such as the number of goals scored.
+     *
+     * @throws PlayerNotFoundException if {@code player} is not in the list
+     */
+    public void replace(Player player, Player changed) throws PlayerNotFoundException {
+        final int index = internalList.indexOf(player);
+        if (index < 0) {
+            throw new PlayerNotFoundException();
+        }
+        prepareForWrite();
+        internalList.set(index, changed);
+        final String nameKey = nameKey(player.getName());
+        if (nameIndex.get(nameKey) == player) {
+            nameIndex.put(nameKey, changed);
+        }
+        final String jerseyKey = jerseyKey(player.getTeamName(), player.getJerseyNumber());
+        if (jerseyIndex.get(jerseyKey) == player) {
+            jerseyIndex.put(jerseyKey, changed);
+        }
+    }
+
+    /**
+     * Replaces every player with the player {@code change} returns for it. Only for changes that keep the
+     * players' names, teams and jersey numbers.
+     */
+    public void replaceAll(UnaryOperator<Player> change) {
+        prepareForWrite();
+        internalList.replaceAll(change);
+        rebuildIndexes();
     }
 
     /**
      * Clears all players in list.
      */
     public void clear() {
-        internalList.clear();
+        internalList = new ArrayList<>();
+        nameIndex = new HashMap<>();
+        jerseyIndex = new HashMap<>();
+        unindexedNameCounts = new HashMap<>();
+        unindexedJerseyCounts = new HashMap<>();
+        isShared = false;
     }
 
     /**
      * Sort all players in list by ascending alphabetical order.
+     * Only the order of the list changes, so the indexes stay valid.
      */
     public void sort() {
         Comparator<Player> customPlayerCompare = Comparator.comparing(Player::getName);
+        prepareForWrite();
         Collections.sort(internalList, customPlayerCompare);
     }
 
@@ -197,17 +332,131 @@ public class UniquePlayerList implements Iterable<Player> {
      * @throws PlayerNotFoundException if player is not found
      */
     public Player find (Name target) throws PlayerNotFoundException {
+        final Player player = nameIndex.get(nameKey(target));
+        if (player == null) {
+            throw new PlayerNotFoundException();
+        }
+        return player;
+    }
+
+    /**
+     * Returns the key used to index a player by name.
+     */
+    private static String nameKey(Name name) {
+        return name.fullName;
+    }
+
+    /**
+     * Returns the key used to index a player by team and jersey number.
+     */
+    private static String jerseyKey(TeamName teamName, JerseyNumber jerseyNumber) {
+        return teamName.fullName + "/" + jerseyNumber.value;
+    }
+
+    /**
+     * Indexes the given player. The first player indexed under a key wins, mirroring a front-to-back scan.
+     */
+    private void addToIndexes(Player player) {
+        addToIndex(nameIndex, unindexedNameCounts, nameKey(player.getName()), player);
+        addToIndex(jerseyIndex, unindexedJerseyCounts, jerseyKey(player.getTeamName(), player.getJerseyNumber()),
+                player);
+    }
+
+    /**
+     * Indexes {@code player} under {@code key}, or counts it as not indexed if another player already holds the key.
+     */
+    private static void addToIndex(Map<String, Player> index, Map<String, Integer> unindexedCounts, String key,
+                                   Player player) {
+        if (index.putIfAbsent(key, player) != null) {
+            unindexedCounts.merge(key, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Returns true if {@code key} is indexed under a player other than {@code player}.
+     */
+    private static boolean isHeldByAnother(Map<String, Player> index, String key, ReadOnlyPlayer player) {
+        final Player holder = index.get(key);
+        return holder != null && !holder.equals(player);
+    }
+
+    /**
+     * Drops the index entries of a player that has just been removed from the internal list. If another player
+     * in the list has the same key, which a list loaded from an older file may have, the key is given to the
+     * first such player instead, so the index keeps matching a front-to-back scan. The list is only scanned for
+     * that player when the key is known to be shared.
+     */
+    private void removeFromIndexes(ReadOnlyPlayer removed) {
+        final String nameKey = nameKey(removed.getName());
+        final String jerseyKey = jerseyKey(removed.getTeamName(), removed.getJerseyNumber());
+        final boolean isNameReassigned = removeFromIndex(nameIndex, unindexedNameCounts, nameKey, removed);
+        final boolean isJerseyReassigned = removeFromIndex(jerseyIndex, unindexedJerseyCounts, jerseyKey, removed);
+        if (!isNameReassigned && !isJerseyReassigned) {
+            return;
+        }
         for (Player player : internalList) {
-            if (player.getName().equals(target)) {
-                return player;
+            if (isNameReassigned && nameKey(player.getName()).equals(nameKey)) {
+                nameIndex.putIfAbsent(nameKey, player);
             }
+            if (isJerseyReassigned && jerseyKey(player.getTeamName(), player.getJerseyNumber()).equals(jerseyKey)) {
+                jerseyIndex.putIfAbsent(jerseyKey, player);
+            }
+        }
+    }
+
+    /**
+     * Drops {@code removed} from under {@code key}, and returns true if the key must then be given to another
+     * player that has it.
+     */
+    private static boolean removeFromIndex(Map<String, Player> index, Map<String, Integer> unindexedCounts,
+                                           String key, ReadOnlyPlayer removed) {
+        final Integer unindexedCount = unindexedCounts.get(key);
+        if (unindexedCount == null) {
+            // no other player has the key
+            index.remove(key);
+            return false;
         }
-        throw new PlayerNotFoundException();
+        if (unindexedCount == 1) {
+            unindexedCounts.remove(key);
+        } else {
+            unindexedCounts.put(key, unindexedCount - 1);
+        }
+        if (!removed.equals(index.get(key))) {
+            // one of the players not indexed under the key was removed, so the key stays where it is
+            return false;
+        }
+        index.remove(key);
+        return true;
+    }
+
+    /**
+     * Gives this list its own copy of the internal list and indexes if they may be shared with another list.
+     */
+    private void prepareForWrite() {
+        if (isShared) {
+            internalList = new ArrayList<>(internalList);
+            nameIndex = new HashMap<>(nameIndex);
+            jerseyIndex = new HashMap<>(jerseyIndex);
+            unindexedNameCounts = new HashMap<>(unindexedNameCounts);
+            unindexedJerseyCounts = new HashMap<>(unindexedJerseyCounts);
+            isShared = false;
+        }
+    }
+
+    /**
+     * Rebuilds both indexes from the internal list.
+     */
+    private void rebuildIndexes() {
+        nameIndex.clear();
+        jerseyIndex.clear();
+        unindexedNameCounts.clear();
+        unindexedJerseyCounts.clear();
+        internalList.forEach(this::addToIndexes);
     }
 
     @Override
     public Iterator<Player> iterator() {
-        return internalList.iterator();
+        return Collections.unmodifiableList(internalList).iterator();
     }
 
     @Override
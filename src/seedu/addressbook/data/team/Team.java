@@ -1,14 +1,17 @@
 package seedu.addressbook.data.team;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
 import seedu.addressbook.data.exception.IllegalValueException;
 import seedu.addressbook.data.match.Match;
 import seedu.addressbook.data.match.ReadOnlyMatch;
+import seedu.addressbook.data.player.Name;
 import seedu.addressbook.data.player.Player;
 import seedu.addressbook.data.player.ReadOnlyPlayer;
 import seedu.addressbook.data.tag.Tag;
@@ -31,6 +34,8 @@ public class Team implements ReadOnlyTeam {
     private final List<Player> playerlist = new ArrayList<>();
     private final List<Match> matchlist = new ArrayList<>();
     private final Set<Tag> tags = new HashSet<>();
+    /** Number of players in the roster with each name, so scorers can be checked without scanning the roster. */
+    private final Map<Name, Integer> rosterNames = new HashMap<>();
     /**
      * Assumption: Every field must be present and not null.
      */
@@ -48,7 +53,7 @@ public class Team implements ReadOnlyTeam {
         this.draw = 0;
         this.points = 0;
         this.matchlist.addAll(matchlist);
-        this.playerlist.addAll(playerlist);
+        playerlist.forEach(this::addPlayer);
         this.tags.addAll(tags);
     }
 
@@ -70,10 +75,18 @@ public class Team implements ReadOnlyTeam {
         this.draw = draw;
         this.points = points;
         this.matchlist.addAll(matchlist);
-        this.playerlist.addAll(playerlist);
+        playerlist.forEach(this::addPlayer);
         this.tags.addAll(tags);
     }
 
+    /**
+     * Copy constructor. The copy has its own roster and match list, holding the same players and matches.
+     */
+    public Team(ReadOnlyTeam source) {
+        this(source.getTeamName(), source.getCountry(), source.getSponsor(), source.getWins(), source.getLoses(),
+                source.getDraws(), source.getPoints(), source.getMatches(), source.getPlayers(), source.getTags());
+    }
+
     @Override
     public List<Player> getPlayers() {
         return new ArrayList<>(playerlist);
@@ -138,16 +151,49 @@ public class Team implements ReadOnlyTeam {
         this.points = 0;
     }
 
+    /**
+     * Adds the player to the roster.
+     */
     public void addPlayer(Player player) {
         this.playerlist.add(player);
+        rosterNames.merge(player.getName(), 1, Integer::sum);
     }
 
+    /**
+     * Removes the player from the roster, if present.
+     */
     public void removePlayer(ReadOnlyPlayer player) {
-        this.playerlist.remove(player);
+        if (this.playerlist.remove(player)) {
+            rosterNames.computeIfPresent(player.getName(), (name, count) -> count == 1 ? null : count - 1);
+        }
+    }
+
+    /**
+     * Puts {@code replacement} in the place of {@code player} in the roster, if {@code player} is in it.
+     */
+    public void replacePlayer(ReadOnlyPlayer player, Player replacement) {
+        final int index = this.playerlist.indexOf(player);
+        if (index < 0) {
+            return;
+        }
+        this.playerlist.set(index, replacement);
+        rosterNames.computeIfPresent(player.getName(), (name, count) -> count == 1 ? null : count - 1);
+        rosterNames.merge(replacement.getName(), 1, Integer::sum);
     }
 
+    /**
+     * Removes every player from the roster.
+     */
     public void clearPlayerList() {
         this.playerlist.clear();
+        rosterNames.clear();
+    }
+
+    /**
+     * Returns the number of players in the roster with the given name.
+     */
+    public int countPlayersNamed(Name name) {
+        return rosterNames.getOrDefault(name, 0);
     }
 
 
@@ -157,28 +203,7 @@ public class Team implements ReadOnlyTeam {
 
     public void addMatch(Match match) {
         this.matchlist.add(match);
-        if (teamName.equals(match.getHome()) && !match.notPlayed()) {
-            String result = match.getScore().toString();
-            String[] score = result.split("-");
-            if (Integer.valueOf(score[0]) > Integer.valueOf(score[1])) {
-                this.win++;
-            } else if (Integer.valueOf(score[0]) < Integer.valueOf(score[1])) {
-                this.lose++;
-            } else {
-                this.draw++;
-            }
-        }
-        if (teamName.equals(match.getAway()) && !match.notPlayed()) {
-            String result = match.getScore().toString();
-            String[] score = result.split("-");
-            if (Integer.valueOf(score[1]) > Integer.valueOf(score[0])) {
-                this.win++;
-            } else if (Integer.valueOf(score[1]) < Integer.valueOf(score[0])) {
-                this.lose++;
-            } else {
-                this.draw++;
-            }
-        }
+        countResult(match, 1);
     }
 
     /**
@@ -188,27 +213,31 @@ public class Team implements ReadOnlyTeam {
 
     public void removeMatch(ReadOnlyMatch match) {
         this.matchlist.remove(match);
-        if (teamName.equals(match.getHome()) && !match.notPlayed()) {
-            String result = match.getScore().toString();
-            String[] score = result.split("-");
-            if (Integer.valueOf(score[0]) > Integer.valueOf(score[1])) {
-                this.win--;
-            } else if (Integer.valueOf(score[0]) < Integer.valueOf(score[1])) {
-                this.lose--;
-            } else {
-                this.draw--;
-            }
+        countResult(match, -1);
+    }
+
+    /**
+     * Adds {@code change} to the win, lose or draw counter for the result of {@code match}, if this team
+     * played in it and it has been played.
+     */
+    private void countResult(ReadOnlyMatch match, int change) {
+        if (match.notPlayed()) {
+            return;
+        }
+        final int difference;
+        if (teamName.equals(match.getHome())) {
+            difference = match.getScore().getHomeGoals() - match.getScore().getAwayGoals();
+        } else if (teamName.equals(match.getAway())) {
+            difference = match.getScore().getAwayGoals() - match.getScore().getHomeGoals();
+        } else {
+            return;
         }
-        if (teamName.equals(match.getAway()) && !match.notPlayed()) {
-            String result = match.getScore().toString();
-            String[] score = result.split("-");
-            if (Integer.valueOf(score[1]) > Integer.valueOf(score[0])) {
-                this.win--;
-            } else if (Integer.valueOf(score[1]) < Integer.valueOf(score[0])) {
-                this.lose--;
-            } else {
-                this.draw--;
-            }
+        if (difference > 0) {
+            this.win += change;
+        } else if (difference < 0) {
+            this.lose += change;
+        } else {
+            this.draw += change;
         }
     }
 
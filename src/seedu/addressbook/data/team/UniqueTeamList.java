@@ -1,12 +1,19 @@
 package seedu.addressbook.data.team;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
 
 import seedu.addressbook.common.Utils;
 import seedu.addressbook.data.exception.DuplicateDataException;
@@ -32,7 +39,30 @@ public class UniqueTeamList implements Iterable<Team> {
      */
     public static class TeamNotFoundException extends Exception {}
 
-    private final List<Team> internalList = new ArrayList<>();
+    /**
+     * Order of the league table: most points first, then fewest losses, then by name.
+     */
+    private static final Comparator<Team> STANDINGS_ORDER = Comparator
+            .comparing(Team::getPoints).reversed()
+            .thenComparing(Team::getLoses)
+            .thenComparing(Team::getTeamName);
+
+    /** Always kept in {@link #STANDINGS_ORDER}, so that the league table can be read without sorting. */
+    private List<Team> internalList = new ArrayList<>();
+
+    /**
+     * Index over {@link #internalList} by team name, ignoring case as duplicate checks do, so that teams can be
+     * found without scanning the list. It must be kept consistent with the internal list by every mutating method.
+     */
+    private Map<String, Team> nameIndex = new HashMap<>();
+
+    /**
+     * True if the internal list and index may be shared with a copy of this list, in which case they must be
+     * copied before they are changed. Copying a list is then O(1), and only the first change after it is O(n).
+     * Copying a list that is already shared does not write to it, so a shared list that is no longer changed,
+     * such as one in a snapshot, can be copied by many threads at once.
+     */
+    private volatile boolean isShared;
 
     /**
      * Constructs empty team list.
@@ -48,6 +78,8 @@ public class UniqueTeamList implements Iterable<Team> {
             throw new DuplicateTeamException();
         }
         internalList.addAll(initialTags);
+        internalList.sort(STANDINGS_ORDER);
+        rebuildIndex();
     }
 
     /**
@@ -58,13 +90,21 @@ public class UniqueTeamList implements Iterable<Team> {
             throw new DuplicateTeamException();
         }
         internalList.addAll(teams);
+        internalList.sort(STANDINGS_ORDER);
+        rebuildIndex();
     }
 
     /**
-     * Constructs a shallow copy of the list.
+     * Constructs a shallow copy of the list. The copy shares its contents with {@code source} until either
+     * of them is changed.
      */
     public UniqueTeamList(UniqueTeamList source) {
-        internalList.addAll(source.internalList);
+        if (!source.isShared) {
+            source.isShared = true;
+        }
+        isShared = true;
+        internalList = source.internalList;
+        nameIndex = source.nameIndex;
     }
 
     /**
@@ -72,21 +112,24 @@ public class UniqueTeamList implements Iterable<Team> {
      * Any changes to the internal list/elements are immediately visible in the returned list.
      */
     public List<ReadOnlyTeam> immutableListView() {
-        return Collections.unmodifiableList(internalList);
+        return new AbstractList<ReadOnlyTeam>() {
+            @Override
+            public ReadOnlyTeam get(int index) {
+                return internalList.get(index);
+            }
+
+            @Override
+            public int size() {
+                return internalList.size();
+            }
+        };
     }
 
     /**
      * Checks if the list contains an equivalent team as the given argument.
      */
     public boolean contains(ReadOnlyTeam toCheck) {
-        String nameToCheck = toCheck.getTeamName().toString().toLowerCase();
-        for (ReadOnlyTeam employee: internalList) {
-            String employeeName = employee.getTeamName().toString().toLowerCase();
-            if (employeeName.equals(nameToCheck)) {
-                return true;
-            }
-        }
-        return false;
+        return nameIndex.containsKey(nameKey(toCheck.getTeamName()));
     }
 
     /**
@@ -96,35 +139,112 @@ public class UniqueTeamList implements Iterable<Team> {
         if (contains(toAdd)) {
             throw new DuplicateTeamException();
         }
-        internalList.add(toAdd);
+        prepareForWrite();
+        insertInOrder(toAdd);
+        nameIndex.putIfAbsent(nameKey(toAdd.getTeamName()), toAdd);
+    }
+
+    /**
+     * Checks that every team in {@code toAdd} could be added to the list, without changing the list.
+     *
+     * @throws DuplicateTeamException if a team is already in the list or appears twice in {@code toAdd}.
+     */
+    public void checkCanAddAll(Collection<? extends ReadOnlyTeam> toAdd) throws DuplicateTeamException {
+        final Set<String> batchKeys = new HashSet<>();
+        for (ReadOnlyTeam team : toAdd) {
+            final String key = nameKey(team.getTeamName());
+            if (nameIndex.containsKey(key) || !batchKeys.add(key)) {
+                throw new DuplicateTeamException();
+            }
+        }
+    }
+
+    /**
+     * Adds all of the given teams to the list, sorting and indexing it once instead of once per team.
+     * Either all of the teams are added or, if any of them cannot be, none are.
+     *
+     * @throws DuplicateTeamException if a team is already in the list or appears twice in {@code toAdd}.
+     */
+    public void addAll(Collection<Team> toAdd) throws DuplicateTeamException {
+        checkCanAddAll(toAdd);
+        prepareForWrite();
+        internalList.addAll(toAdd);
+        internalList.sort(STANDINGS_ORDER);
+        for (Team team : toAdd) {
+            nameIndex.putIfAbsent(nameKey(team.getTeamName()), team);
+        }
     }
 
     /**
      * Removes the equivalent team from the list.
      */
     public void remove(ReadOnlyTeam toRemove) throws TeamNotFoundException {
+        prepareForWrite();
         final boolean teamFoundAndDeleted = internalList.remove(toRemove);
         if (!teamFoundAndDeleted) {
             throw new TeamNotFoundException();
         }
+        removeFromIndex(toRemove);
     }
 
     /**
      * Clears all Teams in list.
      */
     public void clear() {
-        internalList.clear();
+        internalList = new ArrayList<>();
+        nameIndex = new HashMap<>();
+        isShared = false;
     }
 
     /**
-     * Sort all Teams in list by ascending alphabetical order.
+     * Sort all Teams in list by points, then losses, then name.
+     * Only needed after the results of many teams were changed at once, e.g. when all matches are cleared;
+     * a list that is already sorted is left untouched, so it stays shared with its copies.
      */
     public void sort() {
-        Comparator<Team> customTeamCompare = Comparator
-                .comparing(Team::getPoints).reversed()
-                .thenComparing(Team::getLoses)
-                .thenComparing(Team::getTeamName);
-        Collections.sort(internalList, customTeamCompare);
+        if (!isSorted(STANDINGS_ORDER)) {
+            prepareForWrite();
+            Collections.sort(internalList, STANDINGS_ORDER);
+        }
+    }
+
+    /**
+     * Applies {@code change} to the results of {@code team} and moves the team to its new place in the table.
+     * Costs O(log n) comparisons, instead of the O(n log n) of sorting the whole list again.
+     * As {@code team} may be shared with copies of this list, {@code change} is applied to a copy of it,
+     * which then takes its place.
+     *
+     * @throws TeamNotFoundException if the team is not in the list.
+     */
+    public void updateStanding(Team team, Consumer<Team> change) throws TeamNotFoundException {
+        prepareForWrite();
+        int index = Collections.binarySearch(internalList, team, STANDINGS_ORDER);
+        if (index < 0 || internalList.get(index) != team) {
+            // the team's results were changed without going through this method
+            index = internalList.indexOf(team);
+        }
+        if (index < 0) {
+            throw new TeamNotFoundException();
+        }
+        internalList.remove(index);
+        final Team changed = new Team(team);
+        change.accept(changed);
+        insertInOrder(changed);
+        final String key = nameKey(team.getTeamName());
+        if (nameIndex.get(key) == team) {
+            nameIndex.put(key, changed);
+        }
+    }
+
+    /**
+     * Replaces every team with the team {@code change} returns for it, e.g. a copy with some of its details
+     * changed, and puts the table back in order. The names of the teams must not change.
+     */
+    public void replaceAll(UnaryOperator<Team> change) {
+        prepareForWrite();
+        internalList.replaceAll(change);
+        internalList.sort(STANDINGS_ORDER);
+        rebuildIndex();
     }
 
     /**
@@ -136,11 +256,14 @@ public class UniqueTeamList implements Iterable<Team> {
         if (contains(toReplace) && namechange) {
             throw new DuplicateTeamException();
         }
+        prepareForWrite();
         final boolean teamFoundAndDeleted = internalList.remove(toRemove);
         if (!teamFoundAndDeleted) {
             throw new TeamNotFoundException();
         }
-        internalList.add(toReplace);
+        removeFromIndex(toRemove);
+        insertInOrder(toReplace);
+        nameIndex.putIfAbsent(nameKey(toReplace.getTeamName()), toReplace);
     }
 
     /**
@@ -151,17 +274,74 @@ public class UniqueTeamList implements Iterable<Team> {
      * @throws TeamNotFoundException if team is not found
      */
     public Team find (TeamName target) throws TeamNotFoundException {
+        final Team team = nameIndex.get(nameKey(target));
+        if (team == null || !team.getTeamName().equals(target)) {
+            throw new TeamNotFoundException();
+        }
+        return team;
+    }
+
+    /**
+     * Returns the key used to index a team by name.
+     */
+    private static String nameKey(TeamName name) {
+        return name.fullName.toLowerCase();
+    }
+
+    /**
+     * Drops the index entry of a team that has just been removed from the internal list.
+     */
+    private void removeFromIndex(ReadOnlyTeam removed) {
+        final String key = nameKey(removed.getTeamName());
+        if (removed.equals(nameIndex.get(key))) {
+            nameIndex.remove(key);
+        }
+    }
+
+    /**
+     * Rebuilds the index from the internal list.
+     */
+    private void rebuildIndex() {
+        nameIndex.clear();
         for (Team team : internalList) {
-            if (team.getTeamName().equals(target)) {
-                return team;
+            nameIndex.putIfAbsent(nameKey(team.getTeamName()), team);
+        }
+    }
+
+    /**
+     * Inserts {@code team} at its place in {@link #STANDINGS_ORDER}. The list must not be shared.
+     */
+    private void insertInOrder(Team team) {
+        final int index = Collections.binarySearch(internalList, team, STANDINGS_ORDER);
+        internalList.add(index < 0 ? -index - 1 : index, team);
+    }
+
+    /**
+     * Returns true if the list is already in the order given by {@code comparator}.
+     */
+    private boolean isSorted(Comparator<Team> comparator) {
+        for (int i = 1; i < internalList.size(); i++) {
+            if (comparator.compare(internalList.get(i - 1), internalList.get(i)) > 0) {
+                return false;
             }
         }
-        throw new TeamNotFoundException();
+        return true;
+    }
+
+    /**
+     * Gives this list its own copy of the internal list if it may be shared with another list.
+     */
+    private void prepareForWrite() {
+        if (isShared) {
+            internalList = new ArrayList<>(internalList);
+            nameIndex = new HashMap<>(nameIndex);
+            isShared = false;
+        }
     }
 
     @Override
     public Iterator<Team> iterator() {
-        return internalList.iterator();
+        return Collections.unmodifiableList(internalList).iterator();
     }
 
     @Override
@@ -0,0 +1,289 @@
+package seedu.addressbook.export;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.IntStream;
+
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import seedu.addressbook.common.ProgressListener;
+
+/**
+ * Builds an Excel (.xlsx) workbook of exported tables, one sheet per table, and writes it to a file.
+ *
+ * The workbook is streamed: only the last {@link #ROW_WINDOW} rows of each sheet are held in memory, and the
+ * rows before them are flushed to temporary files, so memory does not grow with the number of rows. The writer
+ * must be closed to delete those files. Column widths are set from each table's declared widths instead of being
+ * measured, and a table with more rows than a sheet can hold carries on in further sheets.
+ */
+public class ExcelWorkbookWriter implements Closeable {
+
+    /** Most rows an .xlsx sheet can hold, counting its header row. */
+    public static final int MAX_ROWS_PER_SHEET = SpreadsheetVersion.EXCEL2007.getMaxRows();
+
+    /** Rows of each sheet held in memory before they are flushed to a temporary file. */
+    public static final int ROW_WINDOW = 100;
+
+    /** Added to the name of a table to name the sheet of its totals. */
+    public static final String TOTALS_SHEET_SUFFIX = " Totals";
+
+    /** Header of the column of a totals sheet that counts the items in each group. */
+    public static final String COUNT_HEADER = "Count";
+
+    /** Widest column a sheet allows, in characters. */
+    private static final int MAX_COLUMN_WIDTH = 255;
+
+    /** Units of column width per character. */
+    private static final int WIDTH_UNITS_PER_CHARACTER = 256;
+
+    /** Rows rendered ahead of the sheet at a time, which bounds the rendered rows held in memory. */
+    private static final int RENDER_BATCH_SIZE = 8192;
+
+    /**
+     * Totals of the totalled columns of a table for each group of its rows, added up as the rows are added.
+     */
+    private static class GroupTotals {
+        final int groupColumn;
+        final int[] totalledColumns;
+
+        /** For each group, its number of rows and then the total of each totalled column. */
+        final Map<String, double[]> byGroup = new LinkedHashMap<>();
+
+        GroupTotals(ExportTable<?> table) {
+            groupColumn = table.groupColumn;
+            totalledColumns = IntStream.range(0, table.columns.size())
+                    .filter(c -> table.columns.get(c).isTotalled)
+                    .toArray();
+        }
+
+        /**
+         * Adds the values of a rendered row to the totals of its group.
+         */
+        void add(Object[] values) {
+            final String group = String.valueOf(values[groupColumn]);
+            final double[] sums = byGroup.computeIfAbsent(group, newGroup -> new double[totalledColumns.length + 1]);
+            sums[0]++;
+            for (int t = 0; t < totalledColumns.length; t++) {
+                final Object value = values[totalledColumns[t]];
+                if (value instanceof Number) {
+                    sums[t + 1] += ((Number) value).doubleValue();
+                }
+            }
+        }
+    }
+
+    private final SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_WINDOW);
+
+    /** Style of the header rows of all sheets, created once for the whole workbook. */
+    private final CellStyle headerStyle;
+
+    /** Rows of items each sheet holds, below its header row. */
+    private final int rowsPerSheet;
+
+    public ExcelWorkbookWriter() {
+        this(MAX_ROWS_PER_SHEET);
+    }
+
+    /**
+     * @param maxRowsPerSheet most rows a sheet may hold, counting its header row; only lowered by tests, so that
+     *                        they need not fill a whole sheet
+     */
+    ExcelWorkbookWriter(int maxRowsPerSheet) {
+        rowsPerSheet = maxRowsPerSheet - 1;
+        final Font bold = workbook.createFont();
+        bold.setBold(true);
+        headerStyle = workbook.createCellStyle();
+        headerStyle.setFont(bold);
+    }
+
+    /**
+     * Adds {@code items} as a table, without totals.
+     *
+     * @see #addTable(ExportTable, List, boolean, ProgressListener)
+     */
+    public <T> void addTable(ExportTable<T> table, List<? extends T> items, ProgressListener progress) {
+        addTable(table, items, false, progress);
+    }
+
+    /**
+     * Adds {@code items} as a table, numbered from 1, in a new sheet named after the table, or in as many sheets
+     * as they need.
+     *
+     * The values of the rows are rendered in batches on the common fork-join pool, the next batch while the
+     * current one is added to the sheet. Only the calling thread touches the workbook, and it adds the rows in
+     * the order of the items.
+     *
+     * @param withTotals if true and the table groups its items, the totalled columns of each group are added up
+     *                   as the rows are added, and the totals are then added in a sheet of their own
+     * @param progress told after each row is added
+     */
+    public <T> void addTable(ExportTable<T> table, List<? extends T> items, boolean withTotals,
+                             ProgressListener progress) {
+        final GroupTotals totals = withTotals && table.groupColumn != ExportTable.NO_GROUPS
+                ? new GroupTotals(table)
+                : null;
+        Sheet sheet = null;
+        CompletableFuture<List<Object[]>> nextBatch = renderBatch(table, items, 0);
+        for (int batchStart = 0; batchStart < items.size(); batchStart += RENDER_BATCH_SIZE) {
+            final List<Object[]> batch = join(nextBatch);
+            nextBatch = renderBatch(table, items, batchStart + RENDER_BATCH_SIZE);
+            for (int b = 0; b < batch.size(); b++) {
+                final int i = batchStart + b;
+                if (i % rowsPerSheet == 0) {
+                    sheet = createSheet(table, i / rowsPerSheet);
+                }
+                addRow(sheet, i % rowsPerSheet + 1, i + 1, batch.get(b));
+                if (totals != null) {
+                    totals.add(batch.get(b));
+                }
+                try {
+                    progress.onProgress(i + 1, items.size());
+                } catch (CancellationException ce) {
+                    nextBatch.cancel(false);
+                    throw ce;
+                }
+            }
+        }
+        if (sheet == null) {
+            createSheet(table, 0);
+        }
+        if (totals != null) {
+            addTotalsSheet(table, totals);
+        }
+    }
+
+    /**
+     * Writes the workbook to {@code path}, replacing the file if it exists. The file is only replaced once the
+     * whole workbook has been written; if writing fails, it is left as it was.
+     *
+     * @throws IOException if the file could not be written
+     */
+    public void writeTo(Path path) throws IOException {
+        try (ExportFile file = new ExportFile(path)) {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file.getTempPath()))) {
+                workbook.write(out);
+            }
+            file.commit();
+        }
+    }
+
+    /**
+     * Deletes the temporary files holding the rows flushed from memory. The workbook cannot be written after this.
+     */
+    @Override
+    public void close() throws IOException {
+        workbook.dispose();
+        workbook.close();
+    }
+
+    /**
+     * Creates a sheet for the table, with its header row and column widths. Sheets after the first are numbered.
+     */
+    private <T> Sheet createSheet(ExportTable<T> table, int sheetNumber) {
+        final String name = sheetNumber == 0 ? table.name : table.name + " (" + (sheetNumber + 1) + ")";
+        final Sheet sheet = workbook.createSheet(name);
+        final Row header = sheet.createRow(0);
+        setHeader(sheet, header, 0, ExportTable.INDEX_HEADER, ExportTable.INDEX_WIDTH);
+        for (int c = 0; c < table.columns.size(); c++) {
+            final ExportColumn<T> column = table.columns.get(c);
+            setHeader(sheet, header, c + 1, column.header, column.width);
+        }
+        return sheet;
+    }
+
+    private void setHeader(Sheet sheet, Row header, int column, String text, int width) {
+        final Cell cell = header.createCell(column);
+        cell.setCellValue(text);
+        cell.setCellStyle(headerStyle);
+        sheet.setColumnWidth(column, Math.min(width, MAX_COLUMN_WIDTH) * WIDTH_UNITS_PER_CHARACTER);
+    }
+
+    /**
+     * Adds a sheet with a row of totals for each group, in the order the groups first appeared in the table.
+     */
+    private <T> void addTotalsSheet(ExportTable<T> table, GroupTotals totals) {
+        final Sheet sheet = workbook.createSheet(table.name + TOTALS_SHEET_SUFFIX);
+        final Row header = sheet.createRow(0);
+        final ExportColumn<T> groupColumn = table.columns.get(table.groupColumn);
+        setHeader(sheet, header, 0, groupColumn.header, groupColumn.width);
+        setHeader(sheet, header, 1, COUNT_HEADER, COUNT_HEADER.length() + 1);
+        for (int t = 0; t < totals.totalledColumns.length; t++) {
+            final ExportColumn<T> column = table.columns.get(totals.totalledColumns[t]);
+            setHeader(sheet, header, t + 2, column.header, column.width);
+        }
+
+        int rowNumber = 1;
+        for (Map.Entry<String, double[]> group : totals.byGroup.entrySet()) {
+            final Row row = sheet.createRow(rowNumber++);
+            row.createCell(0).setCellValue(group.getKey());
+            final double[] sums = group.getValue();
+            for (int s = 0; s < sums.length; s++) {
+                row.createCell(s + 1).setCellValue(sums[s]);
+            }
+        }
+    }
+
+    /**
+     * Starts rendering the batch of items beginning at {@code batchStart}, which is empty if there are no more.
+     */
+    private static <T> CompletableFuture<List<Object[]>> renderBatch(ExportTable<T> table, List<? extends T> items,
+                                                                     int batchStart) {
+        if (batchStart >= items.size()) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        final List<? extends T> batch = items.subList(batchStart,
+                Math.min(batchStart + RENDER_BATCH_SIZE, items.size()));
+        return CompletableFuture.supplyAsync(() -> table.renderAll(batch));
+    }
+
+    /**
+     * Waits for a batch to be rendered, and returns its rows.
+     */
+    private static List<Object[]> join(CompletableFuture<List<Object[]>> batch) {
+        try {
+            return batch.join();
+        } catch (CompletionException ce) {
+            // rethrows what the rendering threw, as if the rows had been rendered on this thread
+            if (ce.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ce.getCause();
+            }
+            throw ce;
+        }
+    }
+
+    /**
+     * Adds a row holding the index of the item and then its rendered values.
+     */
+    private static void addRow(Sheet sheet, int rowNumber, int index, Object[] values) {
+        final Row row = sheet.createRow(rowNumber);
+        row.createCell(0).setCellValue(index);
+        for (int c = 0; c < values.length; c++) {
+            setValue(row.createCell(c + 1), values[c]);
+        }
+    }
+
+    private static void setValue(Cell cell, Object value) {
+        if (value instanceof Number) {
+            cell.setCellValue(((Number) value).doubleValue());
+        } else {
+            cell.setCellValue(String.valueOf(value));
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.addressbook.export;
+
+import java.util.function.Function;
+
+/**
+ * A column of exported data: its header, and how to get its value from each item exported.
+ *
+ * @param <T> type of the items exported
+ */
+public class ExportColumn<T> {
+
+    public final String header;
+
+    /**
+     * Width of the column in characters. Widths are fixed in advance so that no column has to be measured
+     * after it is filled, which takes longer the more rows there are.
+     */
+    public final int width;
+
+    /** True if the column holds numbers that are added up in the totals of a table. */
+    public final boolean isTotalled;
+
+    private final Function<? super T, Object> value;
+
+    /**
+     * @param value returns the value of the column for an item, either a {@link Number} or text
+     */
+    public ExportColumn(String header, int width, Function<? super T, Object> value) {
+        this(header, width, false, value);
+    }
+
+    /**
+     * @param isTotalled true if the values of the column are added up in the totals of a table; they must then
+     *                   be {@link Number}s, except for items that have no value, which may have empty text
+     * @param value returns the value of the column for an item, either a {@link Number} or text
+     */
+    public ExportColumn(String header, int width, boolean isTotalled, Function<? super T, Object> value) {
+        this.header = header;
+        this.width = width;
+        this.isTotalled = isTotalled;
+        this.value = value;
+    }
+
+    /**
+     * Returns the value of the column for {@code item}, either a {@link Number} or text.
+     */
+    public Object valueOf(T item) {
+        return value.apply(item);
+    }
+}
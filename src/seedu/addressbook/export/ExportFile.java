@@ -0,0 +1,63 @@
+package seedu.addressbook.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * A file being exported to. The rows go to a temporary file of its own next to the target, which is moved over the
+ * target by {@link #commit} once it is complete. Exports to the same file that run at the same time therefore never
+ * write into each other's file, and the last one to finish wins.
+ *
+ * If it is closed without committing, e.g. because the export failed or was cancelled, the temporary file is
+ * deleted and the target is left unchanged.
+ */
+class ExportFile implements Closeable {
+
+    /** Suffix of the temporary files. */
+    static final String TEMP_SUFFIX = ".tmp";
+
+    private final Path target;
+    private final Path tempPath;
+    private boolean isCommitted;
+
+    /**
+     * Creates a new, empty temporary file for {@code target}.
+     *
+     * @throws IOException if the temporary file could not be created
+     */
+    ExportFile(Path target) throws IOException {
+        this.target = target;
+        final Path directory = target.toAbsolutePath().getParent();
+        this.tempPath = Files.createTempFile(directory, target.getFileName() + ".", TEMP_SUFFIX);
+    }
+
+    /**
+     * Returns the path of the temporary file that the rows should be written to.
+     */
+    Path getTempPath() {
+        return tempPath;
+    }
+
+    /**
+     * Moves the temporary file over the target. Its contents must have been written completely and closed.
+     */
+    void commit() throws IOException {
+        try {
+            Files.move(tempPath, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException amnse) {
+            Files.move(tempPath, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        isCommitted = true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!isCommitted) {
+            Files.deleteIfExists(tempPath);
+        }
+    }
+}
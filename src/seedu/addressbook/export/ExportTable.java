@@ -0,0 +1,126 @@
+package seedu.addressbook.export;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.addressbook.data.finance.ReadOnlyFinance;
+import seedu.addressbook.data.match.ReadOnlyMatch;
+import seedu.addressbook.data.match.TicketSales;
+import seedu.addressbook.data.player.Name;
+import seedu.addressbook.data.player.ReadOnlyPlayer;
+import seedu.addressbook.data.team.ReadOnlyTeam;
+
+/**
+ * The columns exported for one kind of item, and the name of the sheet they are exported to.
+ *
+ * @param <T> type of the items exported
+ */
+public class ExportTable<T> {
+
+    /** Players, which are grouped by their team (the second column) for their totals. */
+    public static final ExportTable<ReadOnlyPlayer> PLAYERS = new ExportTable<>("PlayerSheet", Arrays.asList(
+            new ExportColumn<>("Name", 24, player -> player.getName().toString()),
+            new ExportColumn<>("Team Name", 20, player -> player.getTeamName().toString()),
+            new ExportColumn<>("Position Played", 16, player -> player.getPositionPlayed().toString()),
+            new ExportColumn<>("Age", 6, player -> player.getAge().getYears()),
+            new ExportColumn<>("Salary", 10, true, player -> player.getSalary().getAmount()),
+            new ExportColumn<>("Goals Scored", 13, true, player -> player.getGoalsScored().getGoals()),
+            new ExportColumn<>("Goals Assisted", 15, true, player -> player.getGoalsAssisted().getAssists()),
+            new ExportColumn<>("Nationality", 16, player -> player.getNationality().toString()),
+            new ExportColumn<>("Jersey Number", 14, player -> player.getJerseyNumber().getNumber()),
+            new ExportColumn<>("Appearance", 11, true, player -> player.getAppearance().getAppearances()),
+            new ExportColumn<>("Health Status", 14, player -> player.getHealthStatus().toString())), 1);
+
+    public static final ExportTable<ReadOnlyTeam> TEAMS = new ExportTable<>("teamSheet", Arrays.asList(
+            new ExportColumn<>("Team Name", 20, team -> team.getTeamName().toString()),
+            new ExportColumn<>("Country", 16, team -> team.getCountry().toString()),
+            new ExportColumn<>("Sponsor", 12, team -> team.getSponsor().toString()),
+            new ExportColumn<>("Number of Players", 18, team -> team.getPlayers().size())));
+
+    public static final ExportTable<ReadOnlyMatch> MATCHES = new ExportTable<>("MatchSheet", Arrays.asList(
+            new ExportColumn<>("Date", 12, match -> match.getDate().toString()),
+            new ExportColumn<>("Home Team", 20, match -> match.getHome().toString()),
+            new ExportColumn<>("Away Team", 20, match -> match.getAway().toString()),
+            new ExportColumn<>("Ticket Sales going to Home Team", 31, match -> amountOf(match.getHomeSales())),
+            new ExportColumn<>("Ticket Sales going to Away Team", 31, match -> amountOf(match.getAwaySales())),
+            new ExportColumn<>("Goal Scorers", 40, match -> joinNames(match.getGoalScorers())),
+            new ExportColumn<>("Own Goal Scorers", 30, match -> joinNames(match.getOwnGoalScorers()))));
+
+    public static final ExportTable<ReadOnlyFinance> FINANCES = new ExportTable<>("League Finance Sheet", Arrays.asList(
+            new ExportColumn<>("Team Name", 20, ReadOnlyFinance::getTeamName),
+            new ExportColumn<>("Amount of Sponsorship Received", 31, ReadOnlyFinance::getSponsor),
+            new ExportColumn<>("Amount of Ticket Income", 24, ReadOnlyFinance::getTicketIncome),
+            new ExportColumn<>("Amount of Total Income", 23, ReadOnlyFinance::getFinance),
+            new ExportColumn<>("Amount of Q1 Income", 20, ReadOnlyFinance::getQuarterOne),
+            new ExportColumn<>("Amount of Q2 Income", 20, ReadOnlyFinance::getQuarterTwo),
+            new ExportColumn<>("Amount of Q3 Income", 20, ReadOnlyFinance::getQuarterThree),
+            new ExportColumn<>("Amount of Q4 Income", 20, ReadOnlyFinance::getQuarterFour)));
+
+    /** Header of the column before all others, which numbers the items from 1. */
+    public static final String INDEX_HEADER = "Index Number";
+    public static final int INDEX_WIDTH = 13;
+
+    /** Value of {@link #groupColumn} for a table whose items are not grouped. */
+    public static final int NO_GROUPS = -1;
+
+    /** Fewest items worth rendering in parallel; fewer are rendered faster on one thread. */
+    private static final int PARALLEL_THRESHOLD = 512;
+
+    public final String name;
+    public final List<ExportColumn<T>> columns;
+
+    /**
+     * Index in {@link #columns} of the column whose values group the items for their totals, e.g. the team of
+     * each player, or {@link #NO_GROUPS}.
+     */
+    public final int groupColumn;
+
+    public ExportTable(String name, List<ExportColumn<T>> columns) {
+        this(name, columns, NO_GROUPS);
+    }
+
+    public ExportTable(String name, List<ExportColumn<T>> columns, int groupColumn) {
+        this.name = name;
+        this.columns = Collections.unmodifiableList(columns);
+        this.groupColumn = groupColumn;
+    }
+
+    /**
+     * Returns the values of the columns for {@code item}, in order.
+     */
+    public Object[] render(T item) {
+        final Object[] values = new Object[columns.size()];
+        for (int c = 0; c < values.length; c++) {
+            values[c] = columns.get(c).valueOf(item);
+        }
+        return values;
+    }
+
+    /**
+     * Returns the values of the columns for each of {@code items}, in the order of the items. Many items are
+     * rendered in parallel, on the common fork-join pool, as their values are independent of each other.
+     */
+    public List<Object[]> renderAll(List<? extends T> items) {
+        final Stream<? extends T> stream = items.size() < PARALLEL_THRESHOLD
+                ? items.stream()
+                : items.parallelStream();
+        return stream.map(this::render).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the amount of ticket sales, or empty text if none are recorded.
+     */
+    private static Object amountOf(TicketSales sales) {
+        return sales.isRecorded() ? sales.getAmount() : "";
+    }
+
+    /**
+     * Returns the names, separated by commas.
+     */
+    private static String joinNames(List<Name> names) {
+        return names.stream().map(Name::toString).collect(Collectors.joining(", "));
+    }
+}
@@ -0,0 +1,81 @@
+package seedu.addressbook.export;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import seedu.addressbook.common.ProgressListener;
+import seedu.addressbook.data.finance.ReadOnlyFinance;
+import seedu.addressbook.data.match.ReadOnlyMatch;
+import seedu.addressbook.data.player.ReadOnlyPlayer;
+import seedu.addressbook.data.team.ReadOnlyTeam;
+
+/**
+ * Exports the players, teams, matches and finances of the whole league into one Excel workbook,
+ * with a sheet for each of them.
+ */
+public class LeagueApachePoiWriter {
+
+    private final String outputFilepath = "exported_league_record.xlsx";
+    private final Path exportPath = Paths.get(outputFilepath);
+
+    private final List<ReadOnlyPlayer> allPlayers;
+    private final List<ReadOnlyTeam> allTeams;
+    private final List<ReadOnlyMatch> allMatches;
+    private final List<ReadOnlyFinance> allFinances;
+    private final boolean withTotals;
+
+    /**
+     * @param withTotals true to also write the totals of the players of each team, to a sheet of their own
+     */
+    public LeagueApachePoiWriter(List<ReadOnlyPlayer> allPlayers, List<ReadOnlyTeam> allTeams,
+                                 List<ReadOnlyMatch> allMatches, List<ReadOnlyFinance> allFinances,
+                                 boolean withTotals) {
+        this.allPlayers = requireNonNull(allPlayers);
+        this.allTeams = requireNonNull(allTeams);
+        this.allMatches = requireNonNull(allMatches);
+        this.allFinances = requireNonNull(allFinances);
+        this.withTotals = withTotals;
+    }
+
+    /**
+     * Writes all the sheets to the destination workbook, which is replaced if it exists.
+     *
+     * @param progress told after each row is added, counting the rows of all sheets together
+     */
+    public void write(ProgressListener progress) {
+        final long total = allPlayers.size() + allTeams.size() + allMatches.size() + allFinances.size();
+        try (ExcelWorkbookWriter workbook = new ExcelWorkbookWriter()) {
+            long done = 0;
+            workbook.addTable(ExportTable.PLAYERS, allPlayers, withTotals, offset(progress, done, total));
+            done += allPlayers.size();
+            workbook.addTable(ExportTable.TEAMS, allTeams, offset(progress, done, total));
+            done += allTeams.size();
+            workbook.addTable(ExportTable.MATCHES, allMatches, offset(progress, done, total));
+            done += allMatches.size();
+            workbook.addTable(ExportTable.FINANCES, allFinances, offset(progress, done, total));
+            workbook.writeTo(exportPath);
+        } catch (IOException ioe) {
+            System.out.println("Error writing data to " + outputFilepath);
+        }
+    }
+
+    /**
+     * Returns a listener for one sheet that reports its rows to {@code progress} as rows of the whole workbook,
+     * after the {@code doneBefore} rows of the sheets before it.
+     */
+    private static ProgressListener offset(ProgressListener progress, long doneBefore, long total) {
+        return (done, sheetTotal) -> progress.onProgress(doneBefore + done, total);
+    }
+
+    /**
+     * get the current export path of the excel file
+     * @return the current export path of the excel file
+     */
+    public Path getExportPath() {
+        return exportPath;
+    }
+}
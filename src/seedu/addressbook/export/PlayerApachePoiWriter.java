@@ -2,8 +2,6 @@ package seedu.addressbook.export;
 
 import static java.util.Objects.requireNonNull;
 
-import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -11,11 +9,7 @@ import java.nio.file.Paths;
 import java.util.List;
 import java.util.Objects;
 
-import org.apache.poi.hssf.usermodel.HSSFCell;
-import org.apache.poi.hssf.usermodel.HSSFRow;
-import org.apache.poi.hssf.usermodel.HSSFSheet;
-import org.apache.poi.hssf.usermodel.HSSFWorkbook;
-
+import seedu.addressbook.common.ProgressListener;
 import seedu.addressbook.data.player.ReadOnlyPlayer;
 
 /**
@@ -23,12 +17,20 @@ import seedu.addressbook.data.player.ReadOnlyPlayer;
  */
 public class PlayerApachePoiWriter {
 
-    private final String outputFilepath = "exported_player_record.xls";
+    private final String outputFilepath = "exported_player_record.xlsx";
     private final Path exportPath = Paths.get(outputFilepath);
 
     private final List<ReadOnlyPlayer> allPlayers;
+    private final boolean withTotals;
 
     public PlayerApachePoiWriter(List<ReadOnlyPlayer> allPlayers) {
+        this(allPlayers, false);
+    }
+
+    /**
+     * @param withTotals true to also write the totals of each team, to a sheet of their own
+     */
+    public PlayerApachePoiWriter(List<ReadOnlyPlayer> allPlayers, boolean withTotals) {
 
         requireNonNull(allPlayers);
         allPlayers.forEach(Objects::requireNonNull);
@@ -43,96 +45,21 @@ public class PlayerApachePoiWriter {
             System.out.println("Initializing exportPlayer output file: " + exportPath.toString());
         }
         this.allPlayers = allPlayers;
+        this.withTotals = withTotals;
     }
 
 
     /**
      * writes player profiles to the destination excel sheet
+     *
+     * @param progress told after each row is added
      */
-    public void write() {
-        try {
-            HSSFWorkbook workBook = new HSSFWorkbook();
-            HSSFSheet playerSheet = workBook.createSheet("PlayerSheet");
-            HSSFRow row = playerSheet.createRow(0);
-            HSSFCell cell = row.createCell(0);
-            cell.setCellValue("Index Number");
-            cell = row.createCell(1);
-            cell.setCellValue("Name");
-            cell = row.createCell(2);
-            cell.setCellValue("Team Name");
-            cell = row.createCell(3);
-            cell.setCellValue("Position Played");
-            cell = row.createCell(4);
-            cell.setCellValue("Age");
-            cell = row.createCell(5);
-            cell.setCellValue("Salary");
-            cell = row.createCell(6);
-            cell.setCellValue("Goals Scored");
-            cell = row.createCell(7);
-            cell.setCellValue("Goals Assisted");
-            cell = row.createCell(8);
-            cell.setCellValue("Nationality");
-            cell = row.createCell(9);
-            cell.setCellValue("Jersey Number");
-            cell = row.createCell(10);
-            cell.setCellValue("Appearance");
-            cell = row.createCell(11);
-            cell.setCellValue("Health Status");
-
-            int num = allPlayers.size();
-
-            for (int i = 1; i <= num; i++) {
-                ReadOnlyPlayer playerNow = allPlayers.get(i - 1);
-
-                row = playerSheet.createRow(i);
-                cell = row.createCell(0);
-                cell.setCellValue(i);
-                cell = row.createCell(1);
-                cell.setCellValue(playerNow.getName().toString());
-                cell = row.createCell(2);
-                cell.setCellValue(playerNow.getTeamName().toString());
-                cell = row.createCell(3);
-                cell.setCellValue(playerNow.getPositionPlayed().toString());
-                cell = row.createCell(4);
-                cell.setCellValue(playerNow.getAge().toString());
-                cell = row.createCell(5);
-                cell.setCellValue(playerNow.getSalary().toString());
-                cell = row.createCell(6);
-                cell.setCellValue(playerNow.getGoalsScored().toString());
-                cell = row.createCell(7);
-                cell.setCellValue(playerNow.getGoalsAssisted().toString());
-                cell = row.createCell(8);
-                cell.setCellValue(playerNow.getNationality().toString());
-                cell = row.createCell(9);
-                cell.setCellValue(playerNow.getJerseyNumber().toString());
-                cell = row.createCell(10);
-                cell.setCellValue(playerNow.getAppearance().toString());
-                cell = row.createCell(11);
-                cell.setCellValue(playerNow.getHealthStatus().toString());
-            }
-
-            for (int j = 0; j <= 11; j++) {
-                playerSheet.autoSizeColumn(j);
-            }
-
-            try {
-                workBook.write(new FileOutputStream(outputFilepath));
-                workBook.close();
-            } catch (FileNotFoundException ffe) {
-                System.out.println("File specified by the outputFilePath does not exist");
-                throw new FileNotFoundException();
-            } catch (IOException ioe) {
-                System.out.println("Error writing data to " + outputFilepath);
-                throw new IOException();
-            }
-
-        } catch (NullPointerException npe) {
-            System.out.println("Please check your parameters. npe happening");
-            throw new NullPointerException();
-        } catch (FileNotFoundException ffe) {
-            System.out.println("File not found...");
+    public void write(ProgressListener progress) {
+        try (ExcelWorkbookWriter workbook = new ExcelWorkbookWriter()) {
+            workbook.addTable(ExportTable.PLAYERS, allPlayers, withTotals, progress);
+            workbook.writeTo(exportPath);
         } catch (IOException ioe) {
-            System.out.println("Error exporting to file");
+            System.out.println("Error writing data to " + outputFilepath);
         }
     }
 
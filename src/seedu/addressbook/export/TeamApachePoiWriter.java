@@ -2,8 +2,6 @@ package seedu.addressbook.export;
 
 import static java.util.Objects.requireNonNull;
 
-import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -11,11 +9,7 @@ import java.nio.file.Paths;
 import java.util.List;
 import java.util.Objects;
 
-import org.apache.poi.hssf.usermodel.HSSFCell;
-import org.apache.poi.hssf.usermodel.HSSFRow;
-import org.apache.poi.hssf.usermodel.HSSFSheet;
-import org.apache.poi.hssf.usermodel.HSSFWorkbook;
-
+import seedu.addressbook.common.ProgressListener;
 import seedu.addressbook.data.team.ReadOnlyTeam;
 
 /**
@@ -23,7 +17,7 @@ import seedu.addressbook.data.team.ReadOnlyTeam;
  * and correctly export to an excel sheet
  */
 public class TeamApachePoiWriter {
-    private final String outputFilepath = "exported_team_record.xls";
+    private final String outputFilepath = "exported_team_record.xlsx";
     private final Path exportPath = Paths.get(outputFilepath);
 
     private final List<ReadOnlyTeam> allTeams;
@@ -48,71 +42,21 @@ public class TeamApachePoiWriter {
 
     /**
      * writes team profiles to the destination excel sheet
+     *
+     * @param progress told after each row is added
      */
-    public void write() {
-        try {
-            HSSFWorkbook workBook = new HSSFWorkbook();
-            HSSFSheet teamSheet = workBook.createSheet("teamSheet");
-            HSSFRow row = teamSheet.createRow(0);
-            HSSFCell cell = row.createCell(0);
-            cell.setCellValue("Index Number");
-            cell = row.createCell(1);
-            cell.setCellValue("Team Name");
-            cell = row.createCell(2);
-            cell.setCellValue("Country");
-            cell = row.createCell(3);
-            cell.setCellValue("Sponsor");
-            cell = row.createCell(4);
-            cell.setCellValue("Number of Players");
-
-            int num = allTeams.size();
-
-
-
-            for (int i = 1; i <= num; i++) {
-                ReadOnlyTeam teamNow = allTeams.get(i - 1);
-
-                row = teamSheet.createRow(i);
-                cell = row.createCell(0);
-                cell.setCellValue(i);
-                cell = row.createCell(1);
-                cell.setCellValue(teamNow.getTeamName().toString());
-                cell = row.createCell(2);
-                cell.setCellValue(teamNow.getCountry().toString());
-                cell = row.createCell(3);
-                cell.setCellValue(teamNow.getSponsor().toString());
-                cell = row.createCell(4);
-                cell.setCellValue(teamNow.getPlayers().size());
-            }
-
-            for (int j = 0; j <= 11; j++) {
-                teamSheet.autoSizeColumn(j);
-            }
-
-            try {
-                workBook.write(new FileOutputStream(outputFilepath));
-                workBook.close();
-            } catch (FileNotFoundException ffe) {
-                System.out.println("File specified by the outputFilePath does not exist");
-                throw new FileNotFoundException();
-            } catch (IOException ioe) {
-                System.out.println("Error writing data to " + outputFilepath);
-                throw new IOException();
-            }
-
-        } catch (NullPointerException npe) {
-            System.out.println("Please check your parameters. npe happening");
-            throw new NullPointerException();
-        } catch (FileNotFoundException ffe) {
-            System.out.println("File not found...");
+    public void write(ProgressListener progress) {
+        try (ExcelWorkbookWriter workbook = new ExcelWorkbookWriter()) {
+            workbook.addTable(ExportTable.TEAMS, allTeams, progress);
+            workbook.writeTo(exportPath);
         } catch (IOException ioe) {
-            System.out.println("Error exporting to file");
+            System.out.println("Error writing data to " + outputFilepath);
         }
     }
 
     /**
      * Get the Current Export path
-     * @return the current export path of the excel xls file
+     * @return the current export path of the excel xlsx file
      */
     public Path getExportPath() {
         return exportPath;
@@ -0,0 +1,262 @@
+package seedu.addressbook.export;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.GZIPOutputStream;
+
+import seedu.addressbook.common.ProgressListener;
+
+/**
+ * Exports a table to a CSV (.csv) or JSON Lines (.jsonl) file, chosen by the name of the file. A file whose name
+ * also ends in .gz, e.g. {@code players.csv.gz}, is compressed with gzip.
+ *
+ * Each row is written out as soon as it is read from the items, through a large buffer, so the whole file is
+ * never held in memory. The first line of a CSV file holds the headers of the columns; each line of a JSON Lines
+ * file is one JSON object, with a field for each column.
+ */
+public class TextTableWriter {
+
+    public static final String CSV_EXTENSION = ".csv";
+    public static final String JSON_LINES_EXTENSION = ".jsonl";
+    public static final String GZIP_EXTENSION = ".gz";
+
+    /** Size of the buffers between the rows and the file, in bytes or characters. */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /** Whole numbers below this are held exactly by a double, and can be written without a fraction. */
+    private static final double LARGEST_EXACT_WHOLE_NUMBER = 1L << 53;
+
+    /**
+     * Signals that the file is not of a kind that can be exported to.
+     */
+    public static class UnsupportedFileException extends Exception {
+        UnsupportedFileException(String message) {
+            super(message);
+        }
+    }
+
+    private TextTableWriter() {}
+
+    /**
+     * Returns true if files with the name of {@code path} can be exported to.
+     */
+    public static boolean isSupported(Path path) {
+        final String fileName = stripGzipExtension(path);
+        return fileName.endsWith(CSV_EXTENSION) || fileName.endsWith(JSON_LINES_EXTENSION);
+    }
+
+    /**
+     * Writes {@code items} as rows of {@code table} to the given file, replacing it if it exists.
+     * The file is only replaced once every row has been written; if writing fails or is cancelled, it is left as
+     * it was.
+     *
+     * @param total number of items, to report progress against
+     * @param progress told after each row is written
+     * @return the number of rows written
+     * @throws UnsupportedFileException if the file is neither a CSV nor a JSON Lines file
+     * @throws IOException if the file could not be written
+     */
+    public static <T> int write(Path path, ExportTable<T> table, Iterable<? extends T> items, int total,
+                                ProgressListener progress) throws UnsupportedFileException, IOException {
+        if (!isSupported(path)) {
+            throw new UnsupportedFileException("Only " + CSV_EXTENSION + " and " + JSON_LINES_EXTENSION
+                    + " files, optionally ending in " + GZIP_EXTENSION + ", can be exported to: " + path);
+        }
+        final boolean isCsv = stripGzipExtension(path).endsWith(CSV_EXTENSION);
+        try (ExportFile file = new ExportFile(path)) {
+            final int rows;
+            try (Writer out = open(file.getTempPath(), isGzip(path))) {
+                rows = isCsv
+                        ? writeCsv(out, table, items, total, progress)
+                        : writeJsonLines(out, table, items, total, progress);
+            }
+            file.commit();
+            return rows;
+        }
+    }
+
+    /**
+     * Opens the file for writing text, through a gzip stream if {@code isGzip}.
+     */
+    private static Writer open(Path path, boolean isGzip) throws IOException {
+        final FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        OutputStream bytes = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+        if (isGzip) {
+            try {
+                bytes = new GZIPOutputStream(bytes, BUFFER_SIZE);
+            } catch (IOException ioe) {
+                channel.close();
+                throw ioe;
+            }
+        }
+        return new BufferedWriter(new OutputStreamWriter(bytes, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    /**
+     * Writes a header line and then a line for each item, with its fields separated by commas.
+     */
+    private static <T> int writeCsv(Writer out, ExportTable<T> table, Iterable<? extends T> items, int total,
+                                    ProgressListener progress) throws IOException {
+        for (int c = 0; c < table.columns.size(); c++) {
+            if (c > 0) {
+                out.write(',');
+            }
+            writeCsvField(out, table.columns.get(c).header);
+        }
+        out.write('\n');
+
+        int rows = 0;
+        for (T item : items) {
+            for (int c = 0; c < table.columns.size(); c++) {
+                if (c > 0) {
+                    out.write(',');
+                }
+                final Object value = table.columns.get(c).valueOf(item);
+                if (value instanceof Number) {
+                    out.write(formatNumber((Number) value));
+                } else {
+                    writeCsvField(out, String.valueOf(value));
+                }
+            }
+            out.write('\n');
+            progress.onProgress(++rows, total);
+        }
+        return rows;
+    }
+
+    /**
+     * Writes a CSV field, enclosed in double quotes if it holds a comma, a quote or a line break, in which case
+     * each quote inside it is written twice. This is the form {@code import} reads.
+     */
+    private static void writeCsvField(Writer out, String field) throws IOException {
+        boolean needsQuotes = false;
+        for (int i = 0; i < field.length() && !needsQuotes; i++) {
+            final char c = field.charAt(i);
+            needsQuotes = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!needsQuotes) {
+            out.write(field);
+            return;
+        }
+        out.write('"');
+        for (int i = 0; i < field.length(); i++) {
+            final char c = field.charAt(i);
+            if (c == '"') {
+                out.write('"');
+            }
+            out.write(c);
+        }
+        out.write('"');
+    }
+
+    /**
+     * Writes a line for each item, holding a JSON object with a field for each column.
+     */
+    private static <T> int writeJsonLines(Writer out, ExportTable<T> table, Iterable<? extends T> items, int total,
+                                          ProgressListener progress) throws IOException {
+        // the field names are the same on every line, so they are escaped once
+        final String[] fieldNames = new String[table.columns.size()];
+        for (int c = 0; c < fieldNames.length; c++) {
+            final StringBuilder fieldName = new StringBuilder();
+            fieldName.append(c == 0 ? "{" : ",");
+            appendJsonString(fieldName, toFieldName(table.columns.get(c).header));
+            fieldNames[c] = fieldName.append(':').toString();
+        }
+
+        int rows = 0;
+        final StringBuilder line = new StringBuilder();
+        for (T item : items) {
+            line.setLength(0);
+            for (int c = 0; c < fieldNames.length; c++) {
+                line.append(fieldNames[c]);
+                final Object value = table.columns.get(c).valueOf(item);
+                if (value instanceof Number) {
+                    line.append(formatNumber((Number) value));
+                } else {
+                    appendJsonString(line, String.valueOf(value));
+                }
+            }
+            line.append(fieldNames.length == 0 ? "{}\n" : "}\n");
+            out.append(line);
+            progress.onProgress(++rows, total);
+        }
+        return rows;
+    }
+
+    /**
+     * Returns the number as text, without a fraction if it is a whole number, e.g. "2000" rather than "2000.0".
+     */
+    private static String formatNumber(Number number) {
+        final double value = number.doubleValue();
+        if (value == Math.rint(value) && Math.abs(value) < LARGEST_EXACT_WHOLE_NUMBER) {
+            return Long.toString((long) value);
+        }
+        return number.toString();
+    }
+
+    /**
+     * Appends {@code text} as a JSON string, with quotes, backslashes and control characters escaped.
+     */
+    private static void appendJsonString(StringBuilder json, String text) {
+        json.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c == '\n') {
+                json.append("\\n");
+            } else if (c == '\r') {
+                json.append("\\r");
+            } else if (c == '\t') {
+                json.append("\\t");
+            } else if (c < ' ') {
+                json.append(String.format("\\u%04x", (int) c));
+            } else {
+                json.append(c);
+            }
+        }
+        json.append('"');
+    }
+
+    /**
+     * Returns the header of a column in camel case, e.g. "teamName" for "Team Name", to name its JSON field.
+     */
+    static String toFieldName(String header) {
+        final StringBuilder fieldName = new StringBuilder();
+        boolean startsWord = false;
+        for (int i = 0; i < header.length(); i++) {
+            final char c = header.charAt(i);
+            if (!Character.isLetterOrDigit(c)) {
+                startsWord = fieldName.length() > 0;
+            } else if (startsWord) {
+                fieldName.append(Character.toUpperCase(c));
+                startsWord = false;
+            } else {
+                fieldName.append(fieldName.length() == 0 ? Character.toLowerCase(c) : c);
+            }
+        }
+        return fieldName.toString();
+    }
+
+    private static boolean isGzip(Path path) {
+        return path.getFileName().toString().toLowerCase().endsWith(GZIP_EXTENSION);
+    }
+
+    /**
+     * Returns the name of the file in lower case, without its .gz extension if it has one.
+     */
+    private static String stripGzipExtension(Path path) {
+        final String fileName = path.getFileName().toString().toLowerCase();
+        return isGzip(path) ? fileName.substring(0, fileName.length() - GZIP_EXTENSION.length()) : fileName;
+    }
+}
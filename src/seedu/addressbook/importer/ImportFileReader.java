@@ -0,0 +1,163 @@
+package seedu.addressbook.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+
+/**
+ * Reads the rows of a CSV or Excel (.xls or .xlsx) file to be imported into the League Tracker.
+ * CSV files are read a line at a time, so only the rows themselves are held in memory.
+ */
+public class ImportFileReader {
+
+    public static final String CSV_EXTENSION = ".csv";
+    public static final String EXCEL_EXTENSION = ".xls";
+    public static final String XLSX_EXTENSION = ".xlsx";
+
+    /**
+     * A non-blank row of the file, with the text of each of its cells.
+     */
+    public static class ImportRow {
+        /** Line number in a CSV file, or row number in an Excel sheet, counting from 1. */
+        public final int number;
+        public final List<String> cells;
+
+        ImportRow(int number, List<String> cells) {
+            this.number = number;
+            this.cells = Collections.unmodifiableList(cells);
+        }
+    }
+
+    /**
+     * Signals that the file is not of a kind that can be imported.
+     */
+    public static class UnsupportedFileException extends Exception {
+        UnsupportedFileException(String message) {
+            super(message);
+        }
+    }
+
+    private ImportFileReader() {}
+
+    /**
+     * Returns true if files with the name of {@code path} can be read.
+     */
+    public static boolean isSupported(Path path) {
+        final String fileName = path.getFileName().toString().toLowerCase();
+        return fileName.endsWith(CSV_EXTENSION) || fileName.endsWith(EXCEL_EXTENSION)
+                || fileName.endsWith(XLSX_EXTENSION);
+    }
+
+    /**
+     * Reads the non-blank rows of the given file, in order. The cells of each row are trimmed.
+     * Excel files are read from the first sheet only.
+     *
+     * @throws UnsupportedFileException if the file is neither a CSV nor an Excel (.xls or .xlsx) file
+     * @throws IOException if the file could not be read
+     */
+    public static List<ImportRow> readRows(Path path) throws UnsupportedFileException, IOException {
+        if (!isSupported(path)) {
+            throw new UnsupportedFileException("Only " + CSV_EXTENSION + ", " + EXCEL_EXTENSION + " and "
+                    + XLSX_EXTENSION + " files can be imported: " + path);
+        }
+        final String fileName = path.getFileName().toString().toLowerCase();
+        return fileName.endsWith(CSV_EXTENSION)
+                ? readCsvRows(path)
+                : readExcelRows(path, fileName.endsWith(XLSX_EXTENSION));
+    }
+
+    /**
+     * Reads the rows of a CSV file. Fields may be enclosed in double quotes to contain commas, and a double quote
+     * inside a quoted field is written twice. Fields cannot span lines.
+     */
+    private static List<ImportRow> readCsvRows(Path path) throws IOException {
+        final List<ImportRow> rows = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            int lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                final List<String> cells = splitCsvLine(line);
+                if (!isBlank(cells)) {
+                    rows.add(new ImportRow(lineNumber, cells));
+                }
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Splits one line of a CSV file into its trimmed fields.
+     */
+    static List<String> splitCsvLine(String line) {
+        final List<String> cells = new ArrayList<>();
+        final StringBuilder cell = new StringBuilder();
+        boolean isQuoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            final char c = line.charAt(i);
+            if (isQuoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    cell.append('"');
+                    i++;
+                } else if (c == '"') {
+                    isQuoted = false;
+                } else {
+                    cell.append(c);
+                }
+            } else if (c == '"') {
+                isQuoted = true;
+            } else if (c == ',') {
+                cells.add(cell.toString().trim());
+                cell.setLength(0);
+            } else {
+                cell.append(c);
+            }
+        }
+        cells.add(cell.toString().trim());
+        return cells;
+    }
+
+    /**
+     * Reads the rows of the first sheet of an Excel file, with each cell formatted as it is shown in Excel.
+     *
+     * @param isXlsx true if the file is in the .xlsx format of Excel 2007 and later, false if it is in the older
+     *               .xls format
+     */
+    private static List<ImportRow> readExcelRows(Path path, boolean isXlsx) throws IOException {
+        final List<ImportRow> rows = new ArrayList<>();
+        final DataFormatter formatter = new DataFormatter();
+        try (InputStream stream = Files.newInputStream(path);
+             Workbook workbook = isXlsx ? new XSSFWorkbook(stream) : new HSSFWorkbook(stream)) {
+            final Sheet sheet = workbook.getSheetAt(0);
+            for (Row row : sheet) {
+                final List<String> cells = new ArrayList<>();
+                for (int i = 0; i < Math.max(row.getLastCellNum(), 0); i++) {
+                    final Cell cell = row.getCell(i);
+                    cells.add(cell == null ? "" : formatter.formatCellValue(cell).trim());
+                }
+                if (!isBlank(cells)) {
+                    rows.add(new ImportRow(row.getRowNum() + 1, cells));
+                }
+            }
+        }
+        return rows;
+    }
+
+    private static boolean isBlank(List<String> cells) {
+        return cells.stream().allMatch(String::isEmpty);
+    }
+}
@@ -0,0 +1,127 @@
+package seedu.addressbook.logic;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import seedu.addressbook.commands.CommandResult;
+
+/**
+ * Handle to a command started by {@link Logic#start}, which may still be running in the background.
+ */
+public class BackgroundTask {
+
+    public static final String MESSAGE_CANCELLED = "Cancelled: %1$s";
+
+    public final String commandText;
+
+    private final Callable<CommandResult> command;
+    private final CompletableFuture<CommandResult> result = new CompletableFuture<>();
+
+    /** Thread running the command, or null if it has not started yet or has stopped. Guarded by this. */
+    private Thread runner;
+
+    /** True once {@link #cancel} has been called before the command stopped. Guarded by this. */
+    private boolean isCancelled;
+
+    /** True once the command has returned or thrown. Guarded by this. */
+    private boolean isStopped;
+
+    /**
+     * Creates a task that will run {@code command} once it is given to an executor.
+     */
+    BackgroundTask(String commandText, Callable<CommandResult> command) {
+        this.commandText = commandText;
+        this.command = command;
+    }
+
+    /**
+     * Creates a task that has already finished with the given result.
+     */
+    static BackgroundTask finished(String commandText, CommandResult commandResult) {
+        final BackgroundTask task = new BackgroundTask(commandText, () -> commandResult);
+        task.run();
+        return task;
+    }
+
+    /**
+     * Returns what the executor should run to carry out the task.
+     */
+    Runnable getWork() {
+        return this::run;
+    }
+
+    /**
+     * Runs the command, unless it was cancelled before it started, and completes {@link #result} once the command
+     * has stopped, whether it succeeded, failed or was cancelled.
+     */
+    private void run() {
+        synchronized (this) {
+            if (isCancelled) {
+                return;
+            }
+            runner = Thread.currentThread();
+        }
+        CommandResult commandResult = null;
+        Throwable failure = null;
+        try {
+            commandResult = command.call();
+        } catch (Throwable t) {
+            failure = t;
+        }
+        final boolean wasCancelled;
+        synchronized (this) {
+            runner = null;
+            isStopped = true;
+            wasCancelled = isCancelled;
+            // clears an interrupt from cancel, so that it does not reach the next task run by this thread
+            Thread.interrupted();
+        }
+        if (wasCancelled) {
+            result.complete(cancelledResult());
+        } else if (failure != null) {
+            result.completeExceptionally(failure);
+        } else {
+            result.complete(commandResult);
+        }
+    }
+
+    private CommandResult cancelledResult() {
+        return new CommandResult(String.format(MESSAGE_CANCELLED, commandText));
+    }
+
+    /**
+     * Asks the command to stop if it has not finished yet, by interrupting the thread running it. Its result says
+     * that it was cancelled, but only once the command has actually stopped and cleaned up after itself, e.g.
+     * deleted the file it was exporting to. A command that has not started yet never runs.
+     *
+     * @return true if the command was asked to stop, false if it had already finished
+     */
+    public boolean cancel() {
+        synchronized (this) {
+            if (isCancelled || isStopped) {
+                return false;
+            }
+            isCancelled = true;
+            if (runner != null) {
+                runner.interrupt();
+                return true;
+            }
+        }
+        // not started yet, so nothing is left to stop
+        result.complete(cancelledResult());
+        return true;
+    }
+
+    public boolean isDone() {
+        return result.isDone();
+    }
+
+    /**
+     * Returns the result of the command, which completes when the command finishes or, if it is cancelled,
+     * once it has stopped. It completes exceptionally if the command failed.
+     */
+    public CompletionStage<CommandResult> getResult() {
+        return result;
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.addressbook.logic;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.addressbook.commands.CommandResult;
+
+/**
+ * Represents the results of running a batch of commands, one entry per command run.
+ */
+public class BatchResult {
+
+    /**
+     * The result of one command in the batch.
+     */
+    public static class Entry {
+        /** Line of the batch the command was on, counting from 1. */
+        public final int lineNumber;
+        public final String commandText;
+        public final CommandResult result;
+        /** True if the command could not be understood or could not be run. */
+        public final boolean isFailed;
+
+        Entry(int lineNumber, String commandText, CommandResult result, boolean isFailed) {
+            this.lineNumber = lineNumber;
+            this.commandText = commandText;
+            this.result = result;
+            this.isFailed = isFailed;
+        }
+    }
+
+    private final List<Entry> entries = new ArrayList<>();
+
+    void add(Entry entry) {
+        entries.add(entry);
+    }
+
+    /**
+     * Unmodifiable view of the entries, in the order the commands were run.
+     */
+    public List<Entry> getEntries() {
+        return Collections.unmodifiableList(entries);
+    }
+
+    /**
+     * Returns the number of commands that failed.
+     */
+    public int getFailureCount() {
+        return (int) entries.stream().filter(entry -> entry.isFailed).count();
+    }
+}
@@ -1,17 +1,34 @@
 package seedu.addressbook.logic;
 
+import static seedu.addressbook.common.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.StampedLock;
+import java.util.logging.Logger;
 
 import seedu.addressbook.commands.Command;
 import seedu.addressbook.commands.CommandResult;
+import seedu.addressbook.commands.ExitCommand;
+import seedu.addressbook.commands.HelpCommand;
+import seedu.addressbook.commands.IncorrectCommand;
+import seedu.addressbook.common.ProgressListener;
 import seedu.addressbook.data.AddressBook;
 import seedu.addressbook.data.finance.ReadOnlyFinance;
 import seedu.addressbook.data.match.ReadOnlyMatch;
 import seedu.addressbook.data.player.ReadOnlyPlayer;
 import seedu.addressbook.data.team.ReadOnlyTeam;
 import seedu.addressbook.parser.Parser;
+import seedu.addressbook.storage.AsyncStorage;
+import seedu.addressbook.storage.JournalStorageFile;
+import seedu.addressbook.storage.Storage;
 import seedu.addressbook.storage.StorageFile;
 
 /**
@@ -19,9 +36,72 @@ import seedu.addressbook.storage.StorageFile;
  */
 public class Logic {
 
-    private StorageFile storage;
+    /** Launch argument that turns on journal storage. */
+    public static final String ARG_JOURNAL = "--journal";
+
+    /** Launch argument that saves compact XML and logs how long each save takes. */
+    public static final String ARG_PRODUCTION = "--production";
+
+    /**
+     * Launch argument that saves in the background. It may be followed by "=" and the longest time,
+     * in milliseconds, that a change may wait before being written, e.g. {@code --async=500}.
+     */
+    public static final String ARG_ASYNC = "--async";
+
+    /** Lines of a batch starting with this are comments, and are skipped like blank lines. */
+    public static final String BATCH_COMMENT_PREFIX = "#";
+
+    public static final String MESSAGE_COMMAND_FAILED = "Command failed: %1$s";
+
+    public static final String MESSAGE_TOO_MANY_BACKGROUND_TASKS =
+            "Too many commands are running in the background. Try again when some of them have finished.";
+
+    /** Most commands run in the background at once, and most that may wait for a thread to run on. */
+    public static final int BACKGROUND_THREADS = 2;
+    public static final int BACKGROUND_QUEUE_CAPACITY = 8;
+
+    /**
+     * A copy of the data taken at a given version of it, for {@link #getSnapshot}.
+     */
+    private static class Snapshot {
+        final AddressBook source;
+        final long version;
+        final AddressBook copy;
+
+        Snapshot(AddressBook source, long version, AddressBook copy) {
+            this.source = source;
+            this.version = version;
+            this.copy = copy;
+        }
+    }
+
+    private static final Logger logger = Logger.getLogger(Logic.class.getName());
+
+    private Storage storage;
     private AddressBook addressBook;
 
+    /** True if the time taken by each save is logged, as it is when launched with {@link #ARG_PRODUCTION}. */
+    private boolean isSaveTimed;
+
+    /**
+     * Held for writing while a command runs or the data is replaced, and for reading while a snapshot is taken.
+     * Commands are only run by one thread at a time, the one that owns this Logic; the lock lets other threads
+     * copy the data between commands, without waiting for saves, which happen outside it.
+     */
+    private final StampedLock dataLock = new StampedLock();
+
+    /** Latest snapshot taken, or null if none has been taken yet. */
+    private volatile Snapshot snapshot;
+
+    /**
+     * Runs the commands that {@link Command#runsInBackground run in the background}. Its threads are daemons,
+     * so they do not keep the program running, and stop when they have been idle for a while.
+     */
+    private final ThreadPoolExecutor backgroundExecutor = createBackgroundExecutor();
+
+    /** Version of {@link #addressBook} when it was last saved. */
+    private long savedVersion;
+
     /**
      * The list of player shown to the user most recently.
      */
@@ -43,29 +123,80 @@ public class Logic {
     private List<? extends ReadOnlyFinance> lastFinanceShownList = Collections.emptyList();
 
     public Logic() throws Exception {
-        setStorage(initializeStorage());
+        this(Collections.emptyList());
+    }
+
+    /**
+     * @param launchArgs arguments the program was launched with
+     */
+    public Logic(List<String> launchArgs) throws Exception {
+        setStorage(initializeStorage(launchArgs));
         setAddressBook(storage.load());
+        isSaveTimed = launchArgs.contains(ARG_PRODUCTION);
     }
 
-    Logic(StorageFile storageFile, AddressBook addressBook) {
-        setStorage(storageFile);
+    Logic(Storage storage, AddressBook addressBook) {
+        setStorage(storage);
         setAddressBook(addressBook);
     }
 
-    void setStorage(StorageFile storage) {
+    void setStorage(Storage storage) {
         this.storage = storage;
     }
 
     void setAddressBook(AddressBook addressBook) {
-        this.addressBook = addressBook;
+        final long stamp = dataLock.writeLock();
+        try {
+            this.addressBook = addressBook;
+        } finally {
+            dataLock.unlockWrite(stamp);
+        }
+        this.savedVersion = addressBook.getVersion();
     }
 
     /**
-     * Creates the StorageFile object based on the user specified path (if any) or the default storage path.
+     * Creates the storage based on the user specified path (if any) or the default storage path.
+     * The first launch argument that is not an option is taken as the path.
      * @throws StorageFile.InvalidStorageFilePathException if the target file path is incorrect.
      */
-    private StorageFile initializeStorage() throws StorageFile.InvalidStorageFilePathException {
-        return new StorageFile();
+    private Storage initializeStorage(List<String> launchArgs) throws StorageFile.InvalidStorageFilePathException {
+        final String path = launchArgs.stream()
+                .filter(arg -> !arg.startsWith("--"))
+                .findFirst()
+                .orElse(StorageFile.DEFAULT_STORAGE_FILEPATH);
+        final StorageFile.Profile profile = launchArgs.contains(ARG_PRODUCTION)
+                ? StorageFile.Profile.PRODUCTION
+                : StorageFile.Profile.DEVELOPMENT;
+        if (launchArgs.contains(ARG_JOURNAL)) {
+            return new JournalStorageFile(path, JournalStorageFile.DEFAULT_COMPACTION_THRESHOLD, profile);
+        }
+        final Optional<String> asyncArg = launchArgs.stream()
+                .filter(arg -> arg.equals(ARG_ASYNC) || arg.startsWith(ARG_ASYNC + "="))
+                .findFirst();
+        if (asyncArg.isPresent()) {
+            return new AsyncStorage(Storage.forPath(path, profile), parseDurabilityWindow(asyncArg.get()));
+        }
+        return Storage.forPath(path, profile);
+    }
+
+    /**
+     * Returns the durability window given in the {@link #ARG_ASYNC} launch argument, or the default if none
+     * or an invalid one is given.
+     */
+    private static long parseDurabilityWindow(String asyncArg) {
+        try {
+            return Long.parseLong(asyncArg.substring((ARG_ASYNC + "=").length()));
+        } catch (IndexOutOfBoundsException | NumberFormatException e) {
+            return AsyncStorage.DEFAULT_DURABILITY_WINDOW_MILLIS;
+        }
+    }
+
+    /**
+     * Waits until every change made so far has been saved.
+     * @throws StorageFile.StorageOperationException if a change could not be saved.
+     */
+    public void flush() throws StorageFile.StorageOperationException {
+        storage.flush();
     }
 
     public String getStorageFilePath() {
@@ -116,6 +247,86 @@ public class Logic {
         lastFinanceShownList = newList;
     }
 
+    /**
+     * Parses the user command and starts it. Commands that {@link Command#runsInBackground run in the background}
+     * run on a snapshot of the data, on one of a few background threads, so that the caller can carry on while
+     * they run; they cannot change the data. All other commands are executed at once, as by
+     * {@link #execute(String)}.
+     *
+     * @param progress told how far a background command has got, on the thread running it
+     * @return handle to the command, which has already finished unless the command runs in the background
+     * @throws Exception if there was any problem executing a command that does not run in the background.
+     */
+    public BackgroundTask start(String userCommandText, ProgressListener progress) throws Exception {
+        final Command command = new Parser().parseCommand(userCommandText);
+        if (!command.runsInBackground()) {
+            final CommandResult result = execute(command);
+            recordResult(result);
+            return BackgroundTask.finished(userCommandText, result);
+        }
+
+        final BackgroundTask task = new BackgroundTask(userCommandText, () -> {
+            // the snapshot is shared with other readers, so the command gets its own lists in case it reorders them
+            final AddressBook data = getSnapshot().shallowCopy();
+            command.setData(data,
+                    data.getAllPlayers().immutableListView(),
+                    data.getAllTeams().immutableListView(),
+                    data.getAllMatches().immutableListView(),
+                    data.getAllFinances().immutableListView());
+            command.setProgressListener(stopIfCancelled(progress));
+            return command.execute();
+        });
+        try {
+            backgroundExecutor.execute(task.getWork());
+        } catch (RejectedExecutionException ree) {
+            return BackgroundTask.finished(userCommandText, new CommandResult(MESSAGE_TOO_MANY_BACKGROUND_TASKS));
+        }
+        return task;
+    }
+
+    /**
+     * Returns a listener that passes progress on to {@code progress}, but stops the command instead if the
+     * thread running it has been interrupted by {@link BackgroundTask#cancel}.
+     */
+    private static ProgressListener stopIfCancelled(ProgressListener progress) {
+        return (done, total) -> {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new CancellationException();
+            }
+            progress.onProgress(done, total);
+        };
+    }
+
+    /**
+     * Creates the executor for background commands. It has a bounded queue, so a command started while the queue
+     * is full is rejected instead of piling up.
+     */
+    private static ThreadPoolExecutor createBackgroundExecutor() {
+        final ThreadFactory daemonThreads = runnable -> {
+            final Thread thread = new Thread(runnable, "background-command");
+            thread.setDaemon(true);
+            return thread;
+        };
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(BACKGROUND_THREADS, BACKGROUND_THREADS,
+                1, TimeUnit.MINUTES, new ArrayBlockingQueue<>(BACKGROUND_QUEUE_CAPACITY), daemonThreads);
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Parses and executes the user command with every player, team, match and finance as the last shown lists,
+     * so that indexes in the command are positions in the full lists, and returns the result.
+     * For clients that do not see what earlier commands showed, such as those of the HTTP API.
+     * @throws Exception if there was any problem during command execution.
+     */
+    public CommandResult executeOnFullLists(String userCommandText) throws Exception {
+        lastPlayerShownList = addressBook.getAllPlayers().immutableListView();
+        lastTeamShownList = addressBook.getAllTeams().immutableListView();
+        lastMatchList = addressBook.getAllMatches().immutableListView();
+        lastFinanceShownList = addressBook.getAllFinances().immutableListView();
+        return execute(userCommandText);
+    }
+
     /**
      * Parses the user command, executes it, and returns the result.
      * @throws Exception if there was any problem during command execution.
@@ -128,23 +339,149 @@ public class Logic {
     }
 
     /**
-     * Executes the command, updates storage, and returns the result.
+     * Executes the command, updates storage if the command changed anything, and returns the result.
      *
      * @param command user command
      * @return result of the command
      * @throws Exception if there was any problem during command execution.
      */
     private CommandResult execute(Command command) throws Exception {
-        command.setData(addressBook,
-                lastPlayerShownList,
-                lastTeamShownList,
-                lastMatchList,
-                lastFinanceShownList);
-        CommandResult result = command.execute();
-        storage.save(addressBook);
+        CommandResult result = run(command);
+        saveIfChanged();
+        if (command instanceof ExitCommand) {
+            storage.flush();
+        }
         return result;
     }
 
+    /**
+     * Executes the command against the current data and last shown lists, without saving.
+     */
+    private CommandResult run(Command command) {
+        final long stamp = dataLock.writeLock();
+        try {
+            command.setData(addressBook,
+                    lastPlayerShownList,
+                    lastTeamShownList,
+                    lastMatchList,
+                    lastFinanceShownList);
+            return command.execute();
+        } finally {
+            dataLock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Saves the data if it changed since it was last saved, logging how long the save took if saves are timed.
+     */
+    private void saveIfChanged() throws StorageFile.StorageOperationException {
+        if (addressBook.getVersion() != savedVersion) {
+            final long startTime = System.nanoTime();
+            storage.save(addressBook);
+            savedVersion = addressBook.getVersion();
+            if (isSaveTimed) {
+                final long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+                logger.info("Saved " + storage.getPath() + " in " + millis + " ms");
+            }
+        }
+    }
+
+    /**
+     * Parses and executes each of the given command lines in order, as if they were entered one after another,
+     * but saves only once, after the last of them, instead of after every command that changes anything.
+     * A command that fails does not stop the commands after it. Blank lines and lines starting with
+     * {@link #BATCH_COMMENT_PREFIX} are skipped, and an exit command ends the batch.
+     *
+     * @return the result of each command run
+     * @throws Exception if the changes could not be saved.
+     */
+    public BatchResult executeBatch(List<String> commandLines) throws Exception {
+        final BatchResult batch = new BatchResult();
+        final Parser parser = new Parser();
+        int lineNumber = 0;
+        for (String line : commandLines) {
+            lineNumber++;
+            final String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(BATCH_COMMENT_PREFIX)) {
+                continue;
+            }
+            Command command = parser.parseCommand(commandText);
+            if (isUnknownCommandWord(command, commandText)) {
+                // report it briefly instead of printing the whole help sheet in the middle of the batch
+                command = new IncorrectCommand(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
+            }
+            CommandResult result;
+            boolean isFailed = command instanceof IncorrectCommand;
+            try {
+                result = run(command);
+            } catch (RuntimeException re) {
+                result = new CommandResult(String.format(MESSAGE_COMMAND_FAILED, re));
+                isFailed = true;
+            }
+            recordResult(result);
+            batch.add(new BatchResult.Entry(lineNumber, commandText, result, isFailed));
+            if (command instanceof ExitCommand) {
+                break;
+            }
+        }
+        saveIfChanged();
+        storage.flush();
+        return batch;
+    }
+
+    /**
+     * Returns a copy of the data as it was after the last command that finished, with its finances brought up to
+     * date. The copy can be read on any thread, and by many threads at once, while commands keep changing the data;
+     * it must not be changed. Safe to call from any thread.
+     *
+     * The copy is a shallow one, so taking it costs O(1) and not O(n): it shares its lists, teams, players and
+     * matches with the data, which copies each of them before changing it. The copy is reused until the data
+     * changes. Taking it waits for a running command to finish, but never for a save.
+     * @throws Exception if the data could not be copied.
+     */
+    public AddressBook getSnapshot() throws Exception {
+        final long optimisticStamp = dataLock.tryOptimisticRead();
+        final Snapshot latest = snapshot;
+        if (isSnapshotOf(latest, addressBook) && dataLock.validate(optimisticStamp)) {
+            return latest.copy;
+        }
+
+        final AddressBook source;
+        final long version;
+        final AddressBook copy;
+        final long stamp = dataLock.readLock();
+        try {
+            final Snapshot current = snapshot;
+            if (isSnapshotOf(current, addressBook)) {
+                return current.copy;
+            }
+            source = addressBook;
+            version = addressBook.getVersion();
+            copy = addressBook.shallowCopy();
+        } finally {
+            dataLock.unlockRead(stamp);
+        }
+        // refreshing replaces the copy's finance list rather than changing the one it shares, so it needs no lock
+        copy.refreshFinance();
+        snapshot = new Snapshot(source, version, copy);
+        return copy;
+    }
+
+    /**
+     * Returns true if {@code snapshot} is a copy of {@code source} as it is now.
+     */
+    private static boolean isSnapshotOf(Snapshot snapshot, AddressBook source) {
+        return snapshot != null && snapshot.source == source && snapshot.version == source.getVersion();
+    }
+
+    /**
+     * Returns true if {@code command} is the help sheet that the parser gives for an unknown command word.
+     */
+    private static boolean isUnknownCommandWord(Command command, String commandText) {
+        return command instanceof HelpCommand && !commandText.split("\\s+")[0].equals(HelpCommand.COMMAND_WORD);
+    }
+
     /**
      * Updates the {@link #lastPlayerShownList} if the result contains a list of Persons.
      * Updates the {@link #lastMatchList} if the result contains a list of Matches.
@@ -16,7 +16,10 @@ import java.util.regex.Pattern;
 import seedu.addressbook.commands.Command;
 import seedu.addressbook.commands.DataAnalysisCommand;
 import seedu.addressbook.commands.ExitCommand;
+import seedu.addressbook.commands.ExportAllCommand;
+import seedu.addressbook.commands.ExportDataCommand;
 import seedu.addressbook.commands.HelpCommand;
+import seedu.addressbook.commands.ImportCommand;
 import seedu.addressbook.commands.IncorrectCommand;
 import seedu.addressbook.commands.finance.ExportFinanceCommand;
 import seedu.addressbook.commands.finance.GetFinanceCommand;
@@ -189,7 +192,7 @@ public class Parser {
             return prepareTransferPlayer(arguments);
 
         case ExportPlayerCommand.COMMAND_WORD:
-            return new ExportPlayerCommand();
+            return prepareExportPlayer(arguments);
 
         case ExportFinanceCommand.COMMAND_WORD:
             return new ExportFinanceCommand();
@@ -200,9 +203,18 @@ public class Parser {
         case ExportMatchCommand.COMMAND_WORD:
             return new ExportMatchCommand();
 
+        case ExportAllCommand.COMMAND_WORD:
+            return prepareExportAll(arguments);
+
+        case ExportDataCommand.COMMAND_WORD:
+            return prepareExportData(arguments);
+
         case DataAnalysisCommand.COMMAND_WORD:
             return new DataAnalysisCommand();
 
+        case ImportCommand.COMMAND_WORD:
+            return prepareImport(arguments);
+
         case DeleteTeam.COMMAND_WORD:
             return delTeam(arguments);
 
@@ -303,6 +315,64 @@ public class Parser {
         }
     }
 
+    /**
+     * Parses arguments in the context of the import command.
+     *
+     * @param args full command args string
+     * @return the prepared command
+     */
+    private Command prepareImport(String args) {
+        final String filePath = args.trim();
+        if (filePath.isEmpty()) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+        }
+        return new ImportCommand(filePath);
+    }
+
+    /**
+     * Parses arguments in the context of the export data command.
+     *
+     * @param args full command args string
+     * @return the prepared command
+     */
+    private Command prepareExportData(String args) {
+        final String[] kindAndPath = args.trim().split("\\s+", 2);
+        if (kindAndPath.length < 2) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    ExportDataCommand.MESSAGE_USAGE));
+        }
+        return new ExportDataCommand(kindAndPath[0], kindAndPath[1]);
+    }
+
+    /**
+     * Parses arguments in the context of the export player command.
+     *
+     * @param args full command args string
+     * @return the prepared command
+     */
+    private Command prepareExportPlayer(String args) {
+        final String option = args.trim();
+        if (!option.isEmpty() && !option.equals(ExportPlayerCommand.OPTION_TOTALS)) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    ExportPlayerCommand.MESSAGE_USAGE));
+        }
+        return new ExportPlayerCommand(!option.isEmpty());
+    }
+
+    /**
+     * Parses arguments in the context of the export all command.
+     *
+     * @param args full command args string
+     * @return the prepared command
+     */
+    private Command prepareExportAll(String args) {
+        final String option = args.trim();
+        if (!option.isEmpty() && !option.equals(ExportPlayerCommand.OPTION_TOTALS)) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportAllCommand.MESSAGE_USAGE));
+        }
+        return new ExportAllCommand(!option.isEmpty());
+    }
+
     /**
      * Parses arguments in the context of the add player command.
      *
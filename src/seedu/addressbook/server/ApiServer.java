@@ -0,0 +1,308 @@
+package seedu.addressbook.server;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.addressbook.commands.Command;
+import seedu.addressbook.commands.CommandResult;
+import seedu.addressbook.commands.ExitCommand;
+import seedu.addressbook.commands.IncorrectCommand;
+import seedu.addressbook.commands.finance.ListFinanceCommand;
+import seedu.addressbook.commands.finance.ViewFinanceCommand;
+import seedu.addressbook.commands.match.FindMatchCommand;
+import seedu.addressbook.commands.match.ListMatchCommand;
+import seedu.addressbook.commands.match.ViewMatchCommand;
+import seedu.addressbook.commands.player.FindCommand;
+import seedu.addressbook.commands.player.ListCommand;
+import seedu.addressbook.commands.player.ViewAllCommand;
+import seedu.addressbook.commands.team.FindTeam;
+import seedu.addressbook.commands.team.ListTeam;
+import seedu.addressbook.commands.team.ViewTeam;
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.logic.Logic;
+import seedu.addressbook.parser.Parser;
+
+/**
+ * Serves the League Tracker over HTTP, with JSON responses, to other tools on the same machine.
+ *
+ * {@code GET /api/players}, {@code /api/teams}, {@code /api/matches} and {@code /api/finances} list everything,
+ * {@code ?find=KEYWORDS} finds by name, and e.g. {@code GET /api/teams/2} views the second team of the list.
+ * {@code POST /api/commands} with a body of {@code {"command": "..."}} runs any command, with indexes referring
+ * to the full lists.
+ *
+ * Reads run concurrently, each on its own thread, against an immutable snapshot of the data, so they never wait
+ * for a change or a save. Commands posted are run one at a time on a single writer thread, which owns the
+ * {@link Logic}, saves the data and then publishes a new snapshot.
+ */
+public class ApiServer {
+
+    public static final int DEFAULT_PORT = 8080;
+
+    public static final String PATH_PREFIX = "/api/";
+    public static final String PATH_COMMANDS = PATH_PREFIX + "commands";
+    public static final String FIND_PARAMETER = "find";
+
+    public static final String MESSAGE_NOT_FOUND = "No such resource: %1$s";
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "%1$s is not supported for %2$s";
+    public static final String MESSAGE_FIND_NOT_SUPPORTED = "Finding is not supported for %1$s";
+    public static final String MESSAGE_EXIT_NOT_ALLOWED = "The server cannot be stopped through the API";
+    public static final String MESSAGE_COMMAND_FAILED = "Command failed: %1$s";
+
+    private static final int STATUS_OK = 200;
+    private static final int STATUS_BAD_REQUEST = 400;
+    private static final int STATUS_NOT_FOUND = 404;
+    private static final int STATUS_METHOD_NOT_ALLOWED = 405;
+    private static final int STATUS_SERVER_ERROR = 500;
+
+    /**
+     * Command words that list, find and view each kind of resource. A null word means the resource has no
+     * such command.
+     */
+    private static class Resource {
+        final String listWord;
+        final String findWord;
+        final String viewWord;
+
+        Resource(String listWord, String findWord, String viewWord) {
+            this.listWord = listWord;
+            this.findWord = findWord;
+            this.viewWord = viewWord;
+        }
+    }
+
+    private static final Map<String, Resource> RESOURCES = new HashMap<>();
+
+    static {
+        RESOURCES.put("players", new Resource(ListCommand.COMMAND_WORD, FindCommand.COMMAND_WORD,
+                ViewAllCommand.COMMAND_WORD));
+        RESOURCES.put("teams", new Resource(ListTeam.COMMAND_WORD, FindTeam.COMMAND_WORD, ViewTeam.COMMAND_WORD));
+        RESOURCES.put("matches", new Resource(ListMatchCommand.COMMAND_WORD, FindMatchCommand.COMMAND_WORD,
+                ViewMatchCommand.COMMAND_WORD));
+        RESOURCES.put("finances", new Resource(ListFinanceCommand.COMMAND_WORD, null,
+                ViewFinanceCommand.COMMAND_WORD));
+    }
+
+    private final Logic logic;
+    private final HttpServer server;
+    private final ExecutorService readers = Executors.newCachedThreadPool();
+    private final ExecutorService writer = Executors.newSingleThreadExecutor();
+    private final JsonFormatter formatter = new JsonFormatter();
+
+    /** Latest copy of the data, replaced by the writer after every change. It is never changed once published. */
+    private volatile AddressBook snapshot;
+
+    /**
+     * Creates a server for {@code logic} on the given port of the loopback interface. The server does not
+     * accept requests until it is {@link #start started}; from then on only its writer thread may use
+     * {@code logic}.
+     *
+     * @throws Exception if the data could not be copied or the port could not be bound
+     */
+    public ApiServer(Logic logic, int port) throws Exception {
+        this.logic = logic;
+        this.snapshot = logic.getSnapshot();
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext(PATH_PREFIX, this::handle);
+        server.setExecutor(readers);
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Stops accepting requests, lets the commands already posted finish, and waits until their changes are saved.
+     */
+    public void stop() throws Exception {
+        server.stop(0);
+        readers.shutdown();
+        writer.submit(() -> {
+            logic.flush();
+            return null;
+        }).get();
+        writer.shutdown();
+        writer.awaitTermination(1, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Returns the port the server listens on.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Answers one request, on one of the reader threads.
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            final String path = exchange.getRequestURI().getPath();
+            final String method = exchange.getRequestMethod();
+            if (path.equals(PATH_COMMANDS)) {
+                if (!method.equals("POST")) {
+                    sendError(exchange, STATUS_METHOD_NOT_ALLOWED, String.format(MESSAGE_METHOD_NOT_ALLOWED,
+                            method, path));
+                    return;
+                }
+                handleCommand(exchange);
+                return;
+            }
+            final List<String> segments = Arrays.asList(path.substring(PATH_PREFIX.length()).split("/"));
+            final Resource resource = RESOURCES.get(segments.get(0));
+            if (resource == null || segments.size() > 2) {
+                sendError(exchange, STATUS_NOT_FOUND, String.format(MESSAGE_NOT_FOUND, path));
+                return;
+            }
+            if (!method.equals("GET")) {
+                sendError(exchange, STATUS_METHOD_NOT_ALLOWED, String.format(MESSAGE_METHOD_NOT_ALLOWED,
+                        method, path));
+                return;
+            }
+            handleRead(exchange, resource, segments);
+        } catch (Exception e) {
+            sendError(exchange, STATUS_SERVER_ERROR, String.format(MESSAGE_COMMAND_FAILED, e));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Lists, finds or views a resource in the current snapshot, without waiting for the writer.
+     */
+    private void handleRead(HttpExchange exchange, Resource resource, List<String> segments) throws IOException {
+        final String find = getQueryParameter(exchange, FIND_PARAMETER);
+        final String commandText;
+        if (segments.size() == 2) {
+            commandText = resource.viewWord + " " + segments.get(1);
+        } else if (find != null && resource.findWord == null) {
+            sendError(exchange, STATUS_BAD_REQUEST, String.format(MESSAGE_FIND_NOT_SUPPORTED, segments.get(0)));
+            return;
+        } else if (find != null) {
+            commandText = resource.findWord + " " + find;
+        } else {
+            commandText = resource.listWord;
+        }
+
+        final Command command = new Parser().parseCommand(commandText);
+        if (command instanceof IncorrectCommand) {
+            sendResult(exchange, STATUS_BAD_REQUEST, command.execute());
+            return;
+        }
+        // commands such as listfinance refresh the finances, so each read works on its own view of the snapshot,
+        // which shares the snapshot's lists until it changes them
+        final AddressBook view = snapshot.shallowCopy();
+        command.setData(view,
+                view.getAllPlayers().immutableListView(),
+                view.getAllTeams().immutableListView(),
+                view.getAllMatches().immutableListView(),
+                view.getAllFinances().immutableListView());
+        sendResult(exchange, STATUS_OK, command.execute());
+    }
+
+    /**
+     * Runs a posted command on the writer thread and answers with its result once it is saved.
+     */
+    private void handleCommand(HttpExchange exchange) throws Exception {
+        final String commandText;
+        try {
+            commandText = formatter.readCommand(readBody(exchange.getRequestBody()));
+        } catch (IOException ioe) {
+            sendError(exchange, STATUS_BAD_REQUEST, ioe.getMessage());
+            return;
+        }
+        final Command command = new Parser().parseCommand(commandText);
+        if (command instanceof IncorrectCommand) {
+            sendResult(exchange, STATUS_BAD_REQUEST, command.execute());
+            return;
+        }
+        if (command instanceof ExitCommand) {
+            sendError(exchange, STATUS_BAD_REQUEST, MESSAGE_EXIT_NOT_ALLOWED);
+            return;
+        }
+
+        final CommandResult result;
+        try {
+            result = writer.submit(() -> runOnWriter(commandText)).get();
+        } catch (ExecutionException ee) {
+            sendError(exchange, STATUS_SERVER_ERROR, String.format(MESSAGE_COMMAND_FAILED, ee.getCause()));
+            return;
+        }
+        sendResult(exchange, STATUS_OK, result);
+    }
+
+    /**
+     * Runs the command against the data, and publishes a snapshot of the data as the command left it, so that
+     * reads never have to wait for the next snapshot to be taken. Must only be called on the writer thread.
+     */
+    private CommandResult runOnWriter(String commandText) throws Exception {
+        final CommandResult result = logic.executeOnFullLists(commandText);
+        snapshot = logic.getSnapshot();
+        return result;
+    }
+
+    private void sendResult(HttpExchange exchange, int status, CommandResult result) throws IOException {
+        send(exchange, status, formatter.format(result));
+    }
+
+    private void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        send(exchange, status, formatter.formatError(message));
+    }
+
+    /**
+     * Sends {@code body} as the JSON response to the request.
+     */
+    private static void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    /**
+     * Returns the decoded value of the given query parameter, or null if the request has none.
+     */
+    private static String getQueryParameter(HttpExchange exchange, String name) throws IOException {
+        final String query = exchange.getRequestURI().getRawQuery();
+        if (query == null) {
+            return null;
+        }
+        for (String pair : query.split("&")) {
+            final int equals = pair.indexOf('=');
+            if (equals > 0 && pair.substring(0, equals).equals(name)) {
+                return URLDecoder.decode(pair.substring(equals + 1), StandardCharsets.UTF_8.name());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reads the whole of a request body.
+     */
+    private static byte[] readBody(InputStream in) throws IOException {
+        final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[4096];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            body.write(buffer, 0, read);
+        }
+        return body.toByteArray();
+    }
+}
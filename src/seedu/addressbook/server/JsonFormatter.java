@@ -0,0 +1,150 @@
+package seedu.addressbook.server;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import seedu.addressbook.commands.CommandResult;
+import seedu.addressbook.data.finance.ReadOnlyFinance;
+import seedu.addressbook.data.match.ReadOnlyMatch;
+import seedu.addressbook.data.player.Name;
+import seedu.addressbook.data.player.ReadOnlyPlayer;
+import seedu.addressbook.data.tag.Tag;
+import seedu.addressbook.data.team.ReadOnlyTeam;
+
+/**
+ * Formats command results as JSON for the HTTP API, and reads the JSON sent to it.
+ * Safe to use from many threads at once.
+ */
+public class JsonFormatter {
+
+    /** Field of a request body holding the command to run. */
+    public static final String FIELD_COMMAND = "command";
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    /**
+     * Formats the feedback of {@code result} and the lists it produced, if any, as a JSON object.
+     */
+    public byte[] format(CommandResult result) throws IOException {
+        final Map<String, Object> json = new LinkedHashMap<>();
+        json.put("feedback", result.feedbackToUser);
+        result.getRelevantPlayers().ifPresent(players -> json.put("players", asJson(players, this::asJson)));
+        result.getRelevantTeams().ifPresent(teams -> json.put("teams", asJson(teams, this::asJson)));
+        result.getRelevantMatches().ifPresent(matches -> json.put("matches", asJson(matches, this::asJson)));
+        result.getRelevantFinances().ifPresent(finances -> json.put("finances", asJson(finances, this::asJson)));
+        return mapper.writeValueAsBytes(json);
+    }
+
+    /**
+     * Formats an error message as a JSON object.
+     */
+    public byte[] formatError(String message) throws IOException {
+        final Map<String, Object> json = new LinkedHashMap<>();
+        json.put("error", message);
+        return mapper.writeValueAsBytes(json);
+    }
+
+    /**
+     * Returns the command in a request body of the form {@code {"command": "..."}}.
+     *
+     * @throws IOException if the body is not such a JSON object
+     */
+    public String readCommand(byte[] body) throws IOException {
+        final Object command = mapper.readValue(body, Map.class).get(FIELD_COMMAND);
+        if (!(command instanceof String)) {
+            throw new IOException("Expected a JSON object with a \"" + FIELD_COMMAND + "\" string");
+        }
+        return (String) command;
+    }
+
+    private static <T> List<Map<String, Object>> asJson(List<? extends T> items,
+                                                         Function<T, Map<String, Object>> toJson) {
+        return items.stream().map(toJson).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the details of a player as JSON fields.
+     */
+    private Map<String, Object> asJson(ReadOnlyPlayer player) {
+        final Map<String, Object> json = new LinkedHashMap<>();
+        json.put("name", player.getName().toString());
+        json.put("position", player.getPositionPlayed().toString());
+        json.put("age", player.getAge().toString());
+        json.put("salary", player.getSalary().toString());
+        json.put("goalsScored", player.getGoalsScored().toString());
+        json.put("goalsAssisted", player.getGoalsAssisted().toString());
+        json.put("team", player.getTeamName().toString());
+        json.put("nationality", player.getNationality().toString());
+        json.put("jerseyNumber", player.getJerseyNumber().toString());
+        json.put("appearances", player.getAppearance().toString());
+        json.put("healthStatus", player.getHealthStatus().toString());
+        json.put("tags", asJson(player.getTags()));
+        return json;
+    }
+
+    /**
+     * Returns the details of a team, with the names of its players, as JSON fields.
+     */
+    private Map<String, Object> asJson(ReadOnlyTeam team) {
+        final Map<String, Object> json = new LinkedHashMap<>();
+        json.put("name", team.getTeamName().toString());
+        json.put("country", team.getCountry().toString());
+        json.put("sponsor", team.getSponsor().toString());
+        json.put("points", team.getPoints());
+        json.put("wins", team.getWins());
+        json.put("draws", team.getDraws());
+        json.put("losses", team.getLoses());
+        json.put("players", team.getPlayers().stream()
+                .map(player -> player.getName().toString())
+                .collect(Collectors.toList()));
+        json.put("tags", asJson(team.getTags()));
+        return json;
+    }
+
+    /**
+     * Returns the details of a match as JSON fields.
+     */
+    private Map<String, Object> asJson(ReadOnlyMatch match) {
+        final Map<String, Object> json = new LinkedHashMap<>();
+        json.put("date", match.getDate().toString());
+        json.put("home", match.getHome().toString());
+        json.put("away", match.getAway().toString());
+        json.put("homeSales", match.getHomeSales().toString());
+        json.put("awaySales", match.getAwaySales().toString());
+        json.put("score", match.getScore().toString());
+        json.put("goalScorers", names(match.getGoalScorers()));
+        json.put("ownGoalScorers", names(match.getOwnGoalScorers()));
+        return json;
+    }
+
+    /**
+     * Returns the finances of a team as JSON fields.
+     */
+    private Map<String, Object> asJson(ReadOnlyFinance finance) {
+        final Map<String, Object> json = new LinkedHashMap<>();
+        json.put("team", finance.getTeamName());
+        json.put("sponsor", finance.getSponsor());
+        json.put("ticketIncome", finance.getTicketIncome());
+        json.put("total", finance.getFinance());
+        json.put("quarterOne", finance.getQuarterOne());
+        json.put("quarterTwo", finance.getQuarterTwo());
+        json.put("quarterThree", finance.getQuarterThree());
+        json.put("quarterFour", finance.getQuarterFour());
+        return json;
+    }
+
+    private static List<String> asJson(Set<Tag> tags) {
+        return tags.stream().map(tag -> tag.tagName).sorted().collect(Collectors.toList());
+    }
+
+    private static List<String> names(List<Name> names) {
+        return names.stream().map(Name::toString).collect(Collectors.toList());
+    }
+}
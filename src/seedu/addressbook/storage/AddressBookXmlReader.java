@@ -0,0 +1,135 @@
+package seedu.addressbook.storage;
+
+import java.io.InputStream;
+import java.text.ParseException;
+
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+import seedu.addressbook.storage.jaxb.AdaptedFinance;
+import seedu.addressbook.storage.jaxb.AdaptedMatch;
+import seedu.addressbook.storage.jaxb.AdaptedPlayer;
+import seedu.addressbook.storage.jaxb.AdaptedTeam;
+import seedu.addressbook.storage.jaxb.AddressBookAssembler;
+
+/**
+ * Reads a saved address book one top-level element at a time, turning each element into model objects
+ * before reading the next. Only the element being read is ever held in its adapted form, so loading needs
+ * little more memory than the address book itself.
+ */
+class AddressBookXmlReader {
+
+    private static final String ROOT_ELEMENT = "AddressBook";
+    private static final XMLInputFactory INPUT_FACTORY = XMLInputFactory.newInstance();
+
+    private final Unmarshaller unmarshaller;
+    private Long journalSequence;
+
+    /**
+     * @param unmarshaller used to read each element; it must not be used by another thread during a read
+     */
+    AddressBookXmlReader(Unmarshaller unmarshaller) {
+        this.unmarshaller = unmarshaller;
+    }
+
+    /**
+     * Returns the journal sequence number recorded in the last file read, or null if there was none.
+     */
+    Long getJournalSequence() {
+        return journalSequence;
+    }
+
+    /**
+     * Reads a whole address book from {@code source}, taking its character encoding from the XML declaration.
+     *
+     * @throws StorageOperationException if an element is missing some required fields.
+     */
+    AddressBook read(InputStream source) throws XMLStreamException, JAXBException, IllegalValueException,
+            ParseException, StorageOperationException {
+        final XMLStreamReader reader = INPUT_FACTORY.createXMLStreamReader(source);
+        try {
+            reader.nextTag();
+            if (!ROOT_ELEMENT.equals(reader.getLocalName())) {
+                throw new StorageOperationException("Error parsing file data format");
+            }
+            final String version = reader.getAttributeValue(null, "version");
+            final String sequence = reader.getAttributeValue(null, "journalSequence");
+            journalSequence = sequence == null ? null : Long.valueOf(sequence);
+            final AddressBookAssembler assembler =
+                    new AddressBookAssembler(version == null ? null : Integer.valueOf(version));
+
+            reader.next();
+            // each branch consumes the whole element, leaving the reader just after it
+            while (reader.hasNext()) {
+                if (!reader.isStartElement()) {
+                    reader.next();
+                    continue;
+                }
+                switch (reader.getLocalName()) {
+                case "players":
+                    final AdaptedPlayer player = unmarshaller.unmarshal(reader, AdaptedPlayer.class).getValue();
+                    checkFieldsPresent(player.isAnyRequiredFieldMissing());
+                    assembler.addPlayer(player);
+                    break;
+                case "matches":
+                    final AdaptedMatch match = unmarshaller.unmarshal(reader, AdaptedMatch.class).getValue();
+                    checkFieldsPresent(match.isAnyRequiredFieldMissing());
+                    assembler.addMatch(match);
+                    break;
+                case "teams":
+                    final AdaptedTeam team = unmarshaller.unmarshal(reader, AdaptedTeam.class).getValue();
+                    checkFieldsPresent(team.isAnyRequiredFieldMissing());
+                    assembler.addTeam(team);
+                    break;
+                case "finances":
+                    final AdaptedFinance finance = unmarshaller.unmarshal(reader, AdaptedFinance.class).getValue();
+                    checkFieldsPresent(finance.isAnyRequiredFieldMissing());
+                    assembler.addFinance(finance);
+                    break;
+                case "transferRecords":
+                    assembler.addTransferRecord(reader.getElementText());
+                    reader.next();
+                    break;
+                default:
+                    skipElement(reader);
+                }
+            }
+            return assembler.toModelType();
+        } catch (NumberFormatException nfe) {
+            throw new IllegalValueException("File contains an invalid version or journal sequence");
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * JAXB does not enforce (required = true) without a given XML schema, so missing elements are read as null
+     * and have to be checked for.
+     */
+    private static void checkFieldsPresent(boolean isAnyRequiredFieldMissing) throws StorageOperationException {
+        if (isAnyRequiredFieldMissing) {
+            throw new StorageOperationException("File data missing some elements");
+        }
+    }
+
+    /**
+     * Moves the reader from the start of an element to just after its end.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 0;
+        do {
+            if (reader.isStartElement()) {
+                depth++;
+            } else if (reader.isEndElement()) {
+                depth--;
+            }
+            reader.next();
+        } while (depth > 0);
+    }
+}
@@ -0,0 +1,156 @@
+package seedu.addressbook.storage;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+
+/**
+ * Storage that saves in the background. {@link #save} only takes a shallow copy of the address book, which costs
+ * O(1) as the address book copies its lists before changing them, and returns; a writer thread converts the copy
+ * to the storage format and writes it out later, so commands wait neither for the conversion nor for the file.
+ *
+ * The writer waits up to the durability window after a save before writing, and only converts and writes the
+ * newest copy, so a burst of commands costs one write. {@link #flush} waits until every copy taken so far
+ * is on disk.
+ */
+public class AsyncStorage implements Storage {
+
+    /** Longest time, in milliseconds, that a save waits in memory before being written by default. */
+    public static final long DEFAULT_DURABILITY_WINDOW_MILLIS = 1000;
+
+    private final SnapshotStorage delegate;
+    private final Path path;
+    private final long durabilityWindowMillis;
+    private final Thread writer;
+
+    /* All fields below are guarded by this object's monitor. */
+
+    /** Copy of the newest data that has not been written yet, or null if there is none. It is never changed. */
+    private AddressBook pending;
+    /** Number of copies taken, and the number of the last one written. */
+    private long taken;
+    private long written;
+    /** True while {@link #flush} is waiting, so the writer should not wait out the durability window. */
+    private boolean isFlushRequested;
+    /** Error from the last failed write, reported by the next call to {@link #save} or {@link #flush}. */
+    private StorageOperationException writeError;
+
+    /**
+     * @param delegate storage that converts the copies and whose file they are written to
+     * @param durabilityWindowMillis longest time a save may wait in memory before being written
+     */
+    public AsyncStorage(SnapshotStorage delegate, long durabilityWindowMillis) {
+        this.delegate = delegate;
+        this.path = Paths.get(delegate.getPath());
+        this.durabilityWindowMillis = durabilityWindowMillis;
+        writer = new Thread(this::runWriter, "storage-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Takes a shallow copy of {@code addressBook} to be converted and written in the background.
+     *
+     * @throws StorageOperationException if an earlier save failed to be converted or written.
+     */
+    @Override
+    public void save(AddressBook addressBook) throws StorageOperationException {
+        final AddressBook copy = addressBook.shallowCopy();
+        synchronized (this) {
+            throwWriteError();
+            pending = copy;
+            taken++;
+            notifyAll();
+        }
+    }
+
+    /**
+     * Loads the last saved state, after writing out any copy still waiting to be written.
+     */
+    @Override
+    public AddressBook load() throws StorageOperationException, ParseException {
+        flush();
+        return delegate.load();
+    }
+
+    @Override
+    public synchronized void flush() throws StorageOperationException {
+        final long target = taken;
+        isFlushRequested = true;
+        notifyAll();
+        try {
+            while (written < target && writeError == null) {
+                wait();
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new StorageOperationException("Interrupted while waiting for data to be saved to " + path);
+        } finally {
+            isFlushRequested = false;
+        }
+        throwWriteError();
+    }
+
+    @Override
+    public String getPath() {
+        return delegate.getPath();
+    }
+
+    /**
+     * Reports and clears the error from the last failed write, if any.
+     */
+    private void throwWriteError() throws StorageOperationException {
+        if (writeError != null) {
+            final StorageOperationException error = writeError;
+            writeError = null;
+            throw error;
+        }
+    }
+
+    /**
+     * Body of the writer thread: converts and writes the newest copy whenever there is one.
+     */
+    private void runWriter() {
+        while (true) {
+            final AddressBook toWrite;
+            final long number;
+            synchronized (this) {
+                try {
+                    while (pending == null) {
+                        wait();
+                    }
+                    // let a burst of saves finish so that only the last of them is written
+                    final long deadline = System.currentTimeMillis() + durabilityWindowMillis;
+                    long remaining = durabilityWindowMillis;
+                    while (!isFlushRequested && remaining > 0) {
+                        wait(remaining);
+                        remaining = deadline - System.currentTimeMillis();
+                    }
+                } catch (InterruptedException ie) {
+                    return;
+                }
+                toWrite = pending;
+                number = taken;
+                pending = null;
+            }
+
+            StorageOperationException error = null;
+            try {
+                delegate.takeSnapshot(toWrite).writeTo(path);
+            } catch (StorageOperationException soe) {
+                error = soe;
+            }
+
+            synchronized (this) {
+                written = number;
+                if (error != null) {
+                    writeError = error;
+                }
+                notifyAll();
+            }
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package seedu.addressbook.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Replaces a file without ever leaving it half-written or missing. The new contents go to a temporary file next to
+ * the target, which is synced to disk and then renamed over the target in one step by {@link #commit}.
+ *
+ * Before that, the contents about to be replaced are kept as the backup file, but only if they pass the writer's
+ * {@link ContentsCheck}, so that damaged contents never replace a sound backup. The backup is made by hard-linking
+ * the target, or copying it where links are not supported, and then renaming the link or copy over the old backup,
+ * so the target itself is never moved and both files always exist once they have been written.
+ *
+ * If the writer is closed without committing, the temporary file is deleted and the target is left unchanged.
+ */
+class AtomicFileWriter implements Closeable {
+
+    /** Appended to the target path to get the path of the temporary file. */
+    static final String TEMP_SUFFIX = ".tmp";
+
+    /** Appended to the target path to get the path of the file holding the contents last replaced. */
+    static final String BACKUP_SUFFIX = ".bak";
+
+    /**
+     * Checks whether the contents of a file are intact, e.g. by their checksum.
+     */
+    interface ContentsCheck {
+        /**
+         * Returns true if the contents of {@code file} are intact.
+         *
+         * @throws IOException if the file could not be read
+         */
+        boolean isIntact(Path file) throws IOException;
+    }
+
+    private final Path target;
+    private final Path tempPath;
+    private final ContentsCheck backupCheck;
+    private final FileOutputStream fileStream;
+    private final OutputStream stream;
+    private boolean isCommitted;
+
+    /**
+     * Creates or truncates the temporary file for {@code target}.
+     *
+     * @param backupCheck decides whether the contents replaced by {@link #commit} are sound enough to be kept as
+     *                    the backup
+     */
+    AtomicFileWriter(Path target, ContentsCheck backupCheck) throws IOException {
+        this.target = target;
+        this.tempPath = Paths.get(target + TEMP_SUFFIX);
+        this.backupCheck = backupCheck;
+        fileStream = new FileOutputStream(tempPath.toFile());
+        stream = new BufferedOutputStream(fileStream);
+    }
+
+    /**
+     * Returns the path of the file holding the contents replaced by the last commit to {@code target}.
+     */
+    static Path getBackupPath(Path target) {
+        return Paths.get(target + BACKUP_SUFFIX);
+    }
+
+    /**
+     * Returns the stream that the new contents should be written to. It must not be closed by the caller.
+     */
+    OutputStream getStream() {
+        return stream;
+    }
+
+    /**
+     * Syncs the new contents to disk and moves them over the target, keeping the old contents as the backup if
+     * they are intact. Otherwise the existing backup is left as it is.
+     */
+    void commit() throws IOException {
+        stream.flush();
+        fileStream.getFD().sync();
+        stream.close();
+        if (Files.exists(target) && isIntact(target)) {
+            backUp();
+        }
+        moveAtomically(tempPath, target);
+        isCommitted = true;
+    }
+
+    /**
+     * Returns true if the contents of {@code file} pass the backup check, and false if they fail it or cannot be
+     * read.
+     */
+    private boolean isIntact(Path file) {
+        try {
+            return backupCheck.isIntact(file);
+        } catch (IOException ioe) {
+            return false;
+        }
+    }
+
+    /**
+     * Makes the backup file hold the current contents of the target, leaving the target in place.
+     */
+    private void backUp() throws IOException {
+        final Path backupPath = getBackupPath(target);
+        final Path newBackupPath = Paths.get(backupPath + TEMP_SUFFIX);
+        Files.deleteIfExists(newBackupPath);
+        try {
+            Files.createLink(newBackupPath, target);
+        } catch (IOException | UnsupportedOperationException e) {
+            Files.copy(target, newBackupPath);
+        }
+        moveAtomically(newBackupPath, backupPath);
+    }
+
+    /**
+     * Renames {@code source} over {@code destination} in one step, if the file system allows it.
+     */
+    private static void moveAtomically(Path source, Path destination) throws IOException {
+        try {
+            Files.move(source, destination, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException amnse) {
+            Files.move(source, destination, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!isCommitted) {
+            stream.close();
+            Files.deleteIfExists(tempPath);
+        }
+    }
+}
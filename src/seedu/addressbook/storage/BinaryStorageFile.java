@@ -0,0 +1,671 @@
+package seedu.addressbook.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.finance.Finance;
+import seedu.addressbook.data.finance.ReadOnlyFinance;
+import seedu.addressbook.data.finance.UniqueFinanceList;
+import seedu.addressbook.data.match.Match;
+import seedu.addressbook.data.match.MatchDate;
+import seedu.addressbook.data.match.Score;
+import seedu.addressbook.data.match.TicketSales;
+import seedu.addressbook.data.match.UniqueMatchList;
+import seedu.addressbook.data.player.Age;
+import seedu.addressbook.data.player.Appearance;
+import seedu.addressbook.data.player.GoalsAssisted;
+import seedu.addressbook.data.player.GoalsScored;
+import seedu.addressbook.data.player.HealthStatus;
+import seedu.addressbook.data.player.JerseyNumber;
+import seedu.addressbook.data.player.Name;
+import seedu.addressbook.data.player.Nationality;
+import seedu.addressbook.data.player.Player;
+import seedu.addressbook.data.player.PositionPlayed;
+import seedu.addressbook.data.player.Salary;
+import seedu.addressbook.data.player.UniquePlayerList;
+import seedu.addressbook.data.tag.Tag;
+import seedu.addressbook.data.team.Country;
+import seedu.addressbook.data.team.Sponsor;
+import seedu.addressbook.data.team.Team;
+import seedu.addressbook.data.team.TeamName;
+import seedu.addressbook.data.team.UniqueTeamList;
+import seedu.addressbook.storage.StorageFile.InvalidStorageFilePathException;
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+
+/**
+ * Represents a file storing address book data in a compact binary format.
+ *
+ * The file starts with a magic number and a format version, followed by a table of every distinct string
+ * in the address book. Players, matches, teams and finances follow, each record prefixed with its length
+ * so that a reader can skip fields it does not know. Strings are stored as indexes into the table, and
+ * numeric values such as age and salary are stored as ints. Teams refer to their players and matches by
+ * their position in the file, as in the XML format. The file ends with the CRC-32 checksum of everything before
+ * it, which is checked before anything is decoded.
+ */
+public class BinaryStorageFile implements SnapshotStorage {
+
+    /** Storage files ending with this extension use the binary format. */
+    public static final String FILE_EXTENSION = ".bin";
+
+    /** "LTRK" in ASCII. */
+    private static final int MAGIC = 0x4C54524B;
+    private static final int FORMAT_VERSION = 2;
+    /** Files of this version end without a checksum, so they are decoded without being checked. */
+    private static final int UNCHECKED_FORMAT_VERSION = 1;
+    /** Bytes of the magic number and format version at the start of the file. */
+    private static final int HEADER_LENGTH = 8;
+    /** Bytes of the checksum at the end of the file. */
+    private static final int CHECKSUM_LENGTH = 4;
+
+    /** Written in place of an int for numeric values that an int would not reproduce exactly, e.g. "007". */
+    private static final int NUMBER_STORED_AS_STRING = -1;
+    /** Written in place of an index when a team's player or match is stored inside the team record. */
+    private static final int EMBEDDED_RECORD = -1;
+
+    public final Path path;
+
+    /**
+     * @throws InvalidStorageFilePathException if the given file path is invalid
+     */
+    public BinaryStorageFile(String filePath) throws InvalidStorageFilePathException {
+        path = Paths.get(filePath);
+        if (!isValidPath(path)) {
+            throw new InvalidStorageFilePathException("Binary storage file should end with '" + FILE_EXTENSION + "'");
+        }
+    }
+
+    /**
+     * Returns true if the given path is a binary storage file.
+     */
+    public static boolean isValidPath(Path filePath) {
+        return filePath.toString().endsWith(FILE_EXTENSION);
+    }
+
+    /**
+     * Saves all data to this storage file.
+     *
+     * @throws StorageOperationException if there were errors storing data to file.
+     */
+    @Override
+    public void save(AddressBook addressBook) throws StorageOperationException {
+        takeSnapshot(addressBook).writeTo(path);
+    }
+
+    @Override
+    public Snapshot takeSnapshot(AddressBook addressBook) throws StorageOperationException {
+        final byte[] contents;
+        try {
+            contents = new Encoder().encode(addressBook);
+        } catch (IOException ioe) {
+            throw new StorageOperationException("Error converting address book into storage format");
+        }
+        return target -> {
+            try (final AtomicFileWriter fileWriter =
+                         new AtomicFileWriter(target, BinaryStorageFile::hasValidChecksum)) {
+                fileWriter.getStream().write(contents);
+                fileWriter.commit();
+            } catch (IOException ioe) {
+                throw new StorageOperationException("Error writing to file: " + target + " error: " + ioe.getMessage());
+            }
+        };
+    }
+
+    /**
+     * Loads data from this storage file. If the file is missing or damaged, e.g. by a crash while it was being
+     * replaced, the contents it last replaced are loaded instead, and if neither is found an empty file is created.
+     *
+     * @throws StorageOperationException if there were errors reading and/or converting data from file.
+     */
+    @Override
+    public AddressBook load() throws StorageOperationException, ParseException {
+        try {
+            return load(path);
+        } catch (NoSuchFileException nsfe) {
+            final Optional<AddressBook> backup = loadBackup();
+            if (backup.isPresent()) {
+                return backup.get();
+            }
+            final AddressBook empty = new AddressBook();
+            save(empty);
+            return empty;
+        } catch (StorageOperationException soe) {
+            return loadBackup().orElseThrow(() -> soe);
+        }
+    }
+
+    /**
+     * Loads data from the given file. The file is mapped into memory and decoded straight from the mapping, which
+     * is released before this returns.
+     *
+     * @throws NoSuchFileException if the file does not exist.
+     * @throws StorageOperationException if there were errors reading and/or converting data from file.
+     */
+    private static AddressBook load(Path file) throws NoSuchFileException, StorageOperationException,
+            ParseException {
+        try (final FileBuffers.Mapping mapping = FileBuffers.map(file)) {
+            return decode(mapping.getContents());
+        } catch (NoSuchFileException nsfe) {
+            throw nsfe;
+        } catch (IOException ioe) {
+            throw new StorageOperationException("Error reading from file: " + file + " error: " + ioe.getMessage());
+        }
+    }
+
+    /**
+     * Loads data from the backup of this storage file, or returns an empty optional if there is no usable backup.
+     */
+    private Optional<AddressBook> loadBackup() throws ParseException {
+        try {
+            return Optional.of(load(AtomicFileWriter.getBackupPath(path)));
+        } catch (NoSuchFileException | StorageOperationException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Decodes a whole address book from {@code buffer}, from its current position to its limit, after checking
+     * its checksum.
+     *
+     * @throws StorageOperationException if the buffer does not hold a valid binary storage file.
+     */
+    static AddressBook decode(ByteBuffer buffer) throws StorageOperationException, ParseException {
+        try {
+            final ByteBuffer records = buffer.duplicate();
+            if (verifyChecksum(records) != UNCHECKED_FORMAT_VERSION) {
+                records.limit(records.limit() - CHECKSUM_LENGTH);
+            }
+            records.position(records.position() + HEADER_LENGTH);
+            return new Decoder(records).decode();
+        } catch (IllegalValueException ive) {
+            throw new StorageOperationException("File contains illegal data values; data type constraints not met");
+        } catch (RuntimeException re) {
+            // a damaged count or index shows up as whatever the buffer or the collections throw on it
+            throw new StorageOperationException("Error parsing file data format");
+        }
+    }
+
+    /**
+     * Checks that {@code contents}, from its position to its limit, starts with the header of a binary storage
+     * file and ends with the checksum of everything before it, and returns its format version. Files of a version
+     * without a checksum are not checked.
+     *
+     * @throws StorageOperationException if the header or the checksum is wrong.
+     */
+    private static int verifyChecksum(ByteBuffer contents) throws StorageOperationException {
+        final int start = contents.position();
+        if (contents.remaining() < HEADER_LENGTH || contents.getInt(start) != MAGIC) {
+            throw new StorageOperationException("Error parsing file data format");
+        }
+        final int version = contents.getInt(start + 4);
+        if (version == UNCHECKED_FORMAT_VERSION) {
+            return version;
+        }
+        if (version != FORMAT_VERSION) {
+            throw new StorageOperationException("Unsupported binary storage format version " + version);
+        }
+        if (contents.remaining() < HEADER_LENGTH + CHECKSUM_LENGTH) {
+            throw new StorageOperationException("Error parsing file data format");
+        }
+        final int checksumStart = contents.limit() - CHECKSUM_LENGTH;
+        final ByteBuffer checked = contents.duplicate();
+        checked.limit(checksumStart);
+        final CRC32 crc = new CRC32();
+        crc.update(checked);
+        if (contents.getInt(checksumStart) != (int) crc.getValue()) {
+            throw new StorageOperationException("File is damaged: its contents do not match its checksum");
+        }
+        return version;
+    }
+
+    /**
+     * Returns true if {@code file} is a binary storage file whose contents match its checksum.
+     */
+    private static boolean hasValidChecksum(Path file) throws IOException {
+        try (final FileBuffers.Mapping mapping = FileBuffers.map(file)) {
+            verifyChecksum(mapping.getContents());
+            return true;
+        } catch (StorageOperationException soe) {
+            return false;
+        }
+    }
+
+    @Override
+    public String getPath() {
+        return path.toString();
+    }
+
+    /**
+     * Writes one record's fields.
+     */
+    private interface RecordWriter {
+        /**
+         * Writes the fields of the record to {@code out}.
+         */
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    /**
+     * Turns an address book into the bytes of a binary storage file.
+     */
+    private static class Encoder {
+        private final Map<String, Integer> stringIndexes = new HashMap<>();
+        private final List<String> strings = new ArrayList<>();
+        private final Map<Player, Integer> playerIndexes = new IdentityHashMap<>();
+        private final Map<Match, Integer> matchIndexes = new IdentityHashMap<>();
+
+        /**
+         * Returns the complete contents of a storage file holding {@code addressBook}.
+         */
+        byte[] encode(AddressBook addressBook) throws IOException {
+            // records are written first, as the string table is only complete once every string has been seen
+            final ByteArrayOutputStream bodyBytes = new ByteArrayOutputStream();
+            final DataOutputStream body = new DataOutputStream(bodyBytes);
+
+            final UniquePlayerList players = addressBook.getAllPlayers();
+            body.writeInt(players.immutableListView().size());
+            for (Player player : players) {
+                playerIndexes.put(player, playerIndexes.size());
+                writeRecord(body, out -> writePlayer(out, player));
+            }
+            final UniqueMatchList matches = addressBook.getAllMatches();
+            body.writeInt(matches.immutableListView().size());
+            for (Match match : matches) {
+                matchIndexes.put(match, matchIndexes.size());
+                writeRecord(body, out -> writeMatch(out, match));
+            }
+            final UniqueTeamList teams = addressBook.getAllTeams();
+            body.writeInt(teams.immutableListView().size());
+            for (Team team : teams) {
+                writeRecord(body, out -> writeTeam(out, team));
+            }
+            final List<ReadOnlyFinance> finances = addressBook.getAllFinances().immutableListView();
+            body.writeInt(finances.size());
+            for (ReadOnlyFinance finance : finances) {
+                writeRecord(body, out -> writeFinance(out, finance));
+            }
+            final List<String> transferRecords = addressBook.getAllTransferRecords();
+            body.writeInt(transferRecords.size());
+            for (String transferRecord : transferRecords) {
+                writeString(body, transferRecord);
+            }
+
+            final ByteArrayOutputStream fileBytes = new ByteArrayOutputStream(bodyBytes.size() + 1024);
+            final CheckedOutputStream checkedBytes = new CheckedOutputStream(fileBytes, new CRC32());
+            final DataOutputStream file = new DataOutputStream(checkedBytes);
+            file.writeInt(MAGIC);
+            file.writeInt(FORMAT_VERSION);
+            file.writeInt(strings.size());
+            for (String string : strings) {
+                final byte[] utf8 = string.getBytes(StandardCharsets.UTF_8);
+                file.writeInt(utf8.length);
+                file.write(utf8);
+            }
+            bodyBytes.writeTo(file);
+            file.flush();
+            new DataOutputStream(fileBytes).writeInt((int) checkedBytes.getChecksum().getValue());
+            return fileBytes.toByteArray();
+        }
+
+        /**
+         * Writes the record produced by {@code writer} to {@code out}, prefixed with its length.
+         */
+        private void writeRecord(DataOutputStream out, RecordWriter writer) throws IOException {
+            final ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+            writer.write(new DataOutputStream(recordBytes));
+            out.writeInt(recordBytes.size());
+            recordBytes.writeTo(out);
+        }
+
+        /**
+         * Writes the index of {@code string} in the string table, adding it to the table if needed.
+         */
+        private void writeString(DataOutputStream out, String string) throws IOException {
+            Integer index = stringIndexes.get(string);
+            if (index == null) {
+                index = strings.size();
+                strings.add(string);
+                stringIndexes.put(string, index);
+            }
+            out.writeInt(index);
+        }
+
+        /**
+         * Writes a numeric value as an int, or as a string if an int would not reproduce it exactly.
+         */
+        private void writeNumber(DataOutputStream out, String number) throws IOException {
+            try {
+                final int value = Integer.parseInt(number);
+                if (value >= 0 && Integer.toString(value).equals(number)) {
+                    out.writeInt(value);
+                    return;
+                }
+            } catch (NumberFormatException nfe) {
+                // stored as a string below
+            }
+            out.writeInt(NUMBER_STORED_AS_STRING);
+            writeString(out, number);
+        }
+
+        /**
+         * Writes the number of tags followed by each tag name.
+         */
+        private void writeTags(DataOutputStream out, Set<Tag> tags) throws IOException {
+            out.writeInt(tags.size());
+            for (Tag tag : tags) {
+                writeString(out, tag.tagName);
+            }
+        }
+
+        /**
+         * Writes the number of names followed by each name.
+         */
+        private void writeNames(DataOutputStream out, List<Name> names) throws IOException {
+            out.writeInt(names.size());
+            for (Name name : names) {
+                writeString(out, name.fullName);
+            }
+        }
+
+        /**
+         * Writes the fields of a player record.
+         */
+        private void writePlayer(DataOutputStream out, Player player) throws IOException {
+            writeString(out, player.getName().fullName);
+            writeString(out, player.getPositionPlayed().fullPosition);
+            writeNumber(out, player.getAge().value);
+            writeNumber(out, player.getSalary().value);
+            writeNumber(out, player.getGoalsScored().value);
+            writeNumber(out, player.getGoalsAssisted().value);
+            writeString(out, player.getTeamName().fullName);
+            writeString(out, player.getNationality().fullCountry);
+            writeNumber(out, player.getJerseyNumber().value);
+            writeNumber(out, player.getAppearance().value);
+            writeString(out, player.getHealthStatus().fullHs);
+            writeTags(out, player.getTags());
+        }
+
+        /**
+         * Writes the fields of a match record.
+         */
+        private void writeMatch(DataOutputStream out, Match match) throws IOException {
+            writeString(out, match.getDate().toString());
+            writeString(out, match.getHome().fullName);
+            writeString(out, match.getAway().fullName);
+            writeNumber(out, match.getHomeSales().value);
+            writeNumber(out, match.getAwaySales().value);
+            writeString(out, match.getScore().fullScore);
+            writeNames(out, match.getGoalScorers());
+            writeNames(out, match.getOwnGoalScorers());
+        }
+
+        /**
+         * Writes the fields of a team record, referring to already written players and matches by index.
+         */
+        private void writeTeam(DataOutputStream out, Team team) throws IOException {
+            writeString(out, team.getTeamName().fullName);
+            writeString(out, team.getCountry().value);
+            writeString(out, team.getSponsor().value);
+            out.writeInt(team.getWins());
+            out.writeInt(team.getLoses());
+            out.writeInt(team.getDraws());
+            out.writeInt(team.getPoints());
+            final List<Match> matches = team.getMatches();
+            out.writeInt(matches.size());
+            for (Match match : matches) {
+                if (matchIndexes.containsKey(match)) {
+                    out.writeInt(matchIndexes.get(match));
+                } else {
+                    out.writeInt(EMBEDDED_RECORD);
+                    writeRecord(out, embedded -> writeMatch(embedded, match));
+                }
+            }
+            final List<Player> players = team.getPlayers();
+            out.writeInt(players.size());
+            for (Player player : players) {
+                if (playerIndexes.containsKey(player)) {
+                    out.writeInt(playerIndexes.get(player));
+                } else {
+                    out.writeInt(EMBEDDED_RECORD);
+                    writeRecord(out, embedded -> writePlayer(embedded, player));
+                }
+            }
+            writeTags(out, team.getTags());
+        }
+
+        /**
+         * Writes the fields of a finance record.
+         */
+        private void writeFinance(DataOutputStream out, ReadOnlyFinance finance) throws IOException {
+            writeString(out, finance.getTeamName());
+            out.writeDouble(finance.getSponsor());
+            out.writeDouble(finance.getTicketIncome());
+            out.writeDouble(finance.getQuarterOne());
+            out.writeDouble(finance.getQuarterTwo());
+            out.writeDouble(finance.getQuarterThree());
+            out.writeDouble(finance.getQuarterFour());
+        }
+    }
+
+    /**
+     * Reads an address book from the bytes of a binary storage file.
+     */
+    private static class Decoder {
+        private final ByteBuffer buffer;
+        private final List<Player> players = new ArrayList<>();
+        private final List<Match> matches = new ArrayList<>();
+        private String[] strings;
+
+        Decoder(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        /**
+         * Reads the string table and then every record, which follow the header.
+         */
+        AddressBook decode() throws IllegalValueException, ParseException {
+            strings = new String[buffer.getInt()];
+            for (int i = 0; i < strings.length; i++) {
+                final int length = buffer.getInt();
+                strings[i] = decodeUtf8(length);
+            }
+
+            final int playerCount = buffer.getInt();
+            for (int i = 0; i < playerCount; i++) {
+                final int end = startRecord();
+                players.add(readPlayer());
+                buffer.position(end);
+            }
+            final int matchCount = buffer.getInt();
+            for (int i = 0; i < matchCount; i++) {
+                final int end = startRecord();
+                matches.add(readMatch());
+                buffer.position(end);
+            }
+            final List<Team> teams = new ArrayList<>();
+            final int teamCount = buffer.getInt();
+            for (int i = 0; i < teamCount; i++) {
+                final int end = startRecord();
+                teams.add(readTeam());
+                buffer.position(end);
+            }
+            final List<Finance> finances = new ArrayList<>();
+            final int financeCount = buffer.getInt();
+            for (int i = 0; i < financeCount; i++) {
+                final int end = startRecord();
+                finances.add(readFinance());
+                buffer.position(end);
+            }
+            final ArrayList<String> transferRecords = new ArrayList<>();
+            final int transferRecordCount = buffer.getInt();
+            for (int i = 0; i < transferRecordCount; i++) {
+                transferRecords.add(readString());
+            }
+
+            return new AddressBook(
+                    new UniquePlayerList(players),
+                    new UniqueTeamList(teams),
+                    new UniqueMatchList(matches),
+                    new UniqueFinanceList(finances),
+                    transferRecords);
+        }
+
+        /**
+         * Decodes {@code length} bytes of UTF-8, straight from the buffer's backing array if it has one.
+         */
+        private String decodeUtf8(int length) {
+            final String decoded;
+            if (buffer.hasArray()) {
+                decoded = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                        StandardCharsets.UTF_8);
+                buffer.position(buffer.position() + length);
+            } else {
+                final ByteBuffer bytes = buffer.slice();
+                bytes.limit(length);
+                decoded = StandardCharsets.UTF_8.decode(bytes).toString();
+                buffer.position(buffer.position() + length);
+            }
+            return decoded;
+        }
+
+        /**
+         * Reads a record's length and returns the position just after the record.
+         */
+        private int startRecord() {
+            final int length = buffer.getInt();
+            return buffer.position() + length;
+        }
+
+        private String readString() {
+            return strings[buffer.getInt()];
+        }
+
+        private String readNumber() {
+            final int value = buffer.getInt();
+            return value == NUMBER_STORED_AS_STRING ? readString() : Integer.toString(value);
+        }
+
+        /**
+         * Reads tags written by {@code Encoder#writeTags}.
+         */
+        private Set<Tag> readTags() throws IllegalValueException {
+            final int count = buffer.getInt();
+            final Set<Tag> tags = new HashSet<>();
+            for (int i = 0; i < count; i++) {
+                tags.add(new Tag(readString()));
+            }
+            return tags;
+        }
+
+        /**
+         * Reads names written by {@code Encoder#writeNames}.
+         */
+        private List<Name> readNames() throws IllegalValueException {
+            final int count = buffer.getInt();
+            final List<Name> names = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                names.add(new Name(readString()));
+            }
+            return names;
+        }
+
+        /**
+         * Reads the fields of a player record.
+         */
+        private Player readPlayer() throws IllegalValueException {
+            final Name name = new Name(readString());
+            final PositionPlayed position = new PositionPlayed(readString());
+            final Age age = new Age(readNumber());
+            final Salary salary = new Salary(readNumber());
+            final GoalsScored goalsScored = new GoalsScored(readNumber());
+            final GoalsAssisted goalsAssisted = new GoalsAssisted(readNumber());
+            final TeamName teamName = new TeamName(readString());
+            final Nationality nationality = new Nationality(readString());
+            final JerseyNumber jerseyNumber = new JerseyNumber(readNumber());
+            final Appearance appearance = new Appearance(readNumber());
+            final HealthStatus healthStatus = new HealthStatus(readString());
+            return new Player(name, position, age, salary, goalsScored, goalsAssisted, teamName, nationality,
+                    jerseyNumber, appearance, healthStatus, readTags());
+        }
+
+        /**
+         * Reads the fields of a match record.
+         */
+        private Match readMatch() throws IllegalValueException, ParseException {
+            final MatchDate date = new MatchDate(readString());
+            final TeamName home = new TeamName(readString());
+            final TeamName away = new TeamName(readString());
+            final TicketSales homeSales = new TicketSales(readNumber());
+            final TicketSales awaySales = new TicketSales(readNumber());
+            final Score score = new Score(readString());
+            final List<Name> goalScorers = readNames();
+            final List<Name> ownGoalScorers = readNames();
+            return new Match(date, home, away, homeSales, awaySales, goalScorers, ownGoalScorers, score);
+        }
+
+        /**
+         * Reads the fields of a team record, resolving references to players and matches read earlier.
+         */
+        private Team readTeam() throws IllegalValueException, ParseException {
+            final TeamName name = new TeamName(readString());
+            final Country country = new Country(readString());
+            final Sponsor sponsor = new Sponsor(readString());
+            final int win = buffer.getInt();
+            final int lose = buffer.getInt();
+            final int draw = buffer.getInt();
+            final int points = buffer.getInt();
+            final int matchCount = buffer.getInt();
+            final List<Match> teamMatches = new ArrayList<>(matchCount);
+            for (int i = 0; i < matchCount; i++) {
+                final int index = buffer.getInt();
+                if (index == EMBEDDED_RECORD) {
+                    final int end = startRecord();
+                    teamMatches.add(readMatch());
+                    buffer.position(end);
+                } else {
+                    teamMatches.add(matches.get(index));
+                }
+            }
+            final int playerCount = buffer.getInt();
+            final List<Player> teamPlayers = new ArrayList<>(playerCount);
+            for (int i = 0; i < playerCount; i++) {
+                final int index = buffer.getInt();
+                if (index == EMBEDDED_RECORD) {
+                    final int end = startRecord();
+                    teamPlayers.add(readPlayer());
+                    buffer.position(end);
+                } else {
+                    teamPlayers.add(players.get(index));
+                }
+            }
+            return new Team(name, country, sponsor, win, lose, draw, points, teamMatches, teamPlayers, readTags());
+        }
+
+        /**
+         * Reads the fields of a finance record.
+         */
+        private Finance readFinance() {
+            final String teamName = readString();
+            return new Finance(teamName, buffer.getDouble(), buffer.getDouble(), buffer.getDouble(),
+                    buffer.getDouble(), buffer.getDouble(), buffer.getDouble());
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package seedu.addressbook.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Maps storage files into memory read-only, so their contents are decoded straight from the page cache without
+ * being copied into the heap or going through a stream.
+ *
+ * A mapping normally keeps the file open until its buffer is garbage collected, which stops the next save from
+ * replacing the file on Windows. {@link Mapping#close} therefore unmaps the file at once.
+ */
+final class FileBuffers {
+
+    /** Unmaps a mapped buffer at once, or null if this Java runtime does not allow it. */
+    private static final Unmapper UNMAPPER = findUnmapper();
+
+    /**
+     * Releases the memory of a mapped buffer.
+     */
+    private interface Unmapper {
+        void unmap(MappedByteBuffer buffer) throws ReflectiveOperationException;
+    }
+
+    /**
+     * A read-only mapping of a whole file. Its contents must not be used after it is closed, nor kept by whatever
+     * is decoded from them.
+     */
+    static final class Mapping implements Closeable {
+        private final MappedByteBuffer contents;
+        private boolean isClosed;
+
+        private Mapping(MappedByteBuffer contents) {
+            this.contents = contents;
+        }
+
+        /**
+         * Returns the contents of the file, positioned at its start.
+         */
+        ByteBuffer getContents() {
+            return contents;
+        }
+
+        /**
+         * Unmaps the file, so that it can be replaced or deleted. If this Java runtime does not allow a mapping
+         * to be released early, it is released when it is garbage collected instead.
+         */
+        @Override
+        public void close() {
+            if (isClosed) {
+                return;
+            }
+            isClosed = true;
+            if (UNMAPPER != null) {
+                try {
+                    UNMAPPER.unmap(contents);
+                } catch (ReflectiveOperationException | RuntimeException e) {
+                    // released when garbage collected instead
+                }
+            }
+        }
+    }
+
+    private FileBuffers() {}
+
+    /**
+     * Maps the whole of the given file into memory, read-only. The file itself is closed before this returns;
+     * the mapping stays valid until it is closed.
+     *
+     * @throws java.nio.file.NoSuchFileException if the file does not exist.
+     * @throws IOException if the file could not be mapped, e.g. because it is larger than 2GB.
+     */
+    static Mapping map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("File is too large to be mapped: " + file);
+            }
+            return new Mapping(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+        }
+    }
+
+    /**
+     * Returns a way to unmap buffers through {@code sun.misc.Unsafe.invokeCleaner}, which Java 9 and later
+     * provide, or null if it is not available.
+     */
+    private static Unmapper findUnmapper() {
+        try {
+            final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            final Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            final Object unsafe = theUnsafe.get(null);
+            final Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            return buffer -> invokeCleaner.invoke(unsafe, buffer);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns a stream over the remaining bytes of {@code buffer}, leaving the buffer's own position unchanged.
+     */
+    static InputStream newInputStream(ByteBuffer buffer) {
+        return new ByteBufferInputStream(buffer.duplicate());
+    }
+
+    /**
+     * An input stream that reads from a byte buffer without copying it.
+     */
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            final int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public long skip(long n) {
+            final int count = (int) Math.max(0, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
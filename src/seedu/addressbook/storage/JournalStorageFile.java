@@ -0,0 +1,345 @@
+package seedu.addressbook.storage;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.StringReader;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.transform.stream.StreamSource;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.AddressBookChange;
+import seedu.addressbook.storage.StorageFile.InvalidStorageFilePathException;
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+import seedu.addressbook.storage.jaxb.AdaptedAddressBook;
+import seedu.addressbook.storage.jaxb.AdaptedJournalRecord;
+
+/**
+ * Storage that keeps a snapshot in a {@link StorageFile} and appends every change made after the snapshot
+ * to a journal file next to it, so that saving after a command costs as much as the change and not as much
+ * as the whole address book. Commands that change nothing write nothing.
+ *
+ * Once the journal holds enough records, it is set aside and folded into a new snapshot in the background.
+ * Each snapshot remembers the sequence number of the last record it contains, so records that were
+ * folded in before a crash are skipped instead of applied twice.
+ */
+public class JournalStorageFile implements Storage, AddressBookChange.Listener {
+
+    /** Appended to the snapshot path to get the path of the journal. */
+    public static final String JOURNAL_SUFFIX = ".journal";
+
+    /** Appended to the journal path while the records in it are being folded into the snapshot. */
+    public static final String COMPACTING_SUFFIX = ".compacting";
+
+    /** Number of journal records after which the journal is folded into the snapshot. */
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 200;
+
+    private final StorageFile snapshot;
+    private final Path journalPath;
+    private final Path compactingPath;
+    private final int compactionThreshold;
+    private final JAXBContext jaxbContext;
+    /** Only used by {@link #save}, which is never called concurrently. */
+    private final Marshaller journalMarshaller;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "journal-compaction");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Records of changes made since the last save, oldest first. */
+    private final List<AdaptedJournalRecord> pendingRecords = new ArrayList<>();
+
+    /** The address book whose changes are being journalled, or null before the first load or save. */
+    private AddressBook attached;
+    private long lastSequence;
+    private int journalSize;
+    private Future<?> compaction;
+
+    /**
+     * @throws InvalidStorageFilePathException if the default path is invalid
+     */
+    public JournalStorageFile() throws InvalidStorageFilePathException {
+        this(StorageFile.DEFAULT_STORAGE_FILEPATH, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * @param compactionThreshold number of journal records after which the journal is folded into the snapshot
+     * @throws InvalidStorageFilePathException if the given file path is invalid
+     */
+    public JournalStorageFile(String filePath, int compactionThreshold) throws InvalidStorageFilePathException {
+        this(filePath, compactionThreshold, StorageFile.Profile.DEVELOPMENT);
+    }
+
+    /**
+     * @param compactionThreshold number of journal records after which the journal is folded into the snapshot
+     * @param profile how snapshots are written
+     * @throws InvalidStorageFilePathException if the given file path is invalid
+     */
+    public JournalStorageFile(String filePath, int compactionThreshold, StorageFile.Profile profile)
+            throws InvalidStorageFilePathException {
+        snapshot = new StorageFile(filePath, profile);
+        journalPath = Paths.get(filePath + JOURNAL_SUFFIX);
+        compactingPath = Paths.get(filePath + JOURNAL_SUFFIX + COMPACTING_SUFFIX);
+        this.compactionThreshold = compactionThreshold;
+        try {
+            jaxbContext = JAXBContext.newInstance(AdaptedJournalRecord.class);
+            journalMarshaller = jaxbContext.createMarshaller();
+            journalMarshaller.setProperty(Marshaller.JAXB_FRAGMENT, true);
+        } catch (JAXBException jaxbe) {
+            throw new RuntimeException("jaxb initialisation error");
+        }
+    }
+
+    @Override
+    public void onChange(AddressBookChange change) {
+        pendingRecords.add(new AdaptedJournalRecord(++lastSequence, change));
+    }
+
+    /**
+     * Appends the changes made to {@code addressBook} since the last save to the journal.
+     * If {@code addressBook} was not loaded or saved by this storage before, a full snapshot is written instead.
+     *
+     * @throws StorageOperationException if there were errors converting and/or storing data to file.
+     */
+    @Override
+    public void save(AddressBook addressBook) throws StorageOperationException {
+        if (addressBook != attached) {
+            awaitCompaction();
+            attach(addressBook);
+            writeFullSnapshot();
+            return;
+        }
+        if (pendingRecords.isEmpty()) {
+            return;
+        }
+        appendToJournal(pendingRecords);
+        journalSize += pendingRecords.size();
+        pendingRecords.clear();
+
+        if (journalSize >= compactionThreshold && !isCompacting()) {
+            if (Files.exists(compactingPath)) {
+                // an earlier compaction failed, so its records are only safe in a full snapshot
+                writeFullSnapshot();
+            } else {
+                startCompaction();
+            }
+        }
+    }
+
+    /**
+     * Loads the snapshot and replays the journal on top of it.
+     * A last record cut short by a crash while it was being appended is skipped.
+     *
+     * @throws StorageOperationException if there were errors reading and/or converting data from file.
+     */
+    @Override
+    public AddressBook load() throws StorageOperationException, ParseException {
+        awaitCompaction();
+        final AddressBookXmlReader snapshotReader = snapshot.createReader();
+        final AddressBook addressBook = snapshot.load(snapshotReader);
+        lastSequence = snapshotReader.getJournalSequence() == null ? 0 : snapshotReader.getJournalSequence();
+
+        replay(compactingPath, addressBook);
+        replay(journalPath, addressBook);
+        attach(addressBook);
+        if (Files.exists(journalPath) || Files.exists(compactingPath)) {
+            // start from a clean journal, so new records never follow a damaged one
+            writeFullSnapshot();
+        }
+        return addressBook;
+    }
+
+    @Override
+    public String getPath() {
+        return snapshot.getPath();
+    }
+
+    /**
+     * Starts journalling the changes made to {@code addressBook} instead of the previously attached one.
+     */
+    private void attach(AddressBook addressBook) {
+        if (attached != null) {
+            attached.setChangeListener(null);
+        }
+        pendingRecords.clear();
+        attached = addressBook;
+        attached.setChangeListener(this);
+    }
+
+    private boolean isCompacting() {
+        return compaction != null && !compaction.isDone();
+    }
+
+    /**
+     * Waits for a running compaction to finish. A failed compaction leaves its records in place to be
+     * replayed or folded in again, so its failure is not reported here.
+     */
+    private void awaitCompaction() {
+        if (compaction == null) {
+            return;
+        }
+        try {
+            compaction.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ee) {
+            // records are still in the compacting file
+        }
+        compaction = null;
+    }
+
+    /**
+     * Sets the journal aside and writes a snapshot of the attached address book in the background.
+     */
+    private void startCompaction() throws StorageOperationException {
+        try {
+            Files.move(journalPath, compactingPath);
+        } catch (IOException ioe) {
+            throw new StorageOperationException("Error writing to file: " + compactingPath
+                    + " error: " + ioe.getMessage());
+        }
+        journalSize = 0;
+        final AdaptedAddressBook toSave = new AdaptedAddressBook(attached, lastSequence);
+        compaction = compactor.submit(() -> {
+            writeSnapshot(toSave);
+            Files.deleteIfExists(compactingPath);
+            return null;
+        });
+    }
+
+    /**
+     * Writes a snapshot of the attached address book and discards the journal.
+     */
+    private void writeFullSnapshot() throws StorageOperationException {
+        final AdaptedAddressBook toSave = new AdaptedAddressBook(attached, lastSequence);
+        writeSnapshot(toSave);
+        try {
+            Files.deleteIfExists(journalPath);
+            Files.deleteIfExists(compactingPath);
+        } catch (IOException ioe) {
+            throw new StorageOperationException("Error writing to file: " + journalPath
+                    + " error: " + ioe.getMessage());
+        }
+        journalSize = 0;
+    }
+
+    /**
+     * Replaces the snapshot file in one step, so a crash never leaves a half-written snapshot behind.
+     */
+    private void writeSnapshot(AdaptedAddressBook toSave) throws StorageOperationException {
+        snapshot.save(toSave, snapshot.path);
+    }
+
+    /**
+     * Appends the given records to the journal, one per line, and forces them to disk before returning,
+     * so that a change that has been saved survives a crash.
+     */
+    private void appendToJournal(List<AdaptedJournalRecord> records) throws StorageOperationException {
+        try (final FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+
+            final Writer journalWriter = new BufferedWriter(
+                    new OutputStreamWriter(Channels.newOutputStream(channel), StandardCharsets.UTF_8));
+            for (AdaptedJournalRecord record : records) {
+                journalMarshaller.marshal(record, journalWriter);
+                journalWriter.write(System.lineSeparator());
+            }
+            journalWriter.flush();
+            channel.force(false);
+
+        } catch (IOException ioe) {
+            throw new StorageOperationException("Error writing to file: " + journalPath
+                    + " error: " + ioe.getMessage());
+        } catch (JAXBException jaxbe) {
+            throw new StorageOperationException("Error converting journal record into storage format");
+        }
+    }
+
+    /**
+     * Applies the records in the given journal file that are newer than the last applied one.
+     * Only the last record may be unreadable, as it is the one a crash can cut short while it is being appended;
+     * it is then skipped. Any other unreadable record means the journal is damaged.
+     *
+     * @throws StorageOperationException if the journal could not be read, or a record other than the last one
+     *         could not be read or applied
+     */
+    private void replay(Path journalFile, AddressBook addressBook) throws StorageOperationException {
+        if (!Files.exists(journalFile)) {
+            return;
+        }
+        try (final BufferedReader journal = Files.newBufferedReader(journalFile, StandardCharsets.UTF_8)) {
+            final Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
+            int lineNumber = 0;
+            String line;
+            while ((line = journal.readLine()) != null) {
+                lineNumber++;
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                final AdaptedJournalRecord record;
+                try {
+                    record = unmarshaller.unmarshal(new StreamSource(new StringReader(line)),
+                            AdaptedJournalRecord.class).getValue();
+                } catch (JAXBException jaxbe) {
+                    if (isRestBlank(journal)) {
+                        // the last record was not completely written; everything before it has been applied
+                        return;
+                    }
+                    throw new StorageOperationException("Journal record on line " + lineNumber + " of "
+                            + journalFile + " is damaged");
+                }
+                if (record.isAnyRequiredFieldMissing()) {
+                    throw new StorageOperationException("Journal record missing some elements in " + journalFile);
+                }
+                if (record.getSequence() <= lastSequence) {
+                    continue;
+                }
+                try {
+                    record.applyTo(addressBook);
+                } catch (Exception e) {
+                    throw new StorageOperationException("Journal record " + record.getSequence()
+                            + " in " + journalFile + " could not be applied");
+                }
+                lastSequence = record.getSequence();
+            }
+        } catch (IOException ioe) {
+            throw new StorageOperationException("Error reading from file: " + journalFile);
+        } catch (JAXBException jaxbe) {
+            throw new RuntimeException("jaxb initialisation error");
+        }
+    }
+
+    /**
+     * Returns true if nothing but blank lines is left to read.
+     */
+    private static boolean isRestBlank(BufferedReader reader) throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (!line.trim().isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
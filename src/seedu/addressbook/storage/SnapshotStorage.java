@@ -0,0 +1,33 @@
+package seedu.addressbook.storage;
+
+import java.nio.file.Path;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+
+/**
+ * Storage that can copy the data to be saved separately from writing it out, so that the copy can be written
+ * on another thread while the address book keeps changing.
+ */
+public interface SnapshotStorage extends Storage {
+
+    /**
+     * A copy of an address book's data in this storage's format, sharing no mutable state with the address book.
+     */
+    interface Snapshot {
+        /**
+         * Writes the copied data to {@code target}, replacing what it held in one step.
+         *
+         * @throws StorageOperationException if there were errors writing the file.
+         */
+        void writeTo(Path target) throws StorageOperationException;
+    }
+
+    /**
+     * Copies the current data of {@code addressBook} into a snapshot. May be called on any thread, as long as
+     * {@code addressBook} is not changed while it runs, e.g. because it is a copy that is never changed.
+     *
+     * @throws StorageOperationException if there were errors converting the data.
+     */
+    Snapshot takeSnapshot(AddressBook addressBook) throws StorageOperationException;
+}
@@ -0,0 +1,64 @@
+package seedu.addressbook.storage;
+
+import java.text.ParseException;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.storage.StorageFile.InvalidStorageFilePathException;
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+
+/**
+ * Persists the League Tracker data between runs.
+ */
+public interface Storage {
+
+    /**
+     * Returns the storage for the given file, in the format given by the file's extension.
+     *
+     * @throws InvalidStorageFilePathException if the file path has no supported extension
+     */
+    static SnapshotStorage forPath(String filePath) throws InvalidStorageFilePathException {
+        return forPath(filePath, StorageFile.Profile.DEVELOPMENT);
+    }
+
+    /**
+     * Returns the storage for the given file, in the format given by the file's extension.
+     * XML files are written according to {@code profile}.
+     *
+     * @throws InvalidStorageFilePathException if the file path has no supported extension
+     */
+    static SnapshotStorage forPath(String filePath, StorageFile.Profile profile)
+            throws InvalidStorageFilePathException {
+        if (filePath.endsWith(BinaryStorageFile.FILE_EXTENSION)) {
+            return new BinaryStorageFile(filePath);
+        }
+        return new StorageFile(filePath, profile);
+    }
+
+    /**
+     * Saves the current state of {@code addressBook}.
+     *
+     * @throws StorageOperationException if there were errors converting and/or storing data.
+     */
+    void save(AddressBook addressBook) throws StorageOperationException;
+
+    /**
+     * Loads the last saved state, creating an empty League Tracker if nothing has been saved yet.
+     *
+     * @throws StorageOperationException if there were errors reading and/or converting data.
+     */
+    AddressBook load() throws StorageOperationException, ParseException;
+
+    /**
+     * Waits until everything saved so far is written to disk.
+     * Storages that write during {@link #save} have nothing to wait for.
+     *
+     * @throws StorageOperationException if an earlier save could not be written.
+     */
+    default void flush() throws StorageOperationException {
+    }
+
+    /**
+     * Returns the path of the main file used by this storage.
+     */
+    String getPath();
+}
@@ -0,0 +1,32 @@
+package seedu.addressbook.storage;
+
+/**
+ * Command line utility that copies League Tracker data from one storage file to another,
+ * converting between the formats given by the file extensions, e.g. from {@code .txt} to {@code .bin}.
+ *
+ * Usage: {@code java -cp AB.jar seedu.addressbook.storage.StorageConverter SOURCE_FILE TARGET_FILE}
+ */
+public class StorageConverter {
+
+    public static final String MESSAGE_USAGE = "Usage: StorageConverter SOURCE_FILE TARGET_FILE\n"
+            + "Each file should end with '.txt' (XML) or '" + BinaryStorageFile.FILE_EXTENSION + "' (binary).";
+
+    /**
+     * Copies the data in {@code source} to {@code target}, replacing whatever {@code target} held.
+     */
+    public static void convert(Storage source, Storage target) throws Exception {
+        target.save(source.load());
+    }
+
+    /**
+     * Converts the file named by the first argument into the file named by the second.
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length != 2) {
+            System.out.println(MESSAGE_USAGE);
+            return;
+        }
+        convert(Storage.forPath(args[0]), Storage.forPath(args[1]));
+        System.out.println("Converted " + args[0] + " to " + args[1]);
+    }
+}
@@ -1,22 +1,23 @@
 package seedu.addressbook.storage;
 
-import java.io.BufferedReader;
-import java.io.BufferedWriter;
-import java.io.FileNotFoundException;
-import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.io.Reader;
-import java.io.Writer;
+import java.io.InputStream;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.text.ParseException;
+import java.util.Optional;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
 import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLStreamException;
 
 import seedu.addressbook.data.AddressBook;
 import seedu.addressbook.data.exception.IllegalValueException;
@@ -25,11 +26,17 @@ import seedu.addressbook.storage.jaxb.AdaptedAddressBook;
 /**
  * Represents the file used to store address book data.
  */
-public class StorageFile {
+public class StorageFile implements SnapshotStorage {
 
     /** Default file path used if the user doesn't provide the file name. */
     public static final String DEFAULT_STORAGE_FILEPATH = "league_tracker.txt";
 
+    /** Saved files end with a comment holding the CRC-32 checksum of everything before it, in hexadecimal. */
+    private static final String CHECKSUM_PREFIX = "<!-- crc32 ";
+    private static final String CHECKSUM_SUFFIX = " -->";
+    /** Number of bytes at the end of a file that are searched for the checksum comment. */
+    private static final int CHECKSUM_SEARCH_LENGTH = 64;
+
     /* Note: Note the use of nested classes below.
      * More info https://docs.oracle.com/javase/tutorial/java/javaOO/nested.html
      */
@@ -53,10 +60,30 @@ public class StorageFile {
         }
     }
 
+    /**
+     * Settings for how a storage file is written.
+     */
+    public enum Profile {
+        /** Indented XML that is easy to read and diff. */
+        DEVELOPMENT(true),
+        /** Compact XML, which is smaller and quicker to write. */
+        PRODUCTION(false);
+
+        private final boolean isFormattedOutput;
+
+        Profile(boolean isFormattedOutput) {
+            this.isFormattedOutput = isFormattedOutput;
+        }
+    }
+
     public final Path path;
 
     private final JAXBContext jaxbContext;
+    private final Profile profile;
 
+    /* Marshallers and unmarshallers are not thread-safe but are costly to create, so each thread keeps its own. */
+    private final ThreadLocal<Marshaller> marshaller = ThreadLocal.withInitial(this::createMarshaller);
+    private final ThreadLocal<Unmarshaller> unmarshaller = ThreadLocal.withInitial(this::createUnmarshaller);
 
     /**
      * @throws InvalidStorageFilePathException if the default path is invalid
@@ -69,6 +96,14 @@ public class StorageFile {
      * @throws InvalidStorageFilePathException if the given file path is invalid
      */
     public StorageFile(String filePath) throws InvalidStorageFilePathException {
+        this(filePath, Profile.DEVELOPMENT);
+    }
+
+    /**
+     * @throws InvalidStorageFilePathException if the given file path is invalid
+     */
+    public StorageFile(String filePath, Profile profile) throws InvalidStorageFilePathException {
+        this.profile = profile;
         try {
             jaxbContext = JAXBContext.newInstance(AdaptedAddressBook.class);
         } catch (JAXBException jaxbe) {
@@ -94,64 +129,210 @@ public class StorageFile {
      *
      * @throws StorageOperationException if there were errors converting and/or storing data to file.
      */
+    @Override
     public void save(AddressBook addressBook) throws StorageOperationException {
+        save(new AdaptedAddressBook(addressBook), path);
+    }
 
+    /**
+     * Saves already converted data to the given file, which need not be this storage file.
+     *
+     * @throws StorageOperationException if there were errors converting and/or storing data to file.
+     */
+    void save(AdaptedAddressBook toSave, Path target) throws StorageOperationException {
         /* Note: Note the 'try with resource' statement below.
          * More info: https://docs.oracle.com/javase/tutorial/essential/exceptions/tryResourceClose.html
          */
-        try (final Writer fileWriter =
-                     new BufferedWriter(new FileWriter(path.toFile()))) {
+        try (final AtomicFileWriter fileWriter = new AtomicFileWriter(target, StorageFile::hasValidChecksum)) {
 
-            final AdaptedAddressBook toSave = new AdaptedAddressBook(addressBook);
-            final Marshaller marshaller = jaxbContext.createMarshaller();
-            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
-            marshaller.marshal(toSave, fileWriter);
+            final CheckedOutputStream checkedStream = new CheckedOutputStream(fileWriter.getStream(), new CRC32());
+            marshaller.get().marshal(toSave, checkedStream);
+            fileWriter.getStream().write(formatChecksum(checkedStream.getChecksum().getValue()));
+            fileWriter.commit();
 
         } catch (IOException ioe) {
-            throw new StorageOperationException("Error writing to file: " + path + " error: " + ioe.getMessage());
+            throw new StorageOperationException("Error writing to file: " + target + " error: " + ioe.getMessage());
         } catch (JAXBException jaxbe) {
             throw new StorageOperationException("Error converting address book into storage format");
         }
     }
 
+    @Override
+    public Snapshot takeSnapshot(AddressBook addressBook) {
+        final AdaptedAddressBook toSave = new AdaptedAddressBook(addressBook);
+        return target -> save(toSave, target);
+    }
+
     /**
      * Loads data from this storage file.
      *
      * @throws StorageOperationException if there were errors reading and/or converting data from file.
      */
+    @Override
     public AddressBook load() throws StorageOperationException, ParseException {
-        try (final Reader fileReader =
-                     new BufferedReader(new FileReader(path.toFile()))) {
-
-            final Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
-            final AdaptedAddressBook loaded = (AdaptedAddressBook) unmarshaller.unmarshal(fileReader);
-            // manual check for missing elements
-            if (loaded.isAnyRequiredFieldMissing()) {
-                throw new StorageOperationException("File data missing some elements");
-            }
-            return loaded.toModelType();
+        return load(createReader());
+    }
+
+    /**
+     * Loads data from this storage file with the given reader, which keeps what else it read from the file.
+     * If the file is missing or damaged, e.g. by a crash while it was being replaced, the contents it last
+     * replaced are loaded instead.
+     *
+     * @throws StorageOperationException if there were errors reading and/or converting data from file.
+     */
+    AddressBook load(AddressBookXmlReader xmlReader) throws StorageOperationException, ParseException {
+        try {
+            return load(xmlReader, path);
 
         /* Note: Here, we are using an exception to create the file if it is missing. However, we should minimize
          * using exceptions to facilitate normal paths of execution. If we consider the missing file as a 'normal'
          * situation (i.e. not truly exceptional) we should not use an exception to handle it.
          */
 
-        // create empty file if not found
-        } catch (FileNotFoundException fnfe) {
+        // create empty file if neither it nor its backup is found
+        } catch (NoSuchFileException nsfe) {
+            final Optional<AddressBook> backup = loadBackup(xmlReader);
+            if (backup.isPresent()) {
+                return backup.get();
+            }
             final AddressBook empty = new AddressBook();
             save(empty);
             return empty;
 
-        // other errors
+        } catch (StorageOperationException soe) {
+            return loadBackup(xmlReader).orElseThrow(() -> soe);
+        }
+    }
+
+    /**
+     * Loads data from the given file after checking its checksum, if it has one.
+     * The file is mapped into memory and parsed straight from the mapping, which is released before this returns.
+     *
+     * @throws NoSuchFileException if the file does not exist.
+     * @throws StorageOperationException if there were errors reading and/or converting data from file.
+     */
+    private AddressBook load(AddressBookXmlReader xmlReader, Path file) throws NoSuchFileException,
+            StorageOperationException, ParseException {
+        try {
+            try (final FileBuffers.Mapping mapping = FileBuffers.map(file)) {
+                final ByteBuffer contents = mapping.getContents();
+                verifyChecksum(contents);
+                try (final InputStream fileStream = FileBuffers.newInputStream(contents)) {
+                    return xmlReader.read(fileStream);
+                }
+            }
+        } catch (NoSuchFileException nsfe) {
+            throw nsfe;
         } catch (IOException ioe) {
-            throw new StorageOperationException("Error writing to file: " + path);
-        } catch (JAXBException jaxbe) {
+            throw new StorageOperationException("Error reading from file: " + file + " error: " + ioe.getMessage());
+        } catch (XMLStreamException | JAXBException e) {
             throw new StorageOperationException("Error parsing file data format");
         } catch (IllegalValueException ive) {
             throw new StorageOperationException("File contains illegal data values; data type constraints not met");
         }
     }
 
+    /**
+     * Loads data from the backup of this storage file, or returns an empty optional if there is no usable backup.
+     */
+    private Optional<AddressBook> loadBackup(AddressBookXmlReader xmlReader) throws ParseException {
+        try {
+            return Optional.of(load(xmlReader, AtomicFileWriter.getBackupPath(path)));
+        } catch (NoSuchFileException | StorageOperationException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the comment appended to a saved file whose contents have the given CRC-32 checksum.
+     */
+    private static byte[] formatChecksum(long checksum) {
+        return String.format("%s%08x%s\n", CHECKSUM_PREFIX, checksum, CHECKSUM_SUFFIX)
+                .getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Returns true if the contents of {@code file} match the checksum at its end, or if it has none.
+     */
+    private static boolean hasValidChecksum(Path file) throws IOException {
+        try (final FileBuffers.Mapping mapping = FileBuffers.map(file)) {
+            verifyChecksum(mapping.getContents());
+            return true;
+        } catch (StorageOperationException soe) {
+            return false;
+        }
+    }
+
+    /**
+     * Checks that the contents before the checksum comment at the end of {@code contents} match the checksum.
+     * Files without the comment, e.g. those saved by older versions, are not checked.
+     *
+     * @throws StorageOperationException if the contents do not match the checksum.
+     */
+    private static void verifyChecksum(ByteBuffer contents) throws StorageOperationException {
+        final int tailStart = Math.max(0, contents.limit() - CHECKSUM_SEARCH_LENGTH);
+        final ByteBuffer tail = contents.duplicate();
+        tail.position(tailStart);
+        // one char per byte, so that positions in the text are positions in the file
+        String tailText = StandardCharsets.ISO_8859_1.decode(tail).toString();
+        int tailEnd = tailText.length();
+        while (tailEnd > 0 && Character.isWhitespace(tailText.charAt(tailEnd - 1))) {
+            tailEnd--;
+        }
+        tailText = tailText.substring(0, tailEnd);
+        final int commentStart = tailText.lastIndexOf(CHECKSUM_PREFIX);
+        if (commentStart < 0 || !tailText.endsWith(CHECKSUM_SUFFIX)) {
+            return;
+        }
+
+        final ByteBuffer checked = contents.duplicate();
+        checked.limit(tailStart + commentStart);
+        final CRC32 crc = new CRC32();
+        crc.update(checked);
+        try {
+            final String expected = tailText.substring(commentStart + CHECKSUM_PREFIX.length(),
+                    tailText.length() - CHECKSUM_SUFFIX.length());
+            if (Long.parseLong(expected.trim(), 16) == crc.getValue()) {
+                return;
+            }
+        } catch (NumberFormatException nfe) {
+            // treated as a mismatch below
+        }
+        throw new StorageOperationException("File is damaged: its contents do not match its checksum");
+    }
+
+    /**
+     * Returns a reader that can be passed to {@link #load(AddressBookXmlReader)}.
+     */
+    AddressBookXmlReader createReader() {
+        return new AddressBookXmlReader(unmarshaller.get());
+    }
+
+    /**
+     * Creates a marshaller that writes in the format of this file's profile.
+     */
+    private Marshaller createMarshaller() {
+        try {
+            final Marshaller newMarshaller = jaxbContext.createMarshaller();
+            newMarshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, profile.isFormattedOutput);
+            return newMarshaller;
+        } catch (JAXBException jaxbe) {
+            throw new RuntimeException("jaxb initialisation error");
+        }
+    }
+
+    /**
+     * Creates an unmarshaller for reading elements of this file.
+     */
+    private Unmarshaller createUnmarshaller() {
+        try {
+            return jaxbContext.createUnmarshaller();
+        } catch (JAXBException jaxbe) {
+            throw new RuntimeException("jaxb initialisation error");
+        }
+    }
+
+    @Override
     public String getPath() {
         return path.toString();
     }
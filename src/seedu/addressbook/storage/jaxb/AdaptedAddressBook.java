@@ -2,21 +2,20 @@ package seedu.addressbook.storage.jaxb;
 
 import java.text.ParseException;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 
 import seedu.addressbook.data.AddressBook;
 import seedu.addressbook.data.exception.IllegalValueException;
-import seedu.addressbook.data.finance.Finance;
-import seedu.addressbook.data.finance.UniqueFinanceList;
 import seedu.addressbook.data.match.Match;
-import seedu.addressbook.data.match.UniqueMatchList;
 import seedu.addressbook.data.player.Player;
-import seedu.addressbook.data.player.UniquePlayerList;
-import seedu.addressbook.data.team.Team;
-import seedu.addressbook.data.team.UniqueTeamList;
 
 
 /**
@@ -25,13 +24,26 @@ import seedu.addressbook.data.team.UniqueTeamList;
 @XmlRootElement(name = "AddressBook")
 public class AdaptedAddressBook {
 
+    /**
+     * Version of the storage format written by this class. Files without a version were written before teams
+     * referred to players and matches by id, and held their own copies of them instead.
+     */
+    public static final int CURRENT_VERSION = 2;
+
+    @XmlAttribute
+    private Integer version;
+
+    /** Sequence number of the last journal record folded into this snapshot, if any. */
+    @XmlAttribute
+    private Long journalSequence;
+
     @XmlElement
     private List<AdaptedPlayer> players = new ArrayList<>();
     @XmlElement
-    private List<AdaptedTeam> teams = new ArrayList<>();
-    @XmlElement
     private List<AdaptedMatch> matches = new ArrayList<>();
     @XmlElement
+    private List<AdaptedTeam> teams = new ArrayList<>();
+    @XmlElement
     private List<AdaptedFinance> finances = new ArrayList<>();
     @XmlElement
     private List<String> transferRecords = new ArrayList<>();
@@ -48,19 +60,62 @@ public class AdaptedAddressBook {
      * @param source future changes to this will not affect the created AdaptedAddressBook
      */
     public AdaptedAddressBook(AddressBook source) {
+        version = CURRENT_VERSION;
         players = new ArrayList<>();
         matches = new ArrayList<>();
+        teams = new ArrayList<>();
         finances = new ArrayList<>();
         transferRecords = new ArrayList<>();
 
-        source.getAllPlayers().forEach(player -> players.add(new AdaptedPlayer(player)));
-        source.getAllMatches().forEach(match -> matches.add(new AdaptedMatch(match)));
-        source.getAllTeams().forEach(team -> teams.add(new AdaptedTeam(team)));
+        // ids come from what identifies each player and match, so that they do not change as others are added
+        final Map<Player, String> savedPlayerIds = new IdentityHashMap<>();
+        final Set<String> usedPlayerIds = new HashSet<>();
+        for (Player player : source.getAllPlayers()) {
+            final String id = uniqueId(player.getName().fullName, usedPlayerIds);
+            players.add(new AdaptedPlayer(player, id));
+            savedPlayerIds.put(player, id);
+        }
+        final Map<Match, String> savedMatchIds = new IdentityHashMap<>();
+        final Set<String> usedMatchIds = new HashSet<>();
+        for (Match match : source.getAllMatches()) {
+            final String key = match.getDate() + " " + match.getHome().fullName + " vs " + match.getAway().fullName;
+            final String id = uniqueId(key, usedMatchIds);
+            matches.add(new AdaptedMatch(match, id));
+            savedMatchIds.put(match, id);
+        }
+        source.getAllTeams().forEach(team -> teams.add(new AdaptedTeam(team, savedPlayerIds, savedMatchIds)));
         source.getAllFinances().forEach(finance -> finances.add(new AdaptedFinance(finance)));
         source.getAllTransferRecords().forEach(transferRecord -> transferRecords.add(transferRecord));
 
     }
 
+    /**
+     * Converts a given AddressBook that contains every journal record up to {@code journalSequence}.
+     *
+     * @param source future changes to this will not affect the created AdaptedAddressBook
+     */
+    public AdaptedAddressBook(AddressBook source, long journalSequence) {
+        this(source);
+        this.journalSequence = journalSequence;
+    }
+
+
+    /**
+     * Returns {@code key} as an id, with a number appended if an earlier element already has it as its id.
+     *
+     * @param usedIds ids given so far, to which the returned id is added
+     */
+    private static String uniqueId(String key, Set<String> usedIds) {
+        String id = key;
+        for (int n = 2; !usedIds.add(id); n++) {
+            id = key + " #" + n;
+        }
+        return id;
+    }
+
+    public Long getJournalSequence() {
+        return journalSequence;
+    }
 
     /**
      * Returns true if any required field is missing.
@@ -86,37 +141,22 @@ public class AdaptedAddressBook {
      * @throws IllegalValueException if there were any data constraints violated in the adapted finance
      */
     public AddressBook toModelType() throws IllegalValueException, ParseException {
-        final List<Player> playerList = new ArrayList<>();
-        final List<Team> teamList = new ArrayList<>();
-        final List<Match> matchList = new ArrayList<>();
-        final List<Finance> financeList = new ArrayList<>();
-        final ArrayList<String> transferRecordsLists = new ArrayList<>();
-
+        final AddressBookAssembler assembler = new AddressBookAssembler(version);
         for (AdaptedPlayer player : players) {
-            playerList.add(player.toModelType());
+            assembler.addPlayer(player);
         }
-
-        for (AdaptedTeam team : teams) {
-            teamList.add(team.toModelType());
-        }
-
         for (AdaptedMatch match : matches) {
-            matchList.add(match.toModelType());
+            assembler.addMatch(match);
+        }
+        for (AdaptedTeam team : teams) {
+            assembler.addTeam(team);
         }
-
         for (AdaptedFinance finance : finances) {
-            financeList.add(finance.toModelType());
+            assembler.addFinance(finance);
         }
-
         for (String record : transferRecords) {
-            transferRecordsLists.add(record);
+            assembler.addTransferRecord(record);
         }
-
-        return new AddressBook(
-                new UniquePlayerList(playerList),
-                new UniqueTeamList(teamList),
-                new UniqueMatchList(matchList),
-                new UniqueFinanceList(financeList),
-                transferRecordsLists);
+        return assembler.toModelType();
     }
 }
@@ -0,0 +1,199 @@
+package seedu.addressbook.storage.jaxb;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import seedu.addressbook.common.Utils;
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.AddressBookChange;
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.finance.ReadOnlyFinance;
+import seedu.addressbook.data.match.ReadOnlyMatch;
+import seedu.addressbook.data.player.ReadOnlyPlayer;
+import seedu.addressbook.data.team.ReadOnlyTeam;
+import seedu.addressbook.data.team.Team;
+import seedu.addressbook.data.team.TeamName;
+
+/**
+ * JAXB-friendly adapted journal record, describing one change made to the address book.
+ * Only the operands of the change are stored, so a record is small no matter how large the address book is.
+ */
+@XmlRootElement(name = "record")
+public class AdaptedJournalRecord {
+
+    @XmlAttribute(required = true)
+    private long seq;
+    @XmlAttribute(required = true)
+    private AddressBookChange.Type type;
+    @XmlElement
+    private List<AdaptedPlayer> player = new ArrayList<>();
+    @XmlElement
+    private List<AdaptedTeam> team = new ArrayList<>();
+    @XmlElement
+    private List<AdaptedMatch> match = new ArrayList<>();
+    @XmlElement
+    private AdaptedFinance finance;
+    @XmlElement
+    private String text;
+    @XmlElement
+    private Boolean flag;
+
+    /**
+     * No-arg constructor for JAXB use.
+     */
+    public AdaptedJournalRecord() {}
+
+    /**
+     * Converts a given change into this class for JAXB use.
+     *
+     * @param seq position of the change in the journal
+     * @param source future changes to the operands will not affect the created AdaptedJournalRecord
+     */
+    public AdaptedJournalRecord(long seq, AddressBookChange source) {
+        this.seq = seq;
+        type = source.getType();
+        switch (type) {
+        case ADD_PLAYER:
+        case REMOVE_PLAYER:
+            player.add(new AdaptedPlayer(source.getOperand(0, ReadOnlyPlayer.class)));
+            break;
+        case EDIT_PLAYER:
+            player.add(new AdaptedPlayer(source.getOperand(0, ReadOnlyPlayer.class)));
+            player.add(new AdaptedPlayer(source.getOperand(1, ReadOnlyPlayer.class)));
+            break;
+        case ADD_TEAM:
+            team.add(new AdaptedTeam(source.getOperand(0, ReadOnlyTeam.class)));
+            break;
+        case REMOVE_TEAM:
+            text = source.getOperand(0, ReadOnlyTeam.class).getTeamName().fullName;
+            break;
+        case EDIT_TEAM:
+            text = source.getOperand(0, ReadOnlyTeam.class).getTeamName().fullName;
+            team.add(new AdaptedTeam(source.getOperand(1, ReadOnlyTeam.class)));
+            flag = source.getOperand(2, Boolean.class);
+            break;
+        case ADD_MATCH:
+        case REMOVE_MATCH:
+            match.add(new AdaptedMatch(source.getOperand(0, ReadOnlyMatch.class)));
+            break;
+        case UPDATE_MATCH:
+            match.add(new AdaptedMatch(source.getOperand(0, ReadOnlyMatch.class)));
+            match.add(new AdaptedMatch(source.getOperand(1, ReadOnlyMatch.class)));
+            break;
+        case ADD_TRANSFER_RECORD:
+            text = source.getOperand(0, String.class);
+            break;
+        case ADD_FINANCE:
+            finance = new AdaptedFinance(source.getOperand(0, ReadOnlyFinance.class));
+            break;
+        default:
+            // the remaining changes have no operands
+        }
+    }
+
+    public long getSequence() {
+        return seq;
+    }
+
+    /**
+     * Returns true if the type or any operand the type needs is missing.
+     */
+    public boolean isAnyRequiredFieldMissing() {
+        if (type == null) {
+            return true;
+        }
+        switch (type) {
+        case ADD_PLAYER:
+        case REMOVE_PLAYER:
+            return player.size() != 1 || player.get(0).isAnyRequiredFieldMissing();
+        case EDIT_PLAYER:
+            return player.size() != 2 || player.stream().anyMatch(AdaptedPlayer::isAnyRequiredFieldMissing);
+        case ADD_TEAM:
+            return team.size() != 1 || team.get(0).isAnyRequiredFieldMissing();
+        case REMOVE_TEAM:
+        case ADD_TRANSFER_RECORD:
+            return text == null;
+        case EDIT_TEAM:
+            return Utils.isAnyNull(text, flag) || team.size() != 1 || team.get(0).isAnyRequiredFieldMissing();
+        case ADD_MATCH:
+        case REMOVE_MATCH:
+            return match.size() != 1 || match.get(0).isAnyRequiredFieldMissing();
+        case UPDATE_MATCH:
+            return match.size() != 2 || match.stream().anyMatch(AdaptedMatch::isAnyRequiredFieldMissing);
+        case ADD_FINANCE:
+            return finance == null || finance.isAnyRequiredFieldMissing();
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * Makes the recorded change again on the given address book.
+     *
+     * @throws Exception if the change is not valid for the current state of {@code addressBook}
+     */
+    public void applyTo(AddressBook addressBook) throws Exception {
+        switch (type) {
+        case ADD_PLAYER:
+            addressBook.addPlayer(player.get(0).toModelType());
+            break;
+        case REMOVE_PLAYER:
+            addressBook.removePlayer(player.get(0).toModelType());
+            break;
+        case EDIT_PLAYER:
+            addressBook.editPlayer(player.get(0).toModelType(), player.get(1).toModelType());
+            break;
+        case SORT_PLAYERS:
+            addressBook.sort();
+            break;
+        case CLEAR_PLAYERS:
+            addressBook.clearPlayer();
+            break;
+        case ADD_TEAM:
+            addressBook.addTeam(team.get(0).toModelType());
+            break;
+        case REMOVE_TEAM:
+            addressBook.removeTeam(addressBook.findTeam(new TeamName(text)));
+            break;
+        case EDIT_TEAM:
+            final Team toRemove = addressBook.findTeam(new TeamName(text));
+            final TeamMemberResolver resolver =
+                    new TeamMemberResolver(addressBook.getAllPlayers(), toRemove.getMatches());
+            addressBook.editTeam(toRemove, resolver.resolve(team.get(0).toModelType()), flag);
+            break;
+        case CLEAR_TEAMS:
+            addressBook.clearTeam();
+            break;
+        case ADD_MATCH:
+            addressBook.addMatch(match.get(0).toModelType());
+            break;
+        case REMOVE_MATCH:
+            addressBook.removeMatch(match.get(0).toModelType());
+            break;
+        case UPDATE_MATCH:
+            addressBook.updateMatch(match.get(0).toModelType(), match.get(1).toModelType());
+            break;
+        case CLEAR_MATCHES:
+            addressBook.clearMatch();
+            break;
+        case ADD_TRANSFER_RECORD:
+            addressBook.addTransferRecord(text);
+            break;
+        case REFRESH_FINANCES:
+            addressBook.refreshFinance();
+            break;
+        case SORT_FINANCES:
+            addressBook.sortFinance();
+            break;
+        case ADD_FINANCE:
+            addressBook.addFinance(finance.toModelType());
+            break;
+        default:
+            throw new IllegalValueException("Unknown journal record type " + type);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.List;
 
+import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlElement;
 
 import seedu.addressbook.common.Utils;
@@ -23,6 +24,10 @@ import seedu.addressbook.data.team.TeamName;
  */
 public class AdaptedMatch {
 
+    /** Identifies this match within one saved file, so that teams can refer to it. */
+    @XmlAttribute
+    private String id;
+
     @XmlElement(required = true)
     private String date;
     @XmlElement(required = true)
@@ -77,6 +82,24 @@ public class AdaptedMatch {
         }
     }
 
+    /**
+     * Converts a given match into this class for JAXB use, giving it an id that teams can refer to.
+     *
+     * @param source future changes to this will not affect the created AdaptedMatch
+     * @param id must be unique within the saved file
+     */
+    public AdaptedMatch(ReadOnlyMatch source, String id) {
+        this(source);
+        this.id = id;
+    }
+
+    /**
+     * Returns the id teams use to refer to this match, or null if it has none.
+     */
+    public String getId() {
+        return id;
+    }
+
     /**
      * Returns true if any required field is missing.
      *
@@ -5,6 +5,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlElement;
 
 import seedu.addressbook.common.Utils;
@@ -39,6 +40,10 @@ public class AdaptedPlayer {
     //        private boolean isPrivate;
     //    }
 
+    /** Identifies this player within one saved file, so that teams can refer to it. */
+    @XmlAttribute
+    private String id;
+
     @XmlElement(required = true)
     private String name;
     @XmlElement(required = true)
@@ -96,6 +101,24 @@ public class AdaptedPlayer {
         }
     }
 
+    /**
+     * Converts a given Person into this class for JAXB use, giving it an id that teams can refer to.
+     *
+     * @param source future changes to this will not affect the created AdaptedPlayer
+     * @param id must be unique within the saved file
+     */
+    public AdaptedPlayer(ReadOnlyPlayer source, String id) {
+        this(source);
+        this.id = id;
+    }
+
+    /**
+     * Returns the id teams use to refer to this player, or null if it has none.
+     */
+    public String getId() {
+        return id;
+    }
+
     /**
      * Returns true if any required field is missing.
      * <p>
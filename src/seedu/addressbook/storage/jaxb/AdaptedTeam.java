@@ -2,8 +2,10 @@ package seedu.addressbook.storage.jaxb;
 
 import java.text.ParseException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import javax.xml.bind.annotation.XmlElement;
@@ -37,8 +39,14 @@ public class AdaptedTeam {
     private String draw;
     @XmlElement(required = true)
     private String points;
+    @XmlElement(name = "matchRef")
+    private List<String> matchRefs = new ArrayList<>();
+    @XmlElement(name = "playerRef")
+    private List<String> playerRefs = new ArrayList<>();
+    /** Matches not saved at the top level, which is every match in files written before references. */
     @XmlElement
     private List<AdaptedMatch> matchlist = new ArrayList<>();
+    /** Players not saved at the top level, which is every player in files written before references. */
     @XmlElement
     private List<AdaptedPlayer> playerlist = new ArrayList<>();
     @XmlElement
@@ -51,9 +59,22 @@ public class AdaptedTeam {
 
 
     /**
-     * Converts a given team into this class for JAXB use.
+     * Converts a given team into this class for JAXB use, copying all its players and matches into it.
      */
     public AdaptedTeam(ReadOnlyTeam source) {
+        this(source, Collections.emptyMap(), Collections.emptyMap());
+    }
+
+    /**
+     * Converts a given team into this class for JAXB use.
+     * Players and matches found in the given maps are referred to by id instead of being copied.
+     *
+     * @param savedPlayerIds ids of the players saved at the top level, keyed by instance
+     * @param savedMatchIds ids of the matches saved at the top level, keyed by instance
+     */
+    public AdaptedTeam(ReadOnlyTeam source,
+                       Map<Player, String> savedPlayerIds,
+                       Map<Match, String> savedMatchIds) {
         name = source.getTeamName().fullName;
         country = source.getCountry().toString();
         sponsor = source.getSponsor().toString();
@@ -61,14 +82,24 @@ public class AdaptedTeam {
         lose = Integer.toString(source.getLoses());
         draw = Integer.toString(source.getDraws());
         points = Integer.toString(source.getPoints());
+        matchRefs = new ArrayList<>();
         matchlist = new ArrayList<>();
         for (Match match : source.getMatches()) {
-            matchlist.add(new AdaptedMatch((match)));
+            if (savedMatchIds.containsKey(match)) {
+                matchRefs.add(savedMatchIds.get(match));
+            } else {
+                matchlist.add(new AdaptedMatch(match));
+            }
         }
 
+        playerRefs = new ArrayList<>();
         playerlist = new ArrayList<>();
         for (Player player : source.getPlayers()) {
-            playerlist.add(new AdaptedPlayer(player));
+            if (savedPlayerIds.containsKey(player)) {
+                playerRefs.add(savedPlayerIds.get(player));
+            } else {
+                playerlist.add(new AdaptedPlayer(player));
+            }
         }
 
         tagged = new ArrayList<>();
@@ -95,12 +126,38 @@ public class AdaptedTeam {
     }
 
     /**
-     * Converts this jaxb-friendly adapted team object into the team object.
+     * Converts this jaxb-friendly adapted team object into the team object, with its own copies of its
+     * players and matches.
      */
     public Team toModelType() throws IllegalValueException, ParseException {
+        return toModelType(Collections.emptyMap(), Collections.emptyMap());
+    }
+
+    /**
+     * Converts this jaxb-friendly adapted team object into the team object.
+     * Players and matches referred to by id are shared with the team instead of copied.
+     *
+     * @param loadedPlayers players already loaded, keyed by id
+     * @param loadedMatches matches already loaded, keyed by id
+     * @throws IllegalValueException if the team refers to an id that is not in the given maps
+     */
+    public Team toModelType(Map<String, Player> loadedPlayers, Map<String, Match> loadedMatches)
+            throws IllegalValueException, ParseException {
         final Set<Tag> tags = new HashSet<>();
         final List<Player> players = new ArrayList<>();
         final List<Match> matches = new ArrayList<>();
+        for (String id : matchRefs) {
+            if (!loadedMatches.containsKey(id)) {
+                throw new IllegalValueException("Team " + name + " refers to unknown match " + id);
+            }
+            matches.add(loadedMatches.get(id));
+        }
+        for (String id : playerRefs) {
+            if (!loadedPlayers.containsKey(id)) {
+                throw new IllegalValueException("Team " + name + " refers to unknown player " + id);
+            }
+            players.add(loadedPlayers.get(id));
+        }
         for (AdaptedMatch match : matchlist) {
             matches.add(match.toModelType());
         }
@@ -0,0 +1,110 @@
+package seedu.addressbook.storage.jaxb;
+
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.finance.Finance;
+import seedu.addressbook.data.finance.UniqueFinanceList;
+import seedu.addressbook.data.match.Match;
+import seedu.addressbook.data.match.UniqueMatchList;
+import seedu.addressbook.data.player.Player;
+import seedu.addressbook.data.player.UniquePlayerList;
+import seedu.addressbook.data.team.Team;
+import seedu.addressbook.data.team.UniqueTeamList;
+
+/**
+ * Builds an address book from adapted elements handed over one at a time, converting each element as soon as
+ * it arrives so that the adapted form can be discarded straight away.
+ *
+ * Players and matches must be added before the teams that refer to them, which is the order they are saved in.
+ */
+public class AddressBookAssembler {
+
+    private final boolean isLegacyFormat;
+
+    private final List<Player> players = new ArrayList<>();
+    private final List<Match> matches = new ArrayList<>();
+    private final List<Team> teams = new ArrayList<>();
+    private final List<Finance> finances = new ArrayList<>();
+    private final ArrayList<String> transferRecords = new ArrayList<>();
+
+    private final Map<String, Player> playersById = new HashMap<>();
+    private final Map<String, Match> matchesById = new HashMap<>();
+
+    /**
+     * @param version storage format version of the elements, null for files saved before versions were recorded
+     */
+    public AddressBookAssembler(Integer version) {
+        isLegacyFormat = version == null;
+    }
+
+    /**
+     * @throws IllegalValueException if there were any data constraints violated in the adapted player
+     */
+    public void addPlayer(AdaptedPlayer adapted) throws IllegalValueException {
+        final Player player = adapted.toModelType();
+        players.add(player);
+        if (adapted.getId() != null) {
+            playersById.put(adapted.getId(), player);
+        }
+    }
+
+    /**
+     * @throws IllegalValueException if there were any data constraints violated in the adapted match
+     */
+    public void addMatch(AdaptedMatch adapted) throws IllegalValueException, ParseException {
+        final Match match = adapted.toModelType();
+        matches.add(match);
+        if (adapted.getId() != null) {
+            matchesById.put(adapted.getId(), match);
+        }
+    }
+
+    /**
+     * @throws IllegalValueException if there were any data constraints violated in the adapted team,
+     *         or it refers to a player or match that has not been added
+     */
+    public void addTeam(AdaptedTeam adapted) throws IllegalValueException, ParseException {
+        teams.add(adapted.toModelType(playersById, matchesById));
+    }
+
+    /**
+     * @throws IllegalValueException if there were any data constraints violated in the adapted finance
+     */
+    public void addFinance(AdaptedFinance adapted) throws IllegalValueException, ParseException {
+        finances.add(adapted.toModelType());
+    }
+
+    public void addTransferRecord(String transferRecord) {
+        transferRecords.add(transferRecord);
+    }
+
+    /**
+     * Returns an address book holding everything added so far.
+     *
+     * @throws IllegalValueException if the added elements contain duplicates
+     */
+    public AddressBook toModelType() throws IllegalValueException {
+        final List<Team> resolvedTeams = new ArrayList<>();
+        if (isLegacyFormat) {
+            // older files have copies in every team, which are swapped for the top-level instances
+            final TeamMemberResolver resolver = new TeamMemberResolver(players, matches);
+            for (Team team : teams) {
+                resolvedTeams.add(resolver.resolve(team));
+            }
+        } else {
+            resolvedTeams.addAll(teams);
+        }
+        return new AddressBook(
+                new UniquePlayerList(players),
+                new UniqueTeamList(resolvedTeams),
+                new UniqueMatchList(matches),
+                new UniqueFinanceList(finances),
+                transferRecords);
+    }
+}
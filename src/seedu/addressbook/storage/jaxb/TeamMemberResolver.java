@@ -0,0 +1,68 @@
+package seedu.addressbook.storage.jaxb;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.addressbook.data.match.Match;
+import seedu.addressbook.data.player.Name;
+import seedu.addressbook.data.player.Player;
+import seedu.addressbook.data.team.Team;
+
+/**
+ * Swaps the copies of players and matches held by a team for the equal instances held elsewhere,
+ * so that a change made to one of them is seen by the team as well.
+ * Copies without an equal instance are kept.
+ *
+ * Saved files refer to a team's players and matches by id, so this is only a fallback for teams that hold their
+ * own copies: those in files written before ids were used, and those in journal records of edited teams. Players
+ * are matched by name and matches by their date, teams and result.
+ */
+class TeamMemberResolver {
+
+    private final Map<Name, Player> playersByName = new HashMap<>();
+    private final Map<String, List<Match>> matchesByTeams = new HashMap<>();
+
+    TeamMemberResolver(Iterable<Player> players, Iterable<Match> matches) {
+        for (Player player : players) {
+            playersByName.put(player.getName(), player);
+        }
+        for (Match match : matches) {
+            matchesByTeams.computeIfAbsent(teamsKey(match), key -> new ArrayList<>()).add(match);
+        }
+    }
+
+    /**
+     * Returns a team equal to {@code team} whose players and matches are the known instances where possible.
+     */
+    Team resolve(Team team) {
+        final List<Player> players = new ArrayList<>();
+        for (Player copy : team.getPlayers()) {
+            players.add(playersByName.getOrDefault(copy.getName(), copy));
+        }
+        final List<Match> matches = new ArrayList<>();
+        for (Match copy : team.getMatches()) {
+            matches.add(findEqualMatch(copy));
+        }
+        return new Team(team.getTeamName(), team.getCountry(), team.getSponsor(),
+                team.getWins(), team.getLoses(), team.getDraws(), team.getPoints(),
+                matches, players, team.getTags());
+    }
+
+    /**
+     * Returns the known match equal to {@code copy}, or {@code copy} itself if there is none.
+     */
+    private Match findEqualMatch(Match copy) {
+        for (Match candidate : matchesByTeams.getOrDefault(teamsKey(copy), new ArrayList<>())) {
+            if (candidate.equals(copy)) {
+                return candidate;
+            }
+        }
+        return copy;
+    }
+
+    private static String teamsKey(Match match) {
+        return match.getHome().fullName + "/" + match.getAway().fullName;
+    }
+}
@@ -4,20 +4,27 @@ import static seedu.addressbook.common.Messages.MESSAGE_PROGRAM_LAUNCH_ARGS_USAG
 import static seedu.addressbook.common.Messages.MESSAGE_USING_STORAGE_FILE;
 import static seedu.addressbook.common.Messages.MESSAGE_WELCOME;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
 import java.util.Optional;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextArea;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 
 import seedu.addressbook.commands.CommandResult;
 import seedu.addressbook.commands.ExitCommand;
+import seedu.addressbook.common.ProgressListener;
 import seedu.addressbook.data.finance.ReadOnlyFinance;
 import seedu.addressbook.data.match.ReadOnlyMatch;
 import seedu.addressbook.data.player.ReadOnlyPlayer;
 import seedu.addressbook.data.team.ReadOnlyTeam;
+import seedu.addressbook.logic.BackgroundTask;
 import seedu.addressbook.logic.Logic;
 
 /**
@@ -25,9 +32,20 @@ import seedu.addressbook.logic.Logic;
  */
 public class MainWindow {
 
+    public static final String MESSAGE_RUNNING_IN_BACKGROUND =
+            "%1$s is running in the background. Press Esc to cancel it.";
+    public static final String MESSAGE_PROGRESS = "%1$s: %2$d%% done";
+    public static final String MESSAGE_FAILED_IN_BACKGROUND = "%1$s failed: %2$s";
+
+    /** Progress of a background command is shown each time it has done this many more percent of its work. */
+    private static final int PROGRESS_STEP_PERCENT = 25;
+
     private Logic logic;
     private Stoppable mainApp;
 
+    /** Commands running in the background, oldest first. Only used on the JavaFX thread. */
+    private final Deque<BackgroundTask> backgroundTasks = new ArrayDeque<>();
+
     @FXML
     private TextArea outputConsole;
 
@@ -53,7 +71,16 @@ public class MainWindow {
     void onCommand(ActionEvent event) {
         try {
             String userCommandText = commandInput.getText();
-            CommandResult result = logic.execute(userCommandText);
+            BackgroundTask task = logic.start(userCommandText, reportProgress(userCommandText));
+            if (!task.isDone()) {
+                backgroundTasks.add(task);
+                task.getResult().whenComplete((result, error) ->
+                        Platform.runLater(() -> onBackgroundTaskDone(task, result, error)));
+                display(String.format(MESSAGE_RUNNING_IN_BACKGROUND, userCommandText));
+                clearCommandInput();
+                return;
+            }
+            CommandResult result = task.getResult().toCompletableFuture().get();
             if (isExitCommand(result)) {
                 exitApp();
                 return;
@@ -66,6 +93,44 @@ public class MainWindow {
         }
     }
 
+    /**
+     * Cancels the latest command still running in the background when Esc is pressed.
+     */
+    @FXML
+    void onKeyPressed(KeyEvent event) {
+        if (event.getCode() == KeyCode.ESCAPE && !backgroundTasks.isEmpty()) {
+            backgroundTasks.peekLast().cancel();
+        }
+    }
+
+    /**
+     * Shows the result of a command that ran in the background below what is already shown, so that the result
+     * of a command entered in the meantime is not cleared.
+     */
+    private void onBackgroundTaskDone(BackgroundTask task, CommandResult result, Throwable error) {
+        backgroundTasks.remove(task);
+        if (error != null) {
+            display(String.format(MESSAGE_FAILED_IN_BACKGROUND, task.commandText, error.getMessage()));
+            return;
+        }
+        display(result.feedbackToUser);
+    }
+
+    /**
+     * Returns a listener that shows the progress of a background command every {@link #PROGRESS_STEP_PERCENT}
+     * percent. It is called on the thread running the command.
+     */
+    private ProgressListener reportProgress(String userCommandText) {
+        final int[] lastShownPercent = {0};
+        return (done, total) -> {
+            final int percent = (int) (100 * done / Math.max(total, 1));
+            if (percent / PROGRESS_STEP_PERCENT > lastShownPercent[0] / PROGRESS_STEP_PERCENT && percent < 100) {
+                lastShownPercent[0] = percent;
+                Platform.runLater(() -> display(String.format(MESSAGE_PROGRESS, userCommandText, percent)));
+            }
+        };
+    }
+
     private void exitApp() throws Exception {
         mainApp.stop();
     }
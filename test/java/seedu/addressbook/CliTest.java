@@ -0,0 +1,127 @@
+package seedu.addressbook;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.addressbook.logic.Logic;
+
+public class CliTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private String dataPath;
+
+    @Before
+    public void setup() {
+        dataPath = new File(testFolder.getRoot(), "data.txt").getPath();
+    }
+
+    @Test
+    public void run_execCommands_exitsWithSuccess() {
+        final int status = cli(input("")).run(Arrays.asList(dataPath,
+                "--exec=addteam Chelsea c/England s/4000", "--exec=listteam"));
+
+        assertEquals(Cli.EXIT_SUCCESS, status);
+        assertTrue(output().contains("Chelsea"));
+        assertTrue(output().contains("Ran 2 commands, 0 failed"));
+    }
+
+    @Test
+    public void run_execCommandFails_exitsWithCommandFailed() {
+        final int status = cli(input("")).run(Arrays.asList(dataPath, "--exec=frobnicate"));
+
+        assertEquals(Cli.EXIT_COMMAND_FAILED, status);
+        assertTrue(output().contains("Ran 1 commands, 1 failed"));
+    }
+
+    @Test
+    public void run_scriptFromStandardInput_runsEveryLine() {
+        final int status = cli(input("addteam Chelsea c/England s/4000\nlistteam\n"))
+                .run(Arrays.asList(dataPath, Cli.ARG_SCRIPT));
+
+        assertEquals(Cli.EXIT_SUCCESS, status);
+        assertTrue(output().contains("Ran 2 commands, 0 failed"));
+    }
+
+    @Test
+    public void run_interactiveCommandThrows_keepsReadingCommands() {
+        // a directory where the save would write its temporary file makes every save fail until it is removed
+        final File blockedSave = new File(dataPath + ".tmp");
+        final Supplier<String> firstCommand = () -> "addteam Chelsea c/England s/4000\n";
+        final Supplier<String> unsavableCommand = () -> {
+            assertTrue(blockedSave.mkdir());
+            return "addteam Arsenal c/England s/3000\n";
+        };
+        final Supplier<String> commandAfterFailure = () -> {
+            assertTrue(blockedSave.delete());
+            return "listteam\n";
+        };
+        final InputStream in = input(Arrays.asList(firstCommand, unsavableCommand, commandAfterFailure));
+
+        final int status = cli(in).run(Collections.singletonList(dataPath));
+
+        assertEquals(Cli.EXIT_SUCCESS, status);
+        final String printed = output();
+        assertTrue(printed.contains(String.format(Logic.MESSAGE_COMMAND_FAILED, "")));
+        assertTrue(printed.indexOf("Arsenal", printed.indexOf("Command failed")) > 0);
+    }
+
+    private Cli cli(InputStream in) {
+        return new Cli(in, new PrintStream(output, true));
+    }
+
+    private String output() {
+        return new String(output.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static InputStream input(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns standard input that is read from each of the parts in turn. A part is only made once all of the
+     * parts before it have been read, so it can change the files that the commands before it left behind.
+     */
+    private static InputStream input(List<Supplier<String>> parts) {
+        final Iterator<Supplier<String>> remaining = parts.iterator();
+        return new InputStream() {
+            private InputStream current = input("");
+
+            @Override
+            public int read() throws IOException {
+                final byte[] oneByte = new byte[1];
+                return read(oneByte, 0, 1) < 0 ? -1 : oneByte[0] & 0xff;
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) throws IOException {
+                int read = current.read(buffer, offset, length);
+                while (read < 0 && remaining.hasNext()) {
+                    current = input(remaining.next().get());
+                    read = current.read(buffer, offset, length);
+                }
+                return read;
+            }
+        };
+    }
+}
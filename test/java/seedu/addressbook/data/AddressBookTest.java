@@ -0,0 +1,269 @@
+package seedu.addressbook.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.addressbook.data.match.Match;
+import seedu.addressbook.data.match.MatchDate;
+import seedu.addressbook.data.match.ReadOnlyMatch;
+import seedu.addressbook.data.match.Score;
+import seedu.addressbook.data.match.TicketSales;
+import seedu.addressbook.data.match.UniqueMatchList.MatchUpdatedException;
+import seedu.addressbook.data.player.Age;
+import seedu.addressbook.data.player.Appearance;
+import seedu.addressbook.data.player.GoalsAssisted;
+import seedu.addressbook.data.player.GoalsScored;
+import seedu.addressbook.data.player.HealthStatus;
+import seedu.addressbook.data.player.JerseyNumber;
+import seedu.addressbook.data.player.Name;
+import seedu.addressbook.data.player.Nationality;
+import seedu.addressbook.data.player.Player;
+import seedu.addressbook.data.player.PositionPlayed;
+import seedu.addressbook.data.player.Salary;
+import seedu.addressbook.data.player.UniquePlayerList.PlayerNotInTeamException;
+import seedu.addressbook.data.team.Country;
+import seedu.addressbook.data.team.Sponsor;
+import seedu.addressbook.data.team.Team;
+import seedu.addressbook.data.team.TeamName;
+
+public class AddressBookTest {
+
+    private AddressBook addressBook;
+    private Match firstMatch;
+    private Match secondMatch;
+
+    @Before
+    public void setup() throws Exception {
+        addressBook = new AddressBook();
+        addressBook.addTeam(generateTeam("Arsenal"));
+        addressBook.addTeam(generateTeam("Chelsea"));
+        addressBook.addPlayer(generatePlayer("Thierry Henry", "Arsenal", "14"));
+        addressBook.addPlayer(generatePlayer("Frank Lampard", "Chelsea", "8"));
+        firstMatch = generateMatch("01 Jan 2018", Collections.emptyList(), Collections.emptyList());
+        secondMatch = generateMatch("08 Jan 2018", Collections.emptyList(), Collections.emptyList());
+        addressBook.addMatch(firstMatch);
+        addressBook.addMatch(secondMatch);
+    }
+
+    @Test
+    public void computeScore_goalsAndOwnGoals_countedForTheRightTeam() throws Exception {
+        List<Name> goalScorers = Arrays.asList(new Name("Thierry Henry"), new Name("Frank Lampard"),
+                new Name("Thierry Henry"));
+        Match result = generateMatch("01 Jan 2018", goalScorers, Collections.singletonList(new Name("Frank Lampard")));
+
+        assertEquals("3-1", addressBook.computeScore(firstMatch, result));
+    }
+
+    @Test
+    public void computeScore_scorerInNeitherTeam_exceptionThrown() throws Exception {
+        Match result = generateMatch("01 Jan 2018", Collections.singletonList(new Name("Didier Drogba")),
+                Collections.emptyList());
+
+        try {
+            addressBook.computeScore(firstMatch, result);
+            fail();
+        } catch (PlayerNotInTeamException pnite) {
+            // expected
+        }
+    }
+
+    @Test
+    public void updateMatches_validResults_allUpdatedInOrder() throws Exception {
+        Match firstResult = generateMatch("01 Jan 2018", Collections.singletonList(new Name("Thierry Henry")),
+                Collections.emptyList());
+        Match secondResult = generateMatch("08 Jan 2018", Collections.singletonList(new Name("Frank Lampard")),
+                Collections.emptyList());
+
+        addressBook.updateMatches(Arrays.asList(firstMatch, secondMatch), Arrays.asList(firstResult, secondResult));
+
+        List<ReadOnlyMatch> matches = addressBook.getAllMatches().immutableListView();
+        assertEquals("1-0", matches.get(0).getScore().fullScore);
+        assertEquals("0-1", matches.get(1).getScore().fullScore);
+        assertEquals(31, addressBook.findPlayer(new Name("Thierry Henry")).getGoalsScored().getGoals());
+        assertEquals(31, addressBook.findPlayer(new Name("Frank Lampard")).getGoalsScored().getGoals());
+    }
+
+    @Test
+    public void updateMatches_lastResultHasUnknownScorer_nothingUpdated() throws Exception {
+        Match firstResult = generateMatch("01 Jan 2018", Collections.singletonList(new Name("Thierry Henry")),
+                Collections.emptyList());
+        Match secondResult = generateMatch("08 Jan 2018", Collections.singletonList(new Name("Didier Drogba")),
+                Collections.emptyList());
+
+        try {
+            addressBook.updateMatches(Arrays.asList(firstMatch, secondMatch),
+                    Arrays.asList(firstResult, secondResult));
+            fail();
+        } catch (PlayerNotInTeamException pnite) {
+            assertNothingUpdated();
+        }
+    }
+
+    @Test
+    public void updateMatches_matchGivenTwice_nothingUpdated() throws Exception {
+        Match firstResult = generateMatch("01 Jan 2018", Collections.singletonList(new Name("Thierry Henry")),
+                Collections.emptyList());
+        Match repeatedResult = generateMatch("01 Jan 2018", Collections.singletonList(new Name("Frank Lampard")),
+                Collections.emptyList());
+
+        try {
+            addressBook.updateMatches(Arrays.asList(firstMatch, firstMatch),
+                    Arrays.asList(firstResult, repeatedResult));
+            fail();
+        } catch (MatchUpdatedException mue) {
+            assertNothingUpdated();
+        }
+    }
+
+    @Test
+    public void editPlayer_scorerRenamedAfterShallowCopy_copyKeepsOldName() throws Exception {
+        updateFirstMatchWithGoalBy("Thierry Henry");
+        ReadOnlyMatch result = addressBook.getAllMatches().immutableListView().get(0);
+        AddressBook copy = addressBook.shallowCopy();
+
+        Player henry = addressBook.findPlayer(new Name("Thierry Henry"));
+        addressBook.editPlayer(henry, generatePlayer("Titi Henry", "Arsenal", "14"));
+
+        ReadOnlyMatch renamed = addressBook.getAllMatches().immutableListView().get(0);
+        assertEquals(Collections.singletonList(new Name("Titi Henry")), renamed.getGoalScorers());
+        assertTrue(addressBook.findTeam(new TeamName("Arsenal")).getMatches().contains(renamed));
+        assertTrue(addressBook.findTeam(new TeamName("Chelsea")).getMatches().contains(renamed));
+        assertSame(result, copy.getAllMatches().immutableListView().get(0));
+        assertTrue(copy.findTeam(new TeamName("Arsenal")).getMatches().contains(result));
+        List<Name> original = Collections.singletonList(new Name("Thierry Henry"));
+        assertEquals(original, result.getGoalScorers());
+    }
+
+    @Test
+    public void shallowCopy_matchUpdated_copyUnchanged() throws Exception {
+        AddressBook copy = addressBook.shallowCopy();
+        updateFirstMatchWithGoalBy("Thierry Henry");
+
+        assertEquals(30, copy.findPlayer(new Name("Thierry Henry")).getGoalsScored().getGoals());
+        assertEquals(0, copy.findTeam(new TeamName("Arsenal")).getPoints());
+        assertEquals(30, copy.findTeam(new TeamName("Arsenal")).getPlayers().get(0).getGoalsScored().getGoals());
+        assertTrue(copy.getAllMatches().immutableListView().get(0).notPlayed());
+
+        Player henry = addressBook.findPlayer(new Name("Thierry Henry"));
+        assertEquals(31, henry.getGoalsScored().getGoals());
+        assertEquals(3, addressBook.findTeam(new TeamName("Arsenal")).getPoints());
+        assertSame(henry, addressBook.findTeam(new TeamName("Arsenal")).getPlayers().get(0));
+    }
+
+    @Test
+    public void shallowCopy_matchesCleared_copyUnchanged() throws Exception {
+        updateFirstMatchWithGoalBy("Thierry Henry");
+        AddressBook copy = addressBook.shallowCopy();
+
+        addressBook.clearMatch();
+
+        assertEquals(31, copy.findPlayer(new Name("Thierry Henry")).getGoalsScored().getGoals());
+        assertEquals(3, copy.findTeam(new TeamName("Arsenal")).getPoints());
+        assertEquals(2, copy.findTeam(new TeamName("Arsenal")).getMatches().size());
+
+        Player henry = addressBook.findPlayer(new Name("Thierry Henry"));
+        assertEquals(0, henry.getGoalsScored().getGoals());
+        Team arsenal = addressBook.findTeam(new TeamName("Arsenal"));
+        assertEquals(0, arsenal.getPoints());
+        assertEquals(0, arsenal.getMatches().size());
+        assertSame(henry, arsenal.getPlayers().get(0));
+    }
+
+    @Test
+    public void shallowCopy_playersCleared_copyRosterUnchanged() throws Exception {
+        AddressBook copy = addressBook.shallowCopy();
+
+        addressBook.clearPlayer();
+
+        assertEquals(1, copy.findTeam(new TeamName("Arsenal")).getPlayers().size());
+        assertEquals(0, addressBook.findTeam(new TeamName("Arsenal")).getPlayers().size());
+    }
+
+    @Test
+    public void refreshFinance_financesAlreadyMatchTeams_noChangeRecorded() throws Exception {
+        addressBook.refreshFinance();
+        List<AddressBookChange> changes = new ArrayList<>();
+        addressBook.setChangeListener(changes::add);
+        long version = addressBook.getVersion();
+
+        addressBook.refreshFinance();
+
+        assertEquals(version, addressBook.getVersion());
+        assertTrue(changes.isEmpty());
+        assertEquals(2, addressBook.getAllFinances().immutableListView().size());
+    }
+
+    @Test
+    public void refreshFinance_teamChanged_changeRecorded() throws Exception {
+        addressBook.refreshFinance();
+        long version = addressBook.getVersion();
+        addressBook.addTeam(generateTeam("Liverpool"));
+
+        addressBook.refreshFinance();
+
+        assertEquals(version + 2, addressBook.getVersion());
+        assertEquals(3, addressBook.getAllFinances().immutableListView().size());
+    }
+
+    /**
+     * Records a 1-0 win for Arsenal in the first match, with the given player scoring its goal.
+     */
+    private void updateFirstMatchWithGoalBy(String scorer) throws Exception {
+        Match result = generateMatch("01 Jan 2018", Collections.singletonList(new Name(scorer)),
+                Collections.emptyList());
+        result.setScore(addressBook.computeScore(firstMatch, result));
+        addressBook.updateMatch(firstMatch, result);
+    }
+
+    /**
+     * Asserts that neither match has been played and no player has been credited with a goal.
+     */
+    private void assertNothingUpdated() throws Exception {
+        for (ReadOnlyMatch match : addressBook.getAllMatches().immutableListView()) {
+            assertTrue(match.notPlayed());
+        }
+        assertEquals(30, addressBook.findPlayer(new Name("Thierry Henry")).getGoalsScored().getGoals());
+        assertEquals(30, addressBook.findPlayer(new Name("Frank Lampard")).getGoalsScored().getGoals());
+    }
+
+    private Team generateTeam(String name) throws Exception {
+        return new Team(new TeamName(name), new Country("England"), new Sponsor("100"),
+                new ArrayList<>(), new ArrayList<>(), Collections.emptySet());
+    }
+
+    /**
+     * Generates a match between Arsenal at home and Chelsea with the given (own)goal scorers, not played yet.
+     */
+    private Match generateMatch(String date, List<Name> goalScorers, List<Name> ownGoalScorers) throws Exception {
+        return new Match(new MatchDate(date), new TeamName("Arsenal"), new TeamName("Chelsea"),
+                new TicketSales("100"), new TicketSales("200"), goalScorers, ownGoalScorers, new Score(""));
+    }
+
+    /**
+     * Generates a valid player with the given name, team and jersey number, who has scored 30 goals.
+     */
+    private Player generatePlayer(String name, String team, String jerseyNumber) throws Exception {
+        return new Player(new Name(name),
+                          new PositionPlayed("Striker"),
+                          new Age("30"),
+                          new Salary("200"),
+                          new GoalsScored("30"),
+                          new GoalsAssisted("20"),
+                          new TeamName(team),
+                          new Nationality("France"),
+                          new JerseyNumber(jerseyNumber),
+                          new Appearance("54"),
+                          new HealthStatus("Healthy"),
+                          Collections.emptySet());
+    }
+}
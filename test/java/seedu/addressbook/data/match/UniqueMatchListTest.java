@@ -0,0 +1,135 @@
+package seedu.addressbook.data.match;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.addressbook.data.player.Name;
+import seedu.addressbook.data.team.TeamName;
+
+public class UniqueMatchListTest {
+
+    private Name henry;
+    private Name pires;
+    private Name lampard;
+    private UniqueMatchList matches;
+    private Match firstMatch;
+    private Match secondMatch;
+
+    @Before
+    public void setup() throws Exception {
+        henry = new Name("Thierry Henry");
+        pires = new Name("Robert Pires");
+        lampard = new Name("Frank Lampard");
+        firstMatch = generateMatch("01 Jan 2018", Arrays.asList(henry, lampard), Collections.emptyList(), "1-1");
+        secondMatch = generateMatch("08 Jan 2018", Collections.singletonList(pires),
+                Collections.singletonList(henry), "1-1");
+        matches = new UniqueMatchList(firstMatch, secondMatch);
+    }
+
+    @Test
+    public void copy_sourceChanged_copyUnchanged() throws Exception {
+        UniqueMatchList copy = new UniqueMatchList(matches);
+        matches.remove(firstMatch);
+
+        assertEquals(Arrays.asList(firstMatch, secondMatch), copy.immutableListView());
+        assertTrue(copy.contains(firstMatch));
+        assertFalse(matches.contains(firstMatch));
+    }
+
+    @Test
+    public void copy_copyChanged_sourceUnchanged() throws Exception {
+        UniqueMatchList copy = new UniqueMatchList(matches);
+        Match thirdMatch = generateMatch("15 Jan 2018", Collections.emptyList(), Collections.emptyList(), "");
+        copy.add(thirdMatch);
+
+        assertEquals(Arrays.asList(firstMatch, secondMatch), matches.immutableListView());
+        assertEquals(3, copy.immutableListView().size());
+    }
+
+    @Test
+    public void renameScorer_listCopied_copyAndMatchesUnchanged() throws Exception {
+        UniqueMatchList copy = new UniqueMatchList(matches);
+
+        Map<Match, Match> renamed = matches.renameScorer(henry, pires);
+
+        assertEquals(Arrays.asList(henry, lampard), firstMatch.getGoalScorers());
+        assertEquals(Collections.singletonList(henry), secondMatch.getOwnGoalScorers());
+        assertSame(firstMatch, copy.immutableListView().get(0));
+        assertSame(secondMatch, copy.immutableListView().get(1));
+
+        assertEquals(Arrays.asList(firstMatch, secondMatch), Arrays.asList(renamed.keySet().toArray()));
+        List<ReadOnlyMatch> renamedList = matches.immutableListView();
+        assertSame(renamed.get(firstMatch), renamedList.get(0));
+        assertSame(renamed.get(secondMatch), renamedList.get(1));
+        assertNotSame(firstMatch, renamedList.get(0));
+        assertEquals(Arrays.asList(pires, lampard), renamedList.get(0).getGoalScorers());
+        assertEquals(Collections.singletonList(pires), renamedList.get(1).getOwnGoalScorers());
+    }
+
+    @Test
+    public void renameScorer_noMatchesScoredIn_nothingReplaced() throws Exception {
+        UniqueMatchList copy = new UniqueMatchList(matches);
+
+        assertTrue(matches.renameScorer(new Name("Didier Drogba"), pires).isEmpty());
+        assertSame(firstMatch, matches.immutableListView().get(0));
+        assertEquals(copy, matches);
+    }
+
+    @Test
+    public void renameScorer_afterAddUpdateAndRemove_onlyMatchesInListRenamed() throws Exception {
+        Match thirdMatch = generateMatch("15 Jan 2018", Collections.emptyList(), Collections.emptyList(), "");
+        Match thirdResult = generateMatch("15 Jan 2018", Collections.singletonList(lampard),
+                Collections.emptyList(), "0-1");
+        matches.add(thirdMatch);
+        matches.update(thirdMatch, thirdResult);
+        matches.remove(firstMatch);
+
+        Map<Match, Match> renamedLampard = matches.renameScorer(lampard, henry);
+        assertEquals(Collections.singletonList(thirdResult), Arrays.asList(renamedLampard.keySet().toArray()));
+
+        // henry now scored in the renamed copy of the third match, as well as in the second match
+        Map<Match, Match> renamedHenry = matches.renameScorer(henry, lampard);
+        assertEquals(Arrays.asList(secondMatch, renamedLampard.get(thirdResult)),
+                Arrays.asList(renamedHenry.keySet().toArray()));
+        assertTrue(matches.renameScorer(henry, pires).isEmpty());
+
+        Map<Match, Match> renamedPires = matches.renameScorer(pires, henry);
+        assertEquals(Collections.singletonList(renamedHenry.get(secondMatch)),
+                Arrays.asList(renamedPires.keySet().toArray()));
+    }
+
+    @Test
+    public void remove_matchesOnSameDateBetweenSameTeams_equivalentMatchRemoved() throws Exception {
+        Match replay = new Match(new MatchDate("01 Jan 2018"), new TeamName("Arsenal"), new TeamName("Chelsea"),
+                new TicketSales("300"), new TicketSales("400"), Collections.emptyList(), Collections.emptyList(),
+                new Score("0-0"));
+        matches.add(replay);
+
+        assertTrue(matches.contains(new Match(replay)));
+        matches.remove(new Match(replay));
+
+        assertFalse(matches.contains(replay));
+        assertTrue(matches.contains(firstMatch));
+        assertEquals(Arrays.asList(firstMatch, secondMatch), matches.immutableListView());
+    }
+
+    /**
+     * Generates a match between Arsenal at home and Chelsea with the given (own)goal scorers and score.
+     */
+    static Match generateMatch(String date, List<Name> goalScorers, List<Name> ownGoalScorers, String score)
+            throws Exception {
+        return new Match(new MatchDate(date), new TeamName("Arsenal"), new TeamName("Chelsea"),
+                new TicketSales("100"), new TicketSales("200"), goalScorers, ownGoalScorers, new Score(score));
+    }
+}
@@ -0,0 +1,198 @@
+package seedu.addressbook.data.player;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.addressbook.data.player.UniquePlayerList.DuplicateJerseyInSameTeamException;
+import seedu.addressbook.data.player.UniquePlayerList.DuplicatePlayerException;
+import seedu.addressbook.data.player.UniquePlayerList.PlayerNotFoundException;
+import seedu.addressbook.data.team.TeamName;
+
+public class UniquePlayerListTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private UniquePlayerList players;
+    private Player henry;
+    private Player pires;
+
+    @Before
+    public void setup() throws Exception {
+        henry = generatePlayer("Thierry Henry", "Arsenal", "14");
+        pires = generatePlayer("Robert Pires", "Arsenal", "7");
+        players = new UniquePlayerList(henry);
+    }
+
+    @Test
+    public void copy_sourceChanged_copyUnchanged() throws Exception {
+        UniquePlayerList copy = new UniquePlayerList(players);
+        players.add(pires);
+        players.remove(henry);
+
+        assertEquals(Collections.singletonList(henry), copy.immutableListView());
+        assertTrue(copy.contains(henry));
+        assertFalse(copy.contains(pires));
+        assertFalse(players.contains(henry));
+    }
+
+    @Test
+    public void copy_copyChanged_sourceUnchanged() throws Exception {
+        UniquePlayerList copy = new UniquePlayerList(players);
+        copy.add(pires);
+
+        assertEquals(Collections.singletonList(henry), players.immutableListView());
+        assertFalse(players.contains(pires));
+        assertFalse(players.containsSameJnSameTm(pires));
+        assertTrue(copy.containsSameJnSameTm(pires));
+    }
+
+    @Test
+    public void copy_ofCopyChanged_otherCopiesUnchanged() throws Exception {
+        UniquePlayerList copy = new UniquePlayerList(players);
+        UniquePlayerList copyOfCopy = new UniquePlayerList(copy);
+        copyOfCopy.add(pires);
+        copy.clear();
+
+        assertEquals(Collections.singletonList(henry), players.immutableListView());
+        assertEquals(0, copy.immutableListView().size());
+        assertEquals(2, copyOfCopy.immutableListView().size());
+    }
+
+    @Test
+    public void edit_nameAndJerseyChanged_indexesFollow() throws Exception {
+        players.add(pires);
+        Player renamed = generatePlayer("Titi Henry", "Arsenal", "12");
+        players.edit(henry, renamed);
+
+        assertSame(renamed, players.find(renamed.getName()));
+        assertFalse(players.contains(henry));
+        assertFalse(players.containsSameJnSameTm(henry));
+        assertTrue(players.containsSameJnSameTm(renamed));
+        assertSame(pires, players.find(pires.getName()));
+    }
+
+    @Test
+    public void edit_otherDetailsChanged_playerReplaced() throws Exception {
+        Player injured = new Player(henry.getName(), henry.getPositionPlayed(), henry.getAge(), henry.getSalary(),
+                henry.getGoalsScored(), henry.getGoalsAssisted(), henry.getTeamName(), henry.getNationality(),
+                henry.getJerseyNumber(), henry.getAppearance(), new HealthStatus("Injured"), henry.getTags());
+        players.edit(henry, injured);
+
+        assertEquals(Collections.singletonList(injured), players.immutableListView());
+        assertSame(injured, players.find(henry.getName()));
+    }
+
+    @Test
+    public void edit_nameTakenByAnotherPlayer_exceptionThrown() throws Exception {
+        players.add(pires);
+
+        thrown.expect(DuplicatePlayerException.class);
+        players.edit(pires, generatePlayer("Thierry Henry", "Arsenal", "7"));
+    }
+
+    @Test
+    public void edit_jerseyTakenInSameTeam_exceptionThrown() throws Exception {
+        players.add(pires);
+
+        thrown.expect(DuplicateJerseyInSameTeamException.class);
+        players.edit(pires, generatePlayer("Robert Pires", "Arsenal", "14"));
+    }
+
+    @Test
+    public void edit_rejected_listAndIndexesUnchanged() throws Exception {
+        players.add(pires);
+        try {
+            players.edit(pires, generatePlayer("Thierry Henry", "Arsenal", "7"));
+        } catch (DuplicatePlayerException dpe) {
+            // expected
+        }
+
+        assertEquals(Arrays.asList(henry, pires), players.immutableListView());
+        assertSame(henry, players.find(henry.getName()));
+        assertSame(pires, players.find(pires.getName()));
+    }
+
+    @Test
+    public void remove_otherPlayerWithSameKeysLeft_keysPointToOtherPlayer() throws Exception {
+        // lists loaded from older files may hold players that share a name or a jersey number
+        Player sameNameAndJersey = generatePlayerLike(henry);
+        players = new UniquePlayerList(henry, pires, sameNameAndJersey);
+        players.remove(henry);
+
+        assertSame(sameNameAndJersey, players.find(henry.getName()));
+        assertTrue(players.containsSameJnSameTm(henry));
+    }
+
+    @Test
+    public void remove_unindexedPlayerWithSameKeys_keysStayAndThenGoWithLastPlayer() throws Exception {
+        Player sameNameAndJersey = generatePlayerLike(henry);
+        players = new UniquePlayerList(henry, pires, sameNameAndJersey);
+        players.remove(sameNameAndJersey);
+
+        assertSame(henry, players.find(henry.getName()));
+        players.remove(henry);
+        assertFalse(players.contains(henry));
+        assertFalse(players.containsSameJnSameTm(henry));
+    }
+
+    @Test
+    public void remove_playerNotInList_exceptionThrownAndCopyUnchanged() throws Exception {
+        UniquePlayerList copy = new UniquePlayerList(players);
+
+        thrown.expect(PlayerNotFoundException.class);
+        try {
+            copy.remove(pires);
+        } finally {
+            assertEquals(players, copy);
+            assertSame(henry, copy.find(henry.getName()));
+        }
+    }
+
+    @Test
+    public void find_removedPlayer_exceptionThrown() throws Exception {
+        players.add(pires);
+        players.remove(pires);
+
+        thrown.expect(PlayerNotFoundException.class);
+        players.find(pires.getName());
+    }
+
+    /**
+     * Generates a player with the same name, team and jersey number as {@code player}, but a different age.
+     */
+    private static Player generatePlayerLike(Player player) throws Exception {
+        return new Player(player.getName(), player.getPositionPlayed(), new Age("20"),
+                player.getSalary(), player.getGoalsScored(), player.getGoalsAssisted(), player.getTeamName(),
+                player.getNationality(), player.getJerseyNumber(), player.getAppearance(), player.getHealthStatus(),
+                player.getTags());
+    }
+
+    /**
+     * Generates a valid player with the given name, team and jersey number.
+     */
+    static Player generatePlayer(String name, String team, String jerseyNumber) throws Exception {
+        return new Player(new Name(name),
+                          new PositionPlayed("Striker"),
+                          new Age("30"),
+                          new Salary("200"),
+                          new GoalsScored("30"),
+                          new GoalsAssisted("20"),
+                          new TeamName(team),
+                          new Nationality("France"),
+                          new JerseyNumber(jerseyNumber),
+                          new Appearance("54"),
+                          new HealthStatus("Healthy"),
+                          Collections.emptySet());
+    }
+}
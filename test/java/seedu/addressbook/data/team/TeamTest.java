@@ -0,0 +1,88 @@
+package seedu.addressbook.data.team;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.addressbook.data.player.Age;
+import seedu.addressbook.data.player.Appearance;
+import seedu.addressbook.data.player.GoalsAssisted;
+import seedu.addressbook.data.player.GoalsScored;
+import seedu.addressbook.data.player.HealthStatus;
+import seedu.addressbook.data.player.JerseyNumber;
+import seedu.addressbook.data.player.Name;
+import seedu.addressbook.data.player.Nationality;
+import seedu.addressbook.data.player.Player;
+import seedu.addressbook.data.player.PositionPlayed;
+import seedu.addressbook.data.player.Salary;
+
+public class TeamTest {
+
+    private Team team;
+
+    @Before
+    public void setup() throws Exception {
+        team = new Team(new TeamName("Arsenal"), new Country("England"), new Sponsor("100"),
+                new ArrayList<>(), new ArrayList<>(), Collections.emptySet());
+    }
+
+    @Test
+    public void countPlayersNamed_playersSharingName_eachCounted() throws Exception {
+        Player first = generatePlayer("Ashley Cole", "3");
+        Player second = generatePlayer("Ashley Cole", "4");
+        team.addPlayer(first);
+        team.addPlayer(second);
+        team.addPlayer(generatePlayer("Thierry Henry", "14"));
+
+        assertEquals(2, team.countPlayersNamed(new Name("Ashley Cole")));
+
+        team.removePlayer(first);
+        assertEquals(1, team.countPlayersNamed(new Name("Ashley Cole")));
+        team.removePlayer(first);
+        assertEquals(1, team.countPlayersNamed(new Name("Ashley Cole")));
+        team.removePlayer(second);
+        assertEquals(0, team.countPlayersNamed(new Name("Ashley Cole")));
+        assertEquals(1, team.countPlayersNamed(new Name("Thierry Henry")));
+    }
+
+    @Test
+    public void countPlayersNamed_afterClear_noneCounted() throws Exception {
+        team.addPlayer(generatePlayer("Thierry Henry", "14"));
+        team.clearPlayerList();
+
+        assertEquals(0, team.countPlayersNamed(new Name("Thierry Henry")));
+    }
+
+    @Test
+    public void countPlayersNamed_rosterGivenToConstructor_counted() throws Exception {
+        ArrayList<Player> roster = new ArrayList<>();
+        roster.add(generatePlayer("Thierry Henry", "14"));
+        Team withRoster = new Team(new TeamName("Arsenal"), new Country("England"), new Sponsor("100"),
+                new ArrayList<>(), roster, Collections.emptySet());
+
+        assertEquals(1, withRoster.countPlayersNamed(new Name("Thierry Henry")));
+        assertEquals(0, withRoster.countPlayersNamed(new Name("Frank Lampard")));
+    }
+
+    /**
+     * Generates a valid player in Arsenal with the given name and jersey number.
+     */
+    private Player generatePlayer(String name, String jerseyNumber) throws Exception {
+        return new Player(new Name(name),
+                          new PositionPlayed("Defender"),
+                          new Age("30"),
+                          new Salary("200"),
+                          new GoalsScored("3"),
+                          new GoalsAssisted("20"),
+                          new TeamName("Arsenal"),
+                          new Nationality("England"),
+                          new JerseyNumber(jerseyNumber),
+                          new Appearance("54"),
+                          new HealthStatus("Healthy"),
+                          Collections.emptySet());
+    }
+}
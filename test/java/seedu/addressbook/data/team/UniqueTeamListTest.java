@@ -0,0 +1,179 @@
+package seedu.addressbook.data.team;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.addressbook.data.match.Match;
+import seedu.addressbook.data.match.MatchDate;
+import seedu.addressbook.data.match.Score;
+import seedu.addressbook.data.match.TicketSales;
+import seedu.addressbook.data.team.UniqueTeamList.DuplicateTeamException;
+import seedu.addressbook.data.team.UniqueTeamList.TeamNotFoundException;
+
+public class UniqueTeamListTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private UniqueTeamList teams;
+    private Team arsenal;
+    private Team chelsea;
+
+    @Before
+    public void setup() throws Exception {
+        arsenal = generateTeam("Arsenal");
+        chelsea = generateTeam("Chelsea");
+        teams = new UniqueTeamList(arsenal, chelsea);
+    }
+
+    @Test
+    public void updateStanding_listCopied_copyAndTeamUnchanged() throws Exception {
+        UniqueTeamList copy = new UniqueTeamList(teams);
+        Match win = generatePlayedMatch("Chelsea", "Arsenal", "2-0");
+
+        teams.updateStanding(chelsea, team -> {
+            team.addMatch(win);
+            team.updatePoints();
+        });
+
+        assertEquals(0, chelsea.getPoints());
+        assertSame(chelsea, copy.find(new TeamName("Chelsea")));
+        Team changed = teams.find(new TeamName("Chelsea"));
+        assertEquals(3, changed.getPoints());
+        assertEquals(Collections.singletonList(win), changed.getMatches());
+        assertSame(changed, teams.immutableListView().get(0));
+    }
+
+    @Test
+    public void add_newTeam_insertedAtPlaceInTable() throws Exception {
+        Team burnley = generateTeam("Burnley");
+        teams.add(burnley);
+
+        assertEquals(Arrays.asList(arsenal, burnley, chelsea), teams.immutableListView());
+    }
+
+    @Test
+    public void updateStanding_resultsAddedAndRemoved_tableMatchesFullSort() throws Exception {
+        teams.add(generateTeam("Burnley"));
+        Match chelseaWin = generatePlayedMatch("Chelsea", "Arsenal", "2-0");
+        Match burnleyWin = generatePlayedMatch("Burnley", "Chelsea", "1-0");
+        Match draw = generatePlayedMatch("Arsenal", "Burnley", "1-1");
+        for (Match match : Arrays.asList(chelseaWin, burnleyWin, draw)) {
+            addResult(match.getHome(), match);
+            addResult(match.getAway(), match);
+        }
+
+        // Burnley 4 points, Chelsea 3 points with a loss, Arsenal 1 point
+        assertEquals(Arrays.asList("Burnley", "Chelsea", "Arsenal"), namesInTable());
+        assertTableSorted();
+
+        teams.updateStanding(teams.find(new TeamName("Burnley")), team -> {
+            team.removeMatch(burnleyWin);
+            team.updatePoints();
+        });
+
+        // Chelsea 3 points, then Burnley 1 point with no losses, then Arsenal 1 point with a loss
+        assertEquals(Arrays.asList("Chelsea", "Burnley", "Arsenal"), namesInTable());
+        assertTableSorted();
+    }
+
+    @Test
+    public void contains_nameInOtherCase_true() throws Exception {
+        assertTrue(teams.contains(generateTeam("ARSENAL")));
+        assertFalse(teams.contains(generateTeam("Arsenal FC")));
+    }
+
+    @Test
+    public void add_nameInOtherCase_exceptionThrown() throws Exception {
+        thrown.expect(DuplicateTeamException.class);
+        teams.add(generateTeam("chelsea"));
+    }
+
+    @Test
+    public void find_exactName_teamReturned() throws Exception {
+        assertSame(arsenal, teams.find(new TeamName("Arsenal")));
+    }
+
+    @Test
+    public void find_nameInOtherCase_exceptionThrown() throws Exception {
+        thrown.expect(TeamNotFoundException.class);
+        teams.find(new TeamName("arsenal"));
+    }
+
+    @Test
+    public void edit_renamed_foundUnderNewNameOnly() throws Exception {
+        Team gunners = generateTeam("Gunners");
+        teams.edit(arsenal, gunners, true);
+
+        assertSame(gunners, teams.find(new TeamName("Gunners")));
+        assertFalse(teams.contains(arsenal));
+        assertTrue(teams.contains(generateTeam("GUNNERS")));
+    }
+
+    @Test
+    public void remove_team_noLongerFound() throws Exception {
+        teams.remove(chelsea);
+
+        assertFalse(teams.contains(chelsea));
+        assertEquals(Collections.singletonList(arsenal), teams.immutableListView());
+    }
+
+    /**
+     * Adds {@code match} to the results of the team with the given name.
+     */
+    private void addResult(TeamName teamName, Match match) throws Exception {
+        teams.updateStanding(teams.find(teamName), team -> {
+            team.addMatch(match);
+            team.updatePoints();
+        });
+    }
+
+    /**
+     * Returns the names of the teams in the order of the table.
+     */
+    private List<String> namesInTable() {
+        final List<String> names = new ArrayList<>();
+        for (ReadOnlyTeam team : teams.immutableListView()) {
+            names.add(team.getTeamName().fullName);
+        }
+        return names;
+    }
+
+    /**
+     * Asserts that sorting the table again would not change it.
+     */
+    private void assertTableSorted() {
+        final List<ReadOnlyTeam> before = new ArrayList<>(teams.immutableListView());
+        teams.sort();
+        assertEquals(before, teams.immutableListView());
+    }
+
+    /**
+     * Generates a team with the given name, with no players or matches.
+     */
+    static Team generateTeam(String name) throws Exception {
+        return new Team(new TeamName(name), new Country("England"), new Sponsor("100"),
+                new ArrayList<>(), new ArrayList<>(), Collections.emptySet());
+    }
+
+    /**
+     * Generates a match between the given teams with the given score.
+     */
+    private static Match generatePlayedMatch(String home, String away, String score) throws Exception {
+        return new Match(new MatchDate("01 Jan 2018"), new TeamName(home), new TeamName(away),
+                new TicketSales("100"), new TicketSales("200"), Collections.emptyList(), Collections.emptyList(),
+                new Score(score));
+    }
+}
@@ -0,0 +1,166 @@
+package seedu.addressbook.export;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.addressbook.common.ProgressListener;
+
+public class ExcelWorkbookWriterTest {
+
+    /**
+     * Rows of data each sheet holds in these tests, below its header row. Fewer than an .xlsx sheet holds, so
+     * that a test need not fill a whole sheet, but more than are rendered in one batch or kept in memory.
+     */
+    private static final int ROWS_PER_SHEET = 5000;
+
+    /** A table of numbers, with each number and its name. */
+    private static final ExportTable<Integer> NUMBERS = new ExportTable<>("Numbers", Arrays.asList(
+            new ExportColumn<>("Number", 8, number -> number),
+            new ExportColumn<>("Name", 8, number -> "n" + number)));
+
+    /** A table of numbers grouped by whether they are odd or even, totalling the numbers and their squares. */
+    private static final ExportTable<Integer> PARITIES = new ExportTable<>("Parities", Arrays.asList(
+            new ExportColumn<>("Parity", 8, number -> number % 2 == 0 ? "even" : "odd"),
+            new ExportColumn<>("Number", 8, true, number -> number),
+            new ExportColumn<>("Name", 8, number -> "n" + number),
+            new ExportColumn<>("Square", 8, true, number -> number * number)), 0);
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void addTable_moreRowsThanSheetHolds_rowsCarryOnInOrder() throws Exception {
+        final int count = 2 * ROWS_PER_SHEET + 10;
+        final List<Integer> numbers = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            numbers.add(count - i);
+        }
+        final ExcelWorkbookWriter writer = new ExcelWorkbookWriter(ROWS_PER_SHEET + 1);
+        writer.addTable(NUMBERS, numbers, ProgressListener.NONE);
+
+        try (XSSFWorkbook workbook = writeAndRead(writer)) {
+            assertEquals(3, workbook.getNumberOfSheets());
+            assertEquals("Numbers", workbook.getSheetAt(0).getSheetName());
+            assertEquals("Numbers (2)", workbook.getSheetAt(1).getSheetName());
+            assertEquals("Numbers (3)", workbook.getSheetAt(2).getSheetName());
+            for (int i = 0; i < count; i++) {
+                final Sheet sheet = workbook.getSheetAt(i / ROWS_PER_SHEET);
+                final Row row = sheet.getRow(i % ROWS_PER_SHEET + 1);
+                assertEquals(i + 1, numericValue(row.getCell(0)), 0);
+                assertEquals(numbers.get(i), numericValue(row.getCell(1)), 0);
+                assertEquals("n" + numbers.get(i), row.getCell(2).getStringCellValue());
+            }
+            final Sheet lastSheet = workbook.getSheetAt(2);
+            assertEquals(ExportTable.INDEX_HEADER, lastSheet.getRow(0).getCell(0).getStringCellValue());
+            assertEquals(10, lastSheet.getLastRowNum());
+        }
+    }
+
+    @Test
+    public void addTable_noItems_sheetWithHeaderOnly() throws Exception {
+        final ExcelWorkbookWriter writer = new ExcelWorkbookWriter();
+        writer.addTable(NUMBERS, new ArrayList<>(), ProgressListener.NONE);
+
+        try (XSSFWorkbook workbook = writeAndRead(writer)) {
+            final Sheet sheet = workbook.getSheet("Numbers");
+            assertEquals("Number", sheet.getRow(0).getCell(1).getStringCellValue());
+            assertNull(sheet.getRow(1));
+        }
+    }
+
+    @Test
+    public void addTable_withTotals_numbersExportedAsNumbersAndTotalledByGroup() throws Exception {
+        final ExcelWorkbookWriter writer = new ExcelWorkbookWriter();
+        writer.addTable(PARITIES, Arrays.asList(3, 4, 5, 6, 7), true, ProgressListener.NONE);
+
+        try (XSSFWorkbook workbook = writeAndRead(writer)) {
+            assertEquals(2, workbook.getNumberOfSheets());
+            final Row firstRow = workbook.getSheet("Parities").getRow(1);
+            assertEquals(3, numericValue(firstRow.getCell(2)), 0);
+            assertEquals(CellType.STRING, firstRow.getCell(3).getCellType());
+            assertEquals(9, numericValue(firstRow.getCell(4)), 0);
+
+            final Sheet totals = workbook.getSheet("Parities" + ExcelWorkbookWriter.TOTALS_SHEET_SUFFIX);
+            assertEquals(Arrays.asList("Parity", ExcelWorkbookWriter.COUNT_HEADER, "Number", "Square"),
+                    textOf(totals.getRow(0)));
+            // groups in the order they first appear: odd 3, 5, 7 and even 4, 6
+            assertTotals(totals.getRow(1), "odd", 3, 15, 83);
+            assertTotals(totals.getRow(2), "even", 2, 10, 52);
+            assertEquals(2, totals.getLastRowNum());
+        }
+    }
+
+    @Test
+    public void addTable_withTotalsButNoGroups_noTotalsSheet() throws Exception {
+        final ExcelWorkbookWriter writer = new ExcelWorkbookWriter();
+        writer.addTable(NUMBERS, Arrays.asList(1, 2), true, ProgressListener.NONE);
+
+        try (XSSFWorkbook workbook = writeAndRead(writer)) {
+            assertEquals(1, workbook.getNumberOfSheets());
+        }
+    }
+
+    @Test
+    public void maxRowsPerSheet_xlsxLimit() {
+        assertEquals(1_048_576, ExcelWorkbookWriter.MAX_ROWS_PER_SHEET);
+    }
+
+    /**
+     * Writes the workbook to a file, closes the writer and reads the file back.
+     */
+    private XSSFWorkbook writeAndRead(ExcelWorkbookWriter writer) throws Exception {
+        final Path path = testFolder.getRoot().toPath().resolve("export.xlsx");
+        try (ExcelWorkbookWriter toClose = writer) {
+            toClose.writeTo(path);
+        }
+        try (InputStream in = Files.newInputStream(path)) {
+            return new XSSFWorkbook(in);
+        }
+    }
+
+    /**
+     * Returns the value of a cell that must hold a number.
+     */
+    private static double numericValue(Cell cell) {
+        assertEquals(CellType.NUMERIC, cell.getCellType());
+        return cell.getNumericCellValue();
+    }
+
+    /**
+     * Returns the text of each cell of a row that holds only text.
+     */
+    private static List<String> textOf(Row row) {
+        final List<String> text = new ArrayList<>();
+        for (Cell cell : row) {
+            text.add(cell.getStringCellValue());
+        }
+        return text;
+    }
+
+    /**
+     * Asserts that a row of a totals sheet holds the given group, count and totals, with numbers as numbers.
+     */
+    private static void assertTotals(Row row, String group, double count, double... totals) {
+        assertEquals(group, row.getCell(0).getStringCellValue());
+        assertEquals(count, numericValue(row.getCell(1)), 0);
+        for (int t = 0; t < totals.length; t++) {
+            assertEquals(totals[t], numericValue(row.getCell(t + 2)), 0);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.addressbook.export;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.addressbook.common.ProgressListener;
+
+public class TextTableWriterTest {
+
+    /** A table of numbers, with each number and its name. */
+    private static final ExportTable<Integer> NUMBERS = new ExportTable<>("Numbers", Arrays.asList(
+            new ExportColumn<>("Number", 6, number -> number),
+            new ExportColumn<>("Name", 6, number -> "n" + number)), ExportTable.NO_GROUPS);
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void write_csv_fileReplaced() throws Exception {
+        Path target = testFolder.newFile("numbers.csv").toPath();
+        Files.write(target, "old".getBytes(StandardCharsets.UTF_8));
+
+        int rows = TextTableWriter.write(target, NUMBERS, Arrays.asList(1, 2), 2, ProgressListener.NONE);
+
+        assertEquals(2, rows);
+        assertEquals(Arrays.asList("Number,Name", "1,n1", "2,n2"), Files.readAllLines(target));
+        assertEquals(Collections.singletonList(target.getFileName()), filesInFolder());
+    }
+
+    @Test
+    public void write_cancelled_fileUnchangedAndNothingLeftBehind() throws Exception {
+        Path target = testFolder.newFile("numbers.csv").toPath();
+        byte[] old = "old".getBytes(StandardCharsets.UTF_8);
+        Files.write(target, old);
+        ProgressListener cancelAfterFirstRow = (done, total) -> {
+            if (done == 1) {
+                throw new CancellationException();
+            }
+        };
+
+        try {
+            TextTableWriter.write(target, NUMBERS, Arrays.asList(1, 2), 2, cancelAfterFirstRow);
+        } catch (CancellationException ce) {
+            // expected
+        }
+
+        assertArrayEquals(old, Files.readAllBytes(target));
+        assertEquals(Collections.singletonList(target.getFileName()), filesInFolder());
+    }
+
+    /**
+     * Returns the names of the files in the test folder.
+     */
+    private List<Path> filesInFolder() throws Exception {
+        try (Stream<Path> files = Files.list(testFolder.getRoot().toPath())) {
+            return files.map(Path::getFileName).collect(Collectors.toList());
+        }
+    }
+}
@@ -1,8 +1,14 @@
 package seedu.addressbook.logic;
 
 import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertSame;
+import static junit.framework.TestCase.assertTrue;
 import static seedu.addressbook.common.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import java.io.File;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -10,7 +16,18 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.StringJoiner;
-
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -20,6 +37,7 @@ import seedu.addressbook.commands.Command;
 import seedu.addressbook.commands.CommandResult;
 import seedu.addressbook.commands.ExitCommand;
 import seedu.addressbook.commands.HelpCommand;
+import seedu.addressbook.commands.ImportCommand;
 import seedu.addressbook.commands.finance.ViewFinanceCommand;
 import seedu.addressbook.commands.match.DeleteMatchCommand;
 import seedu.addressbook.commands.match.FindMatchCommand;
@@ -38,6 +56,7 @@ import seedu.addressbook.commands.team.EditTeam;
 import seedu.addressbook.commands.team.FindTeam;
 import seedu.addressbook.commands.team.ViewTeam;
 import seedu.addressbook.common.Messages;
+import seedu.addressbook.common.ProgressListener;
 import seedu.addressbook.data.AddressBook;
 import seedu.addressbook.data.finance.Finance;
 import seedu.addressbook.data.finance.ReadOnlyFinance;
@@ -64,6 +83,7 @@ import seedu.addressbook.data.team.ReadOnlyTeam;
 import seedu.addressbook.data.team.Sponsor;
 import seedu.addressbook.data.team.Team;
 import seedu.addressbook.data.team.TeamName;
+import seedu.addressbook.storage.Storage;
 import seedu.addressbook.storage.StorageFile;
 
 public class LogicTest {
@@ -670,6 +690,267 @@ public class LogicTest {
                 AddressBook.empty(), false, lastShownList);
     }
 
+    @Test
+    public void executeBatch_failuresReported_restRunAndSavedOnce() throws Exception {
+        final int[] saves = {0};
+        Storage countingStorage = new Storage() {
+            @Override
+            public void save(AddressBook addressBook) throws StorageFile.StorageOperationException {
+                saves[0]++;
+                saveFile.save(addressBook);
+            }
+
+            @Override
+            public AddressBook load() throws StorageFile.StorageOperationException, java.text.ParseException {
+                return saveFile.load();
+            }
+
+            @Override
+            public String getPath() {
+                return saveFile.getPath();
+            }
+        };
+        logic = new Logic(countingStorage, addressBook);
+
+        BatchResult batch = logic.executeBatch(Arrays.asList(
+                "# nightly sync",
+                "addteam Arsenal c/England s/100",
+                "",
+                "addteam Arsenal",
+                "unknownCommand",
+                "addteam Chelsea c/England s/200"));
+
+        assertEquals(4, batch.getEntries().size());
+        assertEquals(2, batch.getFailureCount());
+        assertEquals(4, batch.getEntries().get(1).lineNumber);
+        assertEquals(true, batch.getEntries().get(1).isFailed);
+        assertEquals(2, addressBook.getAllTeams().immutableListView().size());
+        assertEquals(1, saves[0]);
+        assertEquals(addressBook, saveFile.load());
+    }
+
+    @Test
+    public void executeOnFullLists_nothingShown_indexesReferToFullLists() throws Exception {
+        logic.execute("addteam Arsenal c/England s/100");
+        logic.execute("addteam Chelsea c/England s/200");
+
+        logic.executeOnFullLists("deleteteam 2");
+
+        List<ReadOnlyTeam> teams = addressBook.getAllTeams().immutableListView();
+        assertEquals(1, teams.size());
+        assertEquals(new TeamName("Arsenal"), teams.get(0).getTeamName());
+    }
+
+    @Test
+    public void execute_productionProfile_saveTimeLogged() throws Exception {
+        final String path = new File(saveFolder.getRoot(), "production.txt").getPath();
+        final List<String> logged = Collections.synchronizedList(new ArrayList<>());
+        final Handler recordMessages = new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                logged.add(record.getMessage());
+            }
+
+            @Override
+            public void flush() {}
+
+            @Override
+            public void close() {}
+        };
+        final Logger logicLogger = Logger.getLogger(Logic.class.getName());
+        logicLogger.addHandler(recordMessages);
+        try {
+            Logic production = new Logic(Arrays.asList(path, Logic.ARG_PRODUCTION));
+            production.execute("addteam Arsenal c/England s/100");
+            production.execute("listteam");
+        } finally {
+            logicLogger.removeHandler(recordMessages);
+        }
+
+        assertEquals(1, logged.size());
+        assertTrue(logged.get(0).startsWith("Saved " + path + " in "));
+    }
+
+    @Test
+    public void start_foregroundCommand_finishedAtOnce() throws Exception {
+        BackgroundTask task = logic.start("addteam Arsenal c/England s/100", ProgressListener.NONE);
+
+        assertTrue(task.isDone());
+        assertEquals(1, addressBook.getAllTeams().immutableListView().size());
+    }
+
+    @Test
+    public void start_backgroundCommand_resultCompletedLater() throws Exception {
+        logic.execute("addteam Arsenal c/England s/100");
+        final List<Long> progress = Collections.synchronizedList(new ArrayList<>());
+
+        BackgroundTask task = logic.start("generateReport", (done, total) -> progress.add(done));
+        CommandResult r = task.getResult().toCompletableFuture().get(1, TimeUnit.MINUTES);
+
+        assertTrue(r.feedbackToUser.contains("1 teams"));
+        assertEquals(Arrays.asList(1L, 2L, 3L, 4L), progress);
+    }
+
+    @Test
+    public void start_backgroundCommandCancelled_stopsWithCancelledResult() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        BackgroundTask task = logic.start("generateReport", (done, total) -> {
+            started.countDown();
+            try {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertTrue(started.await(1, TimeUnit.MINUTES));
+
+        assertTrue(task.cancel());
+
+        CommandResult r = task.getResult().toCompletableFuture().get(1, TimeUnit.MINUTES);
+        assertEquals(String.format(BackgroundTask.MESSAGE_CANCELLED, "generateReport"), r.feedbackToUser);
+    }
+
+    @Test
+    public void start_backgroundCommandCancelled_resultWaitsUntilCommandStops() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        BackgroundTask task = logic.start("generateReport", (done, total) -> {
+            started.countDown();
+            try {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+            } catch (InterruptedException ie) {
+                // keeps working after the interrupt, as a command cleaning up after itself would
+                awaitUninterruptibly(release);
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertTrue(started.await(1, TimeUnit.MINUTES));
+
+        assertTrue(task.cancel());
+        assertFalse(task.cancel());
+        Thread.sleep(100);
+        assertFalse(task.isDone());
+
+        release.countDown();
+        CommandResult r = task.getResult().toCompletableFuture().get(1, TimeUnit.MINUTES);
+        assertEquals(String.format(BackgroundTask.MESSAGE_CANCELLED, "generateReport"), r.feedbackToUser);
+    }
+
+    @Test
+    public void getSnapshot_laterChanges_notVisible() throws Exception {
+        logic.execute("addteam Arsenal c/England s/100");
+        AddressBook snapshot = logic.getSnapshot();
+        assertSame(snapshot, logic.getSnapshot());
+
+        logic.execute("addteam Chelsea c/England s/200");
+        logic.execute("addmatch 17 Mar 2019 h/Arsenal a/Chelsea");
+
+        assertEquals(1, snapshot.getAllTeams().immutableListView().size());
+        assertEquals(0, snapshot.getAllMatches().immutableListView().size());
+        assertEquals(0, snapshot.findTeam(new TeamName("Arsenal")).getMatches().size());
+        assertEquals(1, snapshot.getAllFinances().immutableListView().size());
+    }
+
+    @Test
+    public void getSnapshot_whileCommandsRun_seesOnlyFinishedCommands() throws Exception {
+        final int teamCount = 50;
+        final ExecutorService reader = Executors.newSingleThreadExecutor();
+        try {
+            Future<List<Integer>> seen = reader.submit(() -> {
+                List<Integer> sizes = new ArrayList<>();
+                int size = 0;
+                while (size < teamCount) {
+                    AddressBook snapshot = logic.getSnapshot();
+                    size = snapshot.getAllTeams().immutableListView().size();
+                    assertEquals(size, snapshot.getAllFinances().immutableListView().size());
+                    sizes.add(size);
+                }
+                return sizes;
+            });
+            for (int i = 0; i < teamCount; i++) {
+                logic.execute("addteam Team" + (char) ('A' + i / 26) + (char) ('a' + i % 26) + " c/England s/100");
+            }
+
+            List<Integer> sizes = seen.get(1, TimeUnit.MINUTES);
+            for (int i = 1; i < sizes.size(); i++) {
+                assertTrue(sizes.get(i - 1) <= sizes.get(i));
+            }
+        } finally {
+            reader.shutdownNow();
+        }
+    }
+
+    @Test
+    public void execute_import_successful() throws Exception {
+        File file = saveFolder.newFile("season.csv");
+        Files.write(file.toPath(), Arrays.asList(
+                "team, Arsenal, England, 100",
+                "",
+                "team, \"Chelsea\", England, 200, Blues",
+                "player, Mesut Ozil, Midfielder, 30, 350, 5, 10, Arsenal, Germany, 10, 20, Healthy",
+                "match, 17 Mar 2019, Arsenal, Chelsea"));
+
+        CommandResult r = logic.execute("import " + file.getPath());
+
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 2, 1, 1, file.getPath()), r.feedbackToUser);
+        Team arsenal = addressBook.findTeam(new TeamName("Arsenal"));
+        assertEquals(1, arsenal.getPlayers().size());
+        assertEquals(1, arsenal.getMatches().size());
+        assertEquals(1, addressBook.getAllMatches().immutableListView().size());
+        assertEquals(addressBook, saveFile.load());
+    }
+
+    @Test
+    public void execute_importXlsx_successful() throws Exception {
+        File file = saveFolder.newFile("season.xlsx");
+        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
+            Sheet sheet = workbook.createSheet();
+            addRow(sheet, 0, "team", "Arsenal", "England", "100");
+            addRow(sheet, 2, "team", "Chelsea", "England", "200", "Blues");
+            Row playerRow = addRow(sheet, 3, "player", "Mesut Ozil", "Midfielder", "30", "350", "5", "10", "Arsenal",
+                    "Germany");
+            // numbers entered as numbers, as they usually are in a spreadsheet
+            playerRow.createCell(9).setCellValue(10);
+            playerRow.createCell(10).setCellValue(20);
+            playerRow.createCell(11).setCellValue("Healthy");
+            try (OutputStream out = Files.newOutputStream(file.toPath())) {
+                workbook.write(out);
+            }
+        }
+
+        CommandResult r = logic.execute("import " + file.getPath());
+
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 2, 1, 0, file.getPath()), r.feedbackToUser);
+        assertEquals(1, addressBook.findTeam(new TeamName("Arsenal")).getPlayers().size());
+        assertEquals(addressBook, saveFile.load());
+    }
+
+    /**
+     * Adds a row of text cells to {@code sheet} and returns it.
+     */
+    private static Row addRow(Sheet sheet, int rowNumber, String... cells) {
+        Row row = sheet.createRow(rowNumber);
+        for (int i = 0; i < cells.length; i++) {
+            row.createCell(i).setCellValue(cells[i]);
+        }
+        return row;
+    }
+
+    @Test
+    public void execute_importInvalidRows_nothingImported() throws Exception {
+        File file = saveFolder.newFile("season.csv");
+        Files.write(file.toPath(), Arrays.asList(
+                "team, Arsenal, England, 100",
+                "team, Chelsea, England, lots",
+                "coach, Arsene Wenger"));
+
+        CommandResult r = logic.execute("import " + file.getPath());
+
+        assertEquals(String.format(ImportCommand.MESSAGE_INVALID_ROWS, "Row 2: " + Sponsor.MESSAGE_SPONSOR_CONSTRAINTS
+                + "\nRow 3: Unknown kind of record \"coach\", expected team, player or match"), r.feedbackToUser);
+        assertEquals(0, addressBook.getAllTeams().immutableListView().size());
+    }
+
     @Test
     public void execute_editTeam_successful() throws Exception {
         TestDataHelper helper = new TestDataHelper();
@@ -1011,8 +1292,9 @@ public class LogicTest {
         Finance f2 = helper.generateFinance(t2);
         List<Finance> lastFinanceList = helper.generateFinanceList(f1, f2);
         AddressBook expectedAb = helper.generateFinanceAddressBook(lastFinanceList);
-        expectedAb.sortFinance();
-        List<? extends ReadOnlyFinance> expectedList = expectedAb.getAllFinances().immutableListView();
+        AddressBook rankedAb = helper.generateFinanceAddressBook(lastFinanceList);
+        rankedAb.sortFinance();
+        List<? extends ReadOnlyFinance> expectedList = rankedAb.getAllFinances().immutableListView();
 
         addressBook.addTeam(t1);
         addressBook.addTeam(t2);
@@ -1220,6 +1502,20 @@ public class LogicTest {
     }
 
 
+    /**
+     * Waits for {@code latch} to be counted down, ignoring interrupts.
+     */
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        while (true) {
+            try {
+                latch.await();
+                return;
+            } catch (InterruptedException ie) {
+                // keep waiting
+            }
+        }
+    }
+
     /**
      * A utility class to generate test data.
      */
@@ -1,9 +1,11 @@
 package seedu.addressbook.parser;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.addressbook.common.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import java.nio.file.Paths;
 import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -16,7 +18,10 @@ import org.junit.Test;
 import seedu.addressbook.commands.Command;
 import seedu.addressbook.commands.DataAnalysisCommand;
 import seedu.addressbook.commands.ExitCommand;
+import seedu.addressbook.commands.ExportAllCommand;
+import seedu.addressbook.commands.ExportDataCommand;
 import seedu.addressbook.commands.HelpCommand;
+import seedu.addressbook.commands.ImportCommand;
 import seedu.addressbook.commands.IncorrectCommand;
 import seedu.addressbook.commands.finance.ExportFinanceCommand;
 import seedu.addressbook.commands.finance.GetFinanceCommand;
@@ -520,7 +525,21 @@ public class ParserTest {
     @Test
     public void exportPlayerCommand_parsedCorrectly() {
         final String input = "exportPlayer";
-        parseAndAssertCommandType(input, ExportPlayerCommand.class);
+        final ExportPlayerCommand result = parseAndAssertCommandType(input, ExportPlayerCommand.class);
+        assertFalse(result.isWithTotals());
+    }
+
+    @Test
+    public void exportPlayerCommand_withTotals_parsedCorrectly() {
+        final String input = "exportPlayer totals";
+        final ExportPlayerCommand result = parseAndAssertCommandType(input, ExportPlayerCommand.class);
+        assertTrue(result.isWithTotals());
+    }
+
+    @Test
+    public void exportPlayerCommand_unknownOption_errorMessage() {
+        final String resultMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportPlayerCommand.MESSAGE_USAGE);
+        parseAndAssertIncorrectWithMessage(resultMessage, "exportPlayer everything");
     }
 
     @Test
@@ -541,6 +560,51 @@ public class ParserTest {
         parseAndAssertCommandType(input, ExportFinanceCommand.class);
     }
 
+    @Test
+    public void exportAllCommand_parsedCorrectly() {
+        final String input = "exportAll";
+        final ExportAllCommand result = parseAndAssertCommandType(input, ExportAllCommand.class);
+        assertFalse(result.isWithTotals());
+    }
+
+    @Test
+    public void exportAllCommand_withTotals_parsedCorrectly() {
+        final String input = "exportAll totals";
+        final ExportAllCommand result = parseAndAssertCommandType(input, ExportAllCommand.class);
+        assertTrue(result.isWithTotals());
+    }
+
+    @Test
+    public void exportDataCommand_validArgs_parsedCorrectly() {
+        final String input = "exportData matches exports/matches.jsonl.gz";
+        final ExportDataCommand result = parseAndAssertCommandType(input, ExportDataCommand.class);
+        assertEquals(ExportDataCommand.KIND_MATCHES, result.getKind());
+        assertEquals(Paths.get("exports/matches.jsonl.gz"), result.getPath());
+    }
+
+    @Test
+    public void exportDataCommand_missingPath_errorMessage() {
+        final String resultMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportDataCommand.MESSAGE_USAGE);
+        parseAndAssertIncorrectWithMessage(resultMessage, "exportData players");
+    }
+
+    /**
+     * Test for import command
+     */
+
+    @Test
+    public void importCommand_noArgs() {
+        final String resultMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE);
+        parseAndAssertIncorrectWithMessage(resultMessage, "import", "import   ");
+    }
+
+    @Test
+    public void importCommand_validArgs_parsedCorrectly() {
+        final String input = "import data/season.csv";
+        final ImportCommand result = parseAndAssertCommandType(input, ImportCommand.class);
+        assertEquals(Paths.get("data/season.csv"), result.getPath());
+    }
+
     /**
      * Test for data analysis
      */
@@ -0,0 +1,183 @@
+package seedu.addressbook.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.util.Collections;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.player.Age;
+import seedu.addressbook.data.player.Appearance;
+import seedu.addressbook.data.player.GoalsAssisted;
+import seedu.addressbook.data.player.GoalsScored;
+import seedu.addressbook.data.player.HealthStatus;
+import seedu.addressbook.data.player.JerseyNumber;
+import seedu.addressbook.data.player.Name;
+import seedu.addressbook.data.player.Nationality;
+import seedu.addressbook.data.player.Player;
+import seedu.addressbook.data.player.PositionPlayed;
+import seedu.addressbook.data.player.Salary;
+import seedu.addressbook.data.team.TeamName;
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+
+public class AsyncStorageTest {
+
+    /** Long enough that nothing is written during a test unless it is flushed. */
+    private static final long LONG_WINDOW_MILLIS = 60_000;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void save_beforeFlush_nothingWritten() throws Exception {
+        AsyncStorage storage = new AsyncStorage(new StorageFile(getPath().toString()), LONG_WINDOW_MILLIS);
+        storage.save(new AddressBook());
+
+        assertFalse(Files.exists(getPath()));
+    }
+
+    @Test
+    public void flush_afterSaves_lastSnapshotWritten() throws Exception {
+        AsyncStorage storage = new AsyncStorage(new StorageFile(getPath().toString()), LONG_WINDOW_MILLIS);
+        AddressBook ab = new AddressBook();
+        ab.addPlayer(generatePlayer("Lionel Messi", "10"));
+        storage.save(ab);
+        ab.addPlayer(generatePlayer("Luis Suarez", "9"));
+        storage.save(ab);
+        // changes after the last save are not part of any snapshot
+        ab.removePlayer(generatePlayer("Lionel Messi", "10"));
+        storage.flush();
+
+        AddressBook loaded = new StorageFile(getPath().toString()).load();
+        assertEquals(2, loaded.getAllPlayers().immutableListView().size());
+        assertFalse(Files.exists(Paths.get(getPath() + ".tmp")));
+    }
+
+    @Test
+    public void flush_burstOfSaves_writtenOnce() throws Exception {
+        CountingStorage counting = new CountingStorage(false);
+        AsyncStorage storage = new AsyncStorage(counting, LONG_WINDOW_MILLIS);
+        for (int i = 0; i < 5; i++) {
+            storage.save(new AddressBook());
+        }
+        storage.flush();
+
+        assertEquals(1, counting.snapshotsTaken);
+        assertEquals(1, counting.snapshotsWritten);
+    }
+
+    @Test
+    public void save_addressBook_convertedOnWriterThread() throws Exception {
+        CountingStorage counting = new CountingStorage(false);
+        AsyncStorage storage = new AsyncStorage(counting, LONG_WINDOW_MILLIS);
+        storage.save(new AddressBook());
+
+        assertEquals(0, counting.snapshotsTaken);
+        storage.flush();
+        assertEquals(1, counting.snapshotsTaken);
+        assertNotSame(Thread.currentThread(), counting.snapshotThread);
+    }
+
+    @Test
+    public void flush_shortWindow_writtenWithoutFlush() throws Exception {
+        AsyncStorage storage = new AsyncStorage(new StorageFile(getPath().toString()), 0);
+        storage.save(new AddressBook());
+        for (int i = 0; i < 100 && !Files.exists(getPath()); i++) {
+            Thread.sleep(50);
+        }
+
+        assertTrue(Files.exists(getPath()));
+    }
+
+    @Test
+    public void flush_writeFailed_exceptionThrown() throws Exception {
+        AsyncStorage storage = new AsyncStorage(new CountingStorage(true), LONG_WINDOW_MILLIS);
+        storage.save(new AddressBook());
+
+        thrown.expect(StorageOperationException.class);
+        storage.flush();
+    }
+
+    private Path getPath() {
+        return Paths.get(testFolder.getRoot().getPath(), "temp.txt");
+    }
+
+    /**
+     * Generates a valid player in FC Barcelona with the given name and jersey number.
+     */
+    private Player generatePlayer(String name, String jerseyNumber) throws Exception {
+        return new Player(new Name(name),
+                          new PositionPlayed("Striker"),
+                          new Age("30"),
+                          new Salary("200"),
+                          new GoalsScored("30"),
+                          new GoalsAssisted("20"),
+                          new TeamName("FC Barcelona"),
+                          new Nationality("Argentina"),
+                          new JerseyNumber(jerseyNumber),
+                          new Appearance("54"),
+                          new HealthStatus("Healthy"),
+                          Collections.emptySet());
+    }
+
+    /**
+     * Storage that counts the snapshots taken and written instead of writing files.
+     */
+    private class CountingStorage implements SnapshotStorage {
+        private final boolean isWriteFailing;
+        private int snapshotsTaken;
+        private int snapshotsWritten;
+        private volatile Thread snapshotThread;
+
+        CountingStorage(boolean isWriteFailing) {
+            this.isWriteFailing = isWriteFailing;
+        }
+
+        @Override
+        public Snapshot takeSnapshot(AddressBook addressBook) {
+            snapshotsTaken++;
+            snapshotThread = Thread.currentThread();
+            return target -> {
+                if (isWriteFailing) {
+                    throw new StorageOperationException("Error writing to file: " + target);
+                }
+                snapshotsWritten++;
+                try {
+                    Files.write(target, new byte[0]);
+                } catch (IOException ioe) {
+                    throw new StorageOperationException(ioe.getMessage());
+                }
+            };
+        }
+
+        @Override
+        public void save(AddressBook addressBook) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public AddressBook load() throws ParseException {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String getPath() {
+            return AsyncStorageTest.this.getPath().toString();
+        }
+    }
+}
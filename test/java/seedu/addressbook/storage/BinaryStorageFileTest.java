@@ -0,0 +1,190 @@
+package seedu.addressbook.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static seedu.addressbook.util.TestUtil.assertTextFilesEqual;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.zip.CRC32;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.exception.IllegalValueException;
+import seedu.addressbook.data.player.Age;
+import seedu.addressbook.data.player.Appearance;
+import seedu.addressbook.data.player.GoalsAssisted;
+import seedu.addressbook.data.player.GoalsScored;
+import seedu.addressbook.data.player.HealthStatus;
+import seedu.addressbook.data.player.JerseyNumber;
+import seedu.addressbook.data.player.Name;
+import seedu.addressbook.data.player.Nationality;
+import seedu.addressbook.data.player.Player;
+import seedu.addressbook.data.player.PositionPlayed;
+import seedu.addressbook.data.player.Salary;
+import seedu.addressbook.data.team.Team;
+import seedu.addressbook.data.team.TeamName;
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+
+public class BinaryStorageFileTest {
+    private static final String TEST_DATA_FOLDER = "test/data/StorageFileTest";
+    /** "LTRK" in ASCII, which every binary storage file starts with. */
+    private static final int MAGIC = 0x4C54524B;
+    private static final int FORMAT_VERSION = 2;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void constructor_noBinExtension_exceptionThrown() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        new BinaryStorageFile(TEST_DATA_FOLDER + "/" + "ValidData.txt");
+    }
+
+    @Test
+    public void load_notBinaryFile_exceptionThrown() throws Exception {
+        BinaryStorageFile storage = getTempStorage();
+        Files.copy(Paths.get(TEST_DATA_FOLDER, "ValidData.txt"), storage.path);
+        thrown.expect(StorageOperationException.class);
+        storage.load();
+    }
+
+    @Test
+    public void save_thenLoad_teamsShareLoadedPlayersAndMatches() throws Exception {
+        AddressBook original = new StorageFile(TEST_DATA_FOLDER + "/" + "LegacyData.txt").load();
+        BinaryStorageFile storage = getTempStorage();
+        storage.save(original);
+
+        AddressBook loaded = storage.load();
+        assertEquals(original.getAllPlayers(), loaded.getAllPlayers());
+        assertEquals(original.getAllMatches(), loaded.getAllMatches());
+        assertEquals(original.getAllTeams(), loaded.getAllTeams());
+        Team barcelona = loaded.findTeam(new TeamName("FC Barcelona"));
+        assertSame(loaded.findPlayer(new Name("Lionel Messi")), barcelona.getPlayers().get(0));
+        assertSame(loaded.getAllMatches().immutableListView().get(0), barcelona.getMatches().get(0));
+    }
+
+    @Test
+    public void save_numberWithLeadingZeros_loadedUnchanged() throws Exception {
+        AddressBook original = new AddressBook();
+        original.addPlayer(new Player(new Name("Lionel Messi"),
+                                      new PositionPlayed("RW"),
+                                      new Age("030"),
+                                      new Salary("99999999999"),
+                                      new GoalsScored("30"),
+                                      new GoalsAssisted("20"),
+                                      new TeamName("FC Barcelona"),
+                                      new Nationality("Argentina"),
+                                      new JerseyNumber("10"),
+                                      new Appearance("54"),
+                                      new HealthStatus("Healthy"),
+                                      Collections.emptySet()));
+        BinaryStorageFile storage = getTempStorage();
+        storage.save(original);
+
+        assertEquals(original.getAllPlayers(), storage.load().getAllPlayers());
+    }
+
+    @Test
+    public void save_afterLoad_fileReplaced() throws Exception {
+        BinaryStorageFile storage = getTempStorage();
+        storage.save(new StorageFile(TEST_DATA_FOLDER + "/" + "ValidData.txt").load());
+        AddressBook loaded = storage.load();
+        loaded.removePlayer(loaded.getAllPlayers().immutableListView().get(0));
+        storage.save(loaded);
+
+        assertEquals(loaded.getAllPlayers(), storage.load().getAllPlayers());
+    }
+
+    @Test
+    public void load_damagedFile_previousSaveLoaded() throws Exception {
+        BinaryStorageFile storage = getTempStorage();
+        AddressBook previous = new StorageFile(TEST_DATA_FOLDER + "/" + "ValidData.txt").load();
+        storage.save(previous);
+        storage.save(new AddressBook());
+        damage(storage.path);
+
+        assertEquals(previous.getAllPlayers(), storage.load().getAllPlayers());
+    }
+
+    @Test
+    public void load_damagedFileWithoutBackup_exceptionThrown() throws Exception {
+        BinaryStorageFile storage = getTempStorage();
+        storage.save(new StorageFile(TEST_DATA_FOLDER + "/" + "ValidData.txt").load());
+        damage(storage.path);
+
+        thrown.expect(StorageOperationException.class);
+        thrown.expectMessage("checksum");
+        storage.load();
+    }
+
+    @Test
+    public void load_crashWhileReplacingFile_previousSaveLoaded() throws Exception {
+        BinaryStorageFile storage = getTempStorage();
+        AddressBook previous = new StorageFile(TEST_DATA_FOLDER + "/" + "ValidData.txt").load();
+        storage.save(previous);
+        storage.save(new AddressBook());
+        Files.delete(storage.path);
+
+        assertEquals(previous.getAllPlayers(), storage.load().getAllPlayers());
+    }
+
+    @Test
+    public void decode_negativeCount_exceptionThrown() throws Exception {
+        // a string table of -1 strings, behind a checksum that matches
+        ByteBuffer contents = withChecksum(MAGIC, FORMAT_VERSION, -1);
+
+        thrown.expect(StorageOperationException.class);
+        BinaryStorageFile.decode(contents);
+    }
+
+    @Test
+    public void convert_xmlToBinaryAndBack_sameXml() throws Exception {
+        StorageFile xml = new StorageFile(TEST_DATA_FOLDER + "/" + "ValidData.txt");
+        BinaryStorageFile binary = getTempStorage();
+        StorageFile roundTripped = new StorageFile(testFolder.getRoot().getPath() + "/" + "temp.txt");
+
+        StorageConverter.convert(xml, binary);
+        StorageConverter.convert(binary, roundTripped);
+
+        assertTextFilesEqual(Paths.get(xml.getPath()), Paths.get(roundTripped.getPath()));
+    }
+
+    /**
+     * Changes a byte in the middle of the file, as a disk error or an interrupted write might.
+     */
+    private void damage(Path file) throws Exception {
+        byte[] contents = Files.readAllBytes(file);
+        contents[contents.length / 2] ^= 1;
+        Files.write(file, contents);
+    }
+
+    /**
+     * Returns the given ints followed by their CRC-32 checksum, as a binary storage file ends.
+     */
+    private ByteBuffer withChecksum(int... ints) {
+        ByteBuffer contents = ByteBuffer.allocate(4 * ints.length + 4);
+        for (int value : ints) {
+            contents.putInt(value);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(contents.array(), 0, contents.position());
+        contents.putInt((int) crc.getValue());
+        contents.flip();
+        return contents;
+    }
+
+    private BinaryStorageFile getTempStorage() throws Exception {
+        return new BinaryStorageFile(testFolder.getRoot().getPath() + "/" + "temp" + BinaryStorageFile.FILE_EXTENSION);
+    }
+}
@@ -0,0 +1,160 @@
+package seedu.addressbook.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.addressbook.data.AddressBook;
+import seedu.addressbook.data.player.Age;
+import seedu.addressbook.data.player.Appearance;
+import seedu.addressbook.data.player.GoalsAssisted;
+import seedu.addressbook.data.player.GoalsScored;
+import seedu.addressbook.data.player.HealthStatus;
+import seedu.addressbook.data.player.JerseyNumber;
+import seedu.addressbook.data.player.Name;
+import seedu.addressbook.data.player.Nationality;
+import seedu.addressbook.data.player.Player;
+import seedu.addressbook.data.player.PositionPlayed;
+import seedu.addressbook.data.player.Salary;
+import seedu.addressbook.data.team.TeamName;
+import seedu.addressbook.storage.StorageFile.StorageOperationException;
+
+public class JournalStorageFileTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void save_changesAfterLoad_appendedToJournalAndReplayed() throws Exception {
+        JournalStorageFile storage = getTempStorage(100);
+        AddressBook ab = storage.load();
+        String snapshotBefore = readSnapshot();
+
+        ab.addPlayer(generatePlayer("Lionel Messi", "10"));
+        ab.addPlayer(generatePlayer("Luis Suarez", "9"));
+        ab.removePlayer(generatePlayer("Lionel Messi", "10"));
+        storage.save(ab);
+
+        assertEquals(snapshotBefore, readSnapshot());
+        assertTrue(Files.exists(getJournalPath()));
+        assertEquals(ab.getAllPlayers(), getTempStorage(100).load().getAllPlayers());
+    }
+
+    @Test
+    public void save_noChanges_nothingWritten() throws Exception {
+        JournalStorageFile storage = getTempStorage(100);
+        AddressBook ab = storage.load();
+        storage.save(ab);
+
+        assertFalse(Files.exists(getJournalPath()));
+    }
+
+    @Test
+    public void load_incompleteLastRecord_earlierRecordsKept() throws Exception {
+        JournalStorageFile storage = getTempStorage(100);
+        AddressBook ab = storage.load();
+        ab.addPlayer(generatePlayer("Lionel Messi", "10"));
+        storage.save(ab);
+        Files.write(getJournalPath(), "<record seq=\"2\" type=\"ADD_PL".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        AddressBook loaded = getTempStorage(100).load();
+
+        assertEquals(ab.getAllPlayers(), loaded.getAllPlayers());
+        assertFalse(Files.exists(getJournalPath()));
+    }
+
+    @Test
+    public void load_incompleteLastRecordFollowedByBlankLines_earlierRecordsKept() throws Exception {
+        JournalStorageFile storage = getTempStorage(100);
+        AddressBook ab = storage.load();
+        ab.addPlayer(generatePlayer("Lionel Messi", "10"));
+        storage.save(ab);
+        Files.write(getJournalPath(), "<record seq=\"2\" type=\"ADD_PL\n\n  \n".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertEquals(ab.getAllPlayers(), getTempStorage(100).load().getAllPlayers());
+    }
+
+    @Test
+    public void load_damagedRecordBeforeLastRecord_exceptionThrown() throws Exception {
+        JournalStorageFile storage = getTempStorage(100);
+        AddressBook ab = storage.load();
+        ab.addPlayer(generatePlayer("Lionel Messi", "10"));
+        storage.save(ab);
+        ab.addPlayer(generatePlayer("Luis Suarez", "9"));
+        storage.save(ab);
+        final String journal = new String(Files.readAllBytes(getJournalPath()), StandardCharsets.UTF_8);
+        final String damagedFirstRecord = "<record seq=\"1\" type=\"ADD_PL\n";
+        Files.write(getJournalPath(), (damagedFirstRecord + journal.substring(journal.indexOf('\n') + 1))
+                .getBytes(StandardCharsets.UTF_8));
+
+        thrown.expect(StorageOperationException.class);
+        getTempStorage(100).load();
+    }
+
+    @Test
+    public void save_thresholdReached_journalFoldedIntoSnapshot() throws Exception {
+        JournalStorageFile storage = getTempStorage(2);
+        AddressBook ab = storage.load();
+        ab.addPlayer(generatePlayer("Lionel Messi", "10"));
+        ab.addPlayer(generatePlayer("Luis Suarez", "9"));
+        storage.save(ab);
+
+        // loading waits for the compaction to finish
+        AddressBook loaded = storage.load();
+
+        assertFalse(Files.exists(getJournalPath()));
+        assertEquals(ab.getAllPlayers(), loaded.getAllPlayers());
+        assertEquals(ab.getAllPlayers(), new StorageFile(getSnapshotPath().toString()).load().getAllPlayers());
+    }
+
+    private JournalStorageFile getTempStorage(int compactionThreshold) throws Exception {
+        return new JournalStorageFile(getSnapshotPath().toString(), compactionThreshold);
+    }
+
+    private Path getSnapshotPath() {
+        return Paths.get(testFolder.getRoot().getPath(), "temp.txt");
+    }
+
+    private Path getJournalPath() {
+        return Paths.get(getSnapshotPath() + JournalStorageFile.JOURNAL_SUFFIX);
+    }
+
+    private String readSnapshot() throws Exception {
+        return new String(Files.readAllBytes(getSnapshotPath()), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Generates a valid player in FC Barcelona with the given name and jersey number.
+     */
+    private Player generatePlayer(String name, String jerseyNumber) throws Exception {
+        return new Player(new Name(name),
+                          new PositionPlayed("Striker"),
+                          new Age("30"),
+                          new Salary("200"),
+                          new GoalsScored("30"),
+                          new GoalsAssisted("20"),
+                          new TeamName("FC Barcelona"),
+                          new Nationality("Argentina"),
+                          new JerseyNumber(jerseyNumber),
+                          new Appearance("54"),
+                          new HealthStatus("Healthy"),
+                          Collections.emptySet());
+    }
+}
@@ -1,8 +1,14 @@
 package seedu.addressbook.storage;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static seedu.addressbook.util.TestUtil.assertTextFilesEqual;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collections;
 
@@ -24,6 +30,7 @@ import seedu.addressbook.data.player.Nationality;
 import seedu.addressbook.data.player.Player;
 import seedu.addressbook.data.player.PositionPlayed;
 import seedu.addressbook.data.player.Salary;
+import seedu.addressbook.data.team.Team;
 import seedu.addressbook.data.team.TeamName;
 import seedu.addressbook.storage.StorageFile.StorageOperationException;
 
@@ -66,6 +73,24 @@ public class StorageFileTest {
         assertEquals(actualAb.getAllPlayers(), expectedAb.getAllPlayers());
     }
 
+    @Test
+    public void load_legacyFormat_teamsShareLoadedPlayersAndMatches() throws Exception {
+        AddressBook ab = getStorage("LegacyData.txt").load();
+        assertTeamsShareLoadedInstances(ab);
+    }
+
+    @Test
+    public void save_teamsWithPlayersAndMatches_savedAsReferences() throws Exception {
+        AddressBook ab = getStorage("LegacyData.txt").load();
+        StorageFile storage = getTempStorage();
+        storage.save(ab);
+
+        String saved = new String(Files.readAllBytes(storage.path), "UTF-8");
+        assertFalse(saved.contains("<playerlist>"));
+        assertFalse(saved.contains("<matchlist>"));
+        assertTeamsShareLoadedInstances(storage.load());
+    }
+
     @Test
     public void save_nullAddressBook_exceptionThrown() throws Exception {
         StorageFile storage = getTempStorage();
@@ -82,8 +107,133 @@ public class StorageFileTest {
         assertStorageFilesEqual(storage, getStorage("ValidData.txt"));
     }
 
+    @Test
+    public void save_productionProfile_compactOutputLoadedUnchanged() throws Exception {
+        AddressBook ab = getTestAddressBook();
+        StorageFile storage = new StorageFile(testFolder.getRoot().getPath() + "/" + "temp.txt",
+                                              StorageFile.Profile.PRODUCTION);
+        storage.save(ab);
+        storage.save(ab);
+
+        assertEquals(1, Files.readAllLines(storage.path).size());
+        assertEquals(ab.getAllPlayers(), storage.load().getAllPlayers());
+    }
+
+    @Test
+    public void load_damagedFile_previousSaveLoaded() throws Exception {
+        StorageFile storage = getTempStorage();
+        AddressBook previous = new AddressBook();
+        storage.save(previous);
+        storage.save(getTestAddressBook());
+        damage(storage.path);
+
+        assertEquals(previous.getAllPlayers(), storage.load().getAllPlayers());
+    }
+
+    @Test
+    public void load_damagedFileWithoutBackup_exceptionThrown() throws Exception {
+        StorageFile storage = getTempStorage();
+        storage.save(getTestAddressBook());
+        damage(storage.path);
+
+        thrown.expect(StorageOperationException.class);
+        storage.load();
+    }
+
+    @Test
+    public void load_crashWhileReplacingFile_previousSaveLoaded() throws Exception {
+        StorageFile storage = getTempStorage();
+        storage.save(getTestAddressBook());
+        storage.save(new AddressBook());
+        Files.delete(storage.path);
+
+        assertEquals(getTestAddressBook().getAllPlayers(), storage.load().getAllPlayers());
+    }
+
+    @Test
+    public void save_overDamagedFile_backupKept() throws Exception {
+        StorageFile storage = getTempStorage();
+        AddressBook previous = new AddressBook();
+        storage.save(previous);
+        storage.save(getTestAddressBook());
+        damage(storage.path);
+        // the damaged contents must not replace the backup
+        storage.save(getTestAddressBook());
+        damage(storage.path);
+
+        assertEquals(previous.getAllPlayers(), storage.load().getAllPlayers());
+    }
+
+    @Test
+    public void save_twice_fileAndBackupPresent() throws Exception {
+        StorageFile storage = getTempStorage();
+        storage.save(new AddressBook());
+        storage.save(getTestAddressBook());
+
+        Path backup = AtomicFileWriter.getBackupPath(storage.path);
+        assertTrue(Files.exists(storage.path));
+        assertTrue(Files.exists(backup));
+        assertFalse(Files.exists(Paths.get(backup + AtomicFileWriter.TEMP_SUFFIX)));
+    }
+
+    @Test
+    public void load_unreadableFile_readErrorReported() throws Exception {
+        StorageFile storage = getTempStorage();
+        Files.createDirectory(storage.path);
+
+        thrown.expect(StorageOperationException.class);
+        thrown.expectMessage("Error reading from file: " + storage.path);
+        storage.load();
+    }
+
+    @Test
+    public void save_afterLoad_fileReplaced() throws Exception {
+        StorageFile storage = getTempStorage();
+        storage.save(getTestAddressBook());
+        AddressBook loaded = storage.load();
+        loaded.removePlayer(loaded.getAllPlayers().immutableListView().get(0));
+        storage.save(loaded);
+
+        assertEquals(loaded.getAllPlayers(), storage.load().getAllPlayers());
+        damage(storage.path);
+        assertEquals(getTestAddressBook().getAllPlayers(), storage.load().getAllPlayers());
+    }
+
+    @Test
+    public void save_earlierPlayerRemoved_idsOfOthersUnchanged() throws Exception {
+        StorageFile storage = getTempStorage();
+        AddressBook ab = getTestAddressBook();
+        storage.save(ab);
+        ab.removePlayer(ab.findPlayer(new Name("Lionel Messi")));
+        storage.save(ab);
+
+        String saved = new String(Files.readAllBytes(storage.path), StandardCharsets.UTF_8);
+        assertTrue(saved.contains("<players id=\"Luis Suarez\">"));
+    }
+
     // getPath() method in StorageFile class is trivial so it is not tested
 
+    /**
+     * Changes a character in the middle of the file, as a disk error or an interrupted write might.
+     */
+    private void damage(Path file) throws Exception {
+        byte[] contents = Files.readAllBytes(file);
+        contents[contents.length / 2] ^= 1;
+        Files.write(file, contents);
+    }
+
+    /**
+     * Asserts that every player and match of every team is the instance held at the top level of {@code ab}.
+     */
+    private void assertTeamsShareLoadedInstances(AddressBook ab) throws Exception {
+        Team barcelona = ab.findTeam(new TeamName("FC Barcelona"));
+        Team madrid = ab.findTeam(new TeamName("Real Madrid"));
+        assertSame(ab.findPlayer(new Name("Lionel Messi")), barcelona.getPlayers().get(0));
+        assertSame(ab.findPlayer(new Name("Sergio Ramos")), madrid.getPlayers().get(0));
+        assertSame(ab.getAllMatches().immutableListView().get(0), barcelona.getMatches().get(0));
+        assertSame(barcelona.getMatches().get(0), madrid.getMatches().get(0));
+    }
+
     /**
      * Asserts that the contents of two storage files are the same.
      */